@@ -7,7 +7,8 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "jugots", indexes = {
     @Index(name = "idx_capture_date", columnList = "capture_date"),
-    @Index(name = "idx_stock_name_date", columnList = "stock_name, capture_date")
+    @Index(name = "idx_stock_name_date", columnList = "stock_name, capture_date"),
+    @Index(name = "idx_stock_code_date", columnList = "stock_code, capture_date")
 })
 public class Jugot {
 
@@ -40,6 +41,10 @@ public class Jugot {
     @Column(name = "lowest_price")
     private Integer lowestPrice;
 
+    // 최고가/최저가에 이미 반영된 마지막 거래일 (이후 날짜만 조회하여 누적)
+    @Column(name = "last_refreshed_date")
+    private LocalDate lastRefreshedDate;
+
 
 
 
@@ -117,5 +122,12 @@ public class Jugot {
     public void setLowestPrice(Integer lowestPrice) {
         this.lowestPrice = lowestPrice;
     }
-}
 
+    public LocalDate getLastRefreshedDate() {
+        return lastRefreshedDate;
+    }
+
+    public void setLastRefreshedDate(LocalDate lastRefreshedDate) {
+        this.lastRefreshedDate = lastRefreshedDate;
+    }
+}
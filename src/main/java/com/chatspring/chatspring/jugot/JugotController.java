@@ -1,14 +1,17 @@
 package com.chatspring.chatspring.jugot;
 
 import com.chatspring.chatspring.kiwoom.StockUpdateStatusService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 // 수정: CORS 설정은 전역 WebConfig 또는 @CrossOrigin으로 조정하세요.
 @RestController
@@ -19,12 +22,15 @@ public class JugotController {
     private final RealTradeService realTradeService;
     private final StockUpdateStatusService stockUpdateStatusService;
     private final JugotRepository jugotRepository;
+    private final JugotDataVersions dataVersions;
 
-    public JugotController(JugotService service, RealTradeService realTradeService, StockUpdateStatusService stockUpdateStatusService, JugotRepository jugotRepository) {
+    public JugotController(JugotService service, RealTradeService realTradeService, StockUpdateStatusService stockUpdateStatusService, JugotRepository jugotRepository,
+                           JugotDataVersions dataVersions) {
         this.service = service;
         this.realTradeService = realTradeService;
         this.stockUpdateStatusService = stockUpdateStatusService;
         this.jugotRepository = jugotRepository;
+        this.dataVersions = dataVersions;
     }
 
     // 수정: 실제 데이터 조회용 엔드포인트 (더미 제거)
@@ -33,9 +39,10 @@ public class JugotController {
     public ResponseEntity<List<JugotDto>> getByWeek(
             @RequestParam int year,
             @RequestParam int month,
-            @RequestParam int week
+            @RequestParam int week,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(service.getByYearMonthWeek(year, month, week));
+        return conditionalGet(request, dataVersions.jugotEtag(), () -> service.getByYearMonthWeek(year, month, week));
     }
 
     // 테스트용 간단한 엔드포인트
@@ -44,11 +51,13 @@ public class JugotController {
         return ResponseEntity.ok("JugotController is working!");
     }
 
-    // 주가 업데이트 상태 확인 API
+    // 주가 업데이트 상태 확인 API (진행 단계, 처리/실패 수, 종목당 지연, API 호출 수, 남은 시간)
     @GetMapping("/update-status")
     public ResponseEntity<Map<String, Object>> getUpdateStatus() {
+        StockUpdateStatusService.UpdateProgress progress = stockUpdateStatusService.getProgress();
         Map<String, Object> response = new java.util.HashMap<>();
-        response.put("isUpdating", stockUpdateStatusService.isUpdating());
+        response.put("isUpdating", progress.isUpdating());
+        response.put("progress", progress);
         return ResponseEntity.ok(response);
     }
 
@@ -57,9 +66,10 @@ public class JugotController {
     @GetMapping("/all")
     public ResponseEntity<Map<String, List<JugotDto>>> getAllWeeks(
             @RequestParam int year,
-            @RequestParam int month
+            @RequestParam int month,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(service.getAllWeeksInMonth(year, month));
+        return conditionalGet(request, dataVersions.jugotEtag(), () -> service.getAllWeeksInMonth(year, month));
     }
 
     // 엑셀 파일 업로드 및 유효성 검증 엔드포인트
@@ -144,6 +154,10 @@ public class JugotController {
             }
             System.out.println("DEBUG: Final realTrade.targetBuyCount = " + realTrade.getTargetBuyCount());
             
+            // 자동 중단 규칙 (선택사항, 비우면 기본값)
+            realTrade.setTakeProfitRate(RealTradeService.parseRate("takeProfitRate", request.get("takeProfitRate")));
+            realTrade.setStopLossRate(RealTradeService.parseRate("stopLossRate", request.get("stopLossRate")));
+            
             // 상태 (기본값 ACTIVE)
             String status = (String) request.get("status");
             if (status != null && !status.isEmpty()) {
@@ -166,11 +180,10 @@ public class JugotController {
 
     // 진행 중인 실매매 목록 조회
     @GetMapping("/realtrade/active")
-    public ResponseEntity<List<RealTradeResponseDto>> getActiveRealTrades() {
+    public ResponseEntity<List<RealTradeResponseDto>> getActiveRealTrades(WebRequest request) {
         try {
-            List<RealTrade> realTrades = realTradeService.getActiveRealTrades();
-            List<RealTradeResponseDto> result = realTradeService.convertToDtoList(realTrades);
-            return ResponseEntity.ok(result);
+            return conditionalGet(request, dataVersions.realTradeEtag(),
+                    () -> realTradeService.convertToDtoList(realTradeService.getActiveRealTrades()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(List.of());
@@ -179,11 +192,10 @@ public class JugotController {
 
     // 모든 상태의 실매매 목록 조회 (ACTIVE, PAUSED, COMPLETED 포함)
     @GetMapping("/realtrade/all")
-    public ResponseEntity<List<RealTradeResponseDto>> getAllRealTrades() {
+    public ResponseEntity<List<RealTradeResponseDto>> getAllRealTrades(WebRequest request) {
         try {
-            List<RealTrade> realTrades = realTradeService.getAllRealTrades();
-            List<RealTradeResponseDto> result = realTradeService.convertToDtoList(realTrades);
-            return ResponseEntity.ok(result);
+            return conditionalGet(request, dataVersions.realTradeEtag(),
+                    () -> realTradeService.convertToDtoList(realTradeService.getAllRealTrades()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(List.of());
@@ -334,6 +346,29 @@ public class JugotController {
         }
     }
 
+    // 실매매 자동 중단 규칙 변경 API (Admin 전용) - 두 값 모두 교체, 비우면 기본값
+    @PutMapping("/realtrade/{id}/rules")
+    public ResponseEntity<Map<String, Object>> updateRealTradeRules(@PathVariable Long id,
+                                                                    @RequestBody Map<String, Object> request) {
+        try {
+            RealTrade updated = realTradeService.updateRules(id,
+                    RealTradeService.parseRate("takeProfitRate", request.get("takeProfitRate")),
+                    RealTradeService.parseRate("stopLossRate", request.get("stopLossRate")));
+            Map<String, Object> response = new java.util.HashMap<>();
+            response.put("success", true);
+            response.put("message", "자동 중단 규칙이 변경되었습니다.");
+            response.put("takeProfitRate", updated.getTakeProfitRate());
+            response.put("stopLossRate", updated.getStopLossRate());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "자동 중단 규칙 변경 중 오류가 발생했습니다."));
+        }
+    }
+
     // 관리자용 실매매 목록 조회 API (ACTIVE + PAUSED)
     @GetMapping("/realtrade/admin")
     public ResponseEntity<List<RealTradeResponseDto>> getRealTradesForAdmin() {
@@ -393,4 +428,13 @@ public class JugotController {
         }
     }
     // [변경 끝]
+
+    // 데이터 버전 ETag가 If-None-Match와 같으면 응답 본문을 만들지 않고(DB 조회 없이) 304
+    // 브라우저가 응답을 저장하되 매번 ETag로 재검증하도록 no-cache 지정
+    private <T> ResponseEntity<T> conditionalGet(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+    }
 }
@@ -0,0 +1,53 @@
+package com.chatspring.chatspring.jugot;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Jugot 행이 저장된 뒤 발행하는 이벤트
+ * 바뀐 행들과 그 포착월을 담아, 해당 월의 조회 캐시를 비우고 검색 색인에 바뀐 행만 반영하는 데 사용합니다.
+ */
+public class JugotDataChangedEvent {
+
+    private final Set<YearMonth> months;
+    private final List<Jugot> rows;
+
+    public JugotDataChangedEvent(Set<YearMonth> months) {
+        this(months, List.of());
+    }
+
+    public JugotDataChangedEvent(Set<YearMonth> months, List<Jugot> rows) {
+        this.months = Set.copyOf(months);
+        this.rows = List.copyOf(rows);
+    }
+
+    /**
+     * 저장한 행들의 포착일에서 포착월을 모아 이벤트 생성 (포착일 없는 행은 무시)
+     */
+    public static JugotDataChangedEvent of(Collection<Jugot> rows) {
+        Set<YearMonth> months = new HashSet<>();
+        for (Jugot row : rows) {
+            LocalDate captureDate = row.getCaptureDate();
+            if (captureDate != null) {
+                months.add(YearMonth.from(captureDate));
+            }
+        }
+        return new JugotDataChangedEvent(months, List.copyOf(rows));
+    }
+
+    public Set<YearMonth> getMonths() {
+        return months;
+    }
+
+    public List<Jugot> getRows() {
+        return rows;
+    }
+
+    public boolean isEmpty() {
+        return months.isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.chatspring.chatspring.jugot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API의 데이터 버전 (ETag 생성용)
+ * Jugot / RealTrade 데이터가 바뀔 때마다 해당 버전을 올리고, 조회 API는 이 버전으로 만든 ETag가
+ * 클라이언트의 If-None-Match와 같으면 DB 조회 없이 304를 응답합니다.
+ * 버전은 커밋이 끝난 뒤에 올리므로, 새 버전의 ETag로 커밋 전 데이터가 나가는 일은 없습니다.
+ * 재시작 후 이전 ETag와 겹치지 않도록 기동 시각을 함께 넣습니다.
+ * 버전은 인스턴스마다 따로 세므로, 다른 인스턴스의 쓰기(클러스터 모드의 일일 업데이트 등)는 보이지 않습니다.
+ * 이때는 jugot.etag.refresh-seconds 주기({@link #refreshPeriod()})마다 ETag와 조회 캐시(월 화면, 종목 검색 색인)가
+ * 함께 갱신되어 최대 그 시간만큼만 이전 응답이 쓰입니다. 클러스터 모드에서 설정하지 않으면 60초를 사용합니다.
+ */
+@Component
+public class JugotDataVersions {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong jugotVersion = new AtomicLong();
+    private final AtomicLong realTradeVersion = new AtomicLong();
+    // 클러스터 모드에서 갱신 주기를 설정하지 않았을 때 사용하는 값
+    private static final long CLUSTER_DEFAULT_REFRESH_SECONDS = 60;
+
+    // ETag/조회 캐시 강제 갱신 주기(ms), 0이면 데이터가 바뀔 때만 갱신
+    private final long refreshMillis;
+
+    public JugotDataVersions(@Value("${jugot.etag.refresh-seconds:0}") long refreshSeconds,
+                             @Value("${kiwoom.cluster.enabled:false}") boolean clusterEnabled) {
+        // 클러스터 모드에서는 다른 노드의 쓰기를 이벤트로 알 수 없으므로 주기 갱신을 끌 수 없음
+        long seconds = refreshSeconds <= 0 && clusterEnabled ? CLUSTER_DEFAULT_REFRESH_SECONDS : Math.max(0, refreshSeconds);
+        this.refreshMillis = seconds * 1000;
+    }
+
+    /**
+     * 현재 갱신 주기 번호 (주기 갱신을 쓰지 않으면 항상 0)
+     * 조회 캐시는 항목을 만든 주기와 현재 주기가 다르면 다시 읽습니다.
+     */
+    public long refreshPeriod() {
+        return refreshMillis > 0 ? System.currentTimeMillis() / refreshMillis : 0;
+    }
+
+    /**
+     * Jugot 주차 조회용 ETag
+     */
+    public String jugotEtag() {
+        return "\"jugot-" + bootId + period() + "-" + jugotVersion.get() + "\"";
+    }
+
+    /**
+     * 실매매 목록 조회용 ETag (응답의 매수가가 Jugot 포착가에서 오므로 Jugot 버전도 포함)
+     */
+    public String realTradeEtag() {
+        return "\"realtrade-" + bootId + period() + "-" + realTradeVersion.get() + "-" + jugotVersion.get() + "\"";
+    }
+
+    private String period() {
+        return refreshMillis > 0 ? "." + Long.toString(refreshPeriod(), 36) : "";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJugotDataChanged(JugotDataChangedEvent event) {
+        jugotVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRealTradeDataChanged(RealTradeDataChangedEvent event) {
+        realTradeVersion.incrementAndGet();
+    }
+}
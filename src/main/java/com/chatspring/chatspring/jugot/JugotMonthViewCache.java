@@ -0,0 +1,84 @@
+package com.chatspring.chatspring.jugot;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * (연, 월)별 주차 묶음 캐시
+ * 월 화면은 페이지를 열 때마다 조회되지만 데이터는 업로드와 일일 업데이트 때만 바뀌므로,
+ * 주차별 DTO 목록을 만들어 두고 {@link JugotDataChangedEvent}가 오면 해당 월만 비웁니다.
+ * 이벤트는 이 인스턴스의 쓰기만 알리므로, 항목은 {@link JugotDataVersions#refreshPeriod()} 주기가 바뀌면 다시 읽습니다
+ * (클러스터 모드에서 다른 노드의 일일 업데이트 반영).
+ * 월 단위라 항목 수가 적어 크기 제한은 두지 않습니다.
+ */
+@Component
+public class JugotMonthViewCache {
+
+    private final JugotDataVersions versions;
+    private final Map<YearMonth, View> views = new ConcurrentHashMap<>();
+    // 월별 무효화 횟수 - 조회 중에 무효화가 끼면 만든 결과를 저장하지 않기 위함
+    private final Map<YearMonth, Long> generations = new ConcurrentHashMap<>();
+
+    public JugotMonthViewCache(JugotDataVersions versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * 캐시된 월 묶음을 반환하고, 없으면 loader로 만들어 저장
+     * 이전 갱신 주기에 만든 묶음은 없는 것으로 봅니다.
+     * loader 실행 중 같은 월이 무효화되면 결과는 반환만 하고 저장하지 않습니다.
+     */
+    public Map<String, List<JugotDto>> get(YearMonth month, Supplier<Map<String, List<JugotDto>>> loader) {
+        long period = versions.refreshPeriod();
+        View cached = views.get(month);
+        if (cached != null && cached.period == period) {
+            return cached.weeks;
+        }
+        long generation = generations.getOrDefault(month, 0L);
+        View loaded = new View(period, loader.get());
+        views.compute(month, (key, current) -> {
+            if (current != null && current.period == period) {
+                return current;
+            }
+            return generations.getOrDefault(key, 0L) == generation ? loaded : current;
+        });
+        return loaded.weeks;
+    }
+
+    /**
+     * 지정한 월들의 캐시 비우기 (세대를 먼저 올린 뒤 제거)
+     */
+    public void invalidate(Iterable<YearMonth> months) {
+        for (YearMonth month : months) {
+            generations.merge(month, 1L, Long::sum);
+            views.remove(month);
+        }
+    }
+
+    @EventListener
+    public void onJugotDataChanged(JugotDataChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        invalidate(event.getMonths());
+    }
+
+    /**
+     * 주차 묶음과 만든 시점의 갱신 주기
+     */
+    private static final class View {
+        final long period;
+        final Map<String, List<JugotDto>> weeks;
+
+        View(long period, Map<String, List<JugotDto>> weeks) {
+            this.period = period;
+            this.weeks = weeks;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +15,16 @@ import java.util.Optional;
 public interface JugotRepository extends JpaRepository<Jugot, Long> {
     // 수정: 캡처일 기준 기간 조회 메서드 추가
     List<Jugot> findByCaptureDateBetween(LocalDate start, LocalDate end);
+
+    // 주차/월 조회용 DTO 생성자 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음, 필수 필드가 없는 행은 제외)
+    String DTO_BY_CAPTURE_DATE_QUERY = "SELECT new com.chatspring.chatspring.jugot.JugotDto("
+            + "j.stockName, j.capturePrice, j.captureDate, j.marketType, j.currentPrice, j.highestPrice, j.lowestPrice) "
+            + "FROM Jugot j WHERE j.captureDate BETWEEN :start AND :end "
+            + "AND j.stockName IS NOT NULL AND j.capturePrice IS NOT NULL";
+
+    @Transactional(readOnly = true)
+    @Query(DTO_BY_CAPTURE_DATE_QUERY)
+    List<JugotDto> findDtosByCaptureDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
     
     // 올해 종목들 조회
     @Query("SELECT j FROM Jugot j WHERE YEAR(j.captureDate) = :year")
@@ -24,13 +36,21 @@ public interface JugotRepository extends JpaRepository<Jugot, Long> {
     // 포착일과 종목명으로 중복 조회
     Optional<Jugot> findByStockNameAndCaptureDate(String stockName, LocalDate captureDate);
     
-    // 종목명으로 검색 (LIKE 검색)
-    @Query("SELECT DISTINCT j.stockName, j.stockCode FROM Jugot j WHERE j.stockName LIKE CONCAT('%', :keyword, '%') ORDER BY j.stockName")
-    List<Object[]> findDistinctStockNameAndCodeByStockNameContaining(@Param("keyword") String keyword);
+    // 검색 색인 적재용 - [stockName, stockCode, captureDate, currentPrice]
+    @Query("SELECT j.stockName, j.stockCode, j.captureDate, j.currentPrice FROM Jugot j")
+    List<Object[]> findSearchRows();
     
-    // 최근 종목 목록 조회 (중복 제거)
-    @Query("SELECT DISTINCT j.stockName, j.stockCode FROM Jugot j ORDER BY j.captureDate DESC")
-    List<Object[]> findDistinctStocksOrderByDateDesc();
+    // 최근 포착된 종목 limit개와 최신 현재가 - [stockName, stockCode, currentPrice]
+    // 종목을 먼저 limit개로 줄인 뒤 그 종목들만 6자리로 패딩한 코드로 포착일이 가장 늦은 0보다 큰 현재가를 찾음
+    @Query(value = "SELECT r.stock_name, r.stock_code, "
+            + "(SELECT p.current_price FROM jugots p "
+            + " WHERE p.stock_code = CASE WHEN CHAR_LENGTH(r.stock_code) < 6 THEN LPAD(r.stock_code, 6, '0') ELSE r.stock_code END "
+            + " AND p.current_price > 0 ORDER BY p.capture_date DESC LIMIT 1) "
+            + "FROM (SELECT j.stock_name, j.stock_code, MAX(j.capture_date) AS latest_capture FROM jugots j "
+            + " GROUP BY j.stock_name, j.stock_code ORDER BY latest_capture DESC, j.stock_name LIMIT :limit) r "
+            + "ORDER BY r.latest_capture DESC, r.stock_name",
+            nativeQuery = true)
+    List<Object[]> findRecentStocksWithLatestPrice(@Param("limit") int limit);
     
     // 종목코드와 포착일로 조회
     Optional<Jugot> findByStockCodeAndCaptureDate(String stockCode, LocalDate captureDate);
@@ -38,4 +58,14 @@ public interface JugotRepository extends JpaRepository<Jugot, Long> {
     // 종목코드로 가장 최신 데이터 조회
     @Query("SELECT j FROM Jugot j WHERE j.stockCode = :stockCode ORDER BY j.captureDate DESC")
     List<Jugot> findByStockCodeOrderByCaptureDateDesc(@Param("stockCode") String stockCode);
+
+    // 여러 종목코드의 모든 포착 행 조회
+    List<Jugot> findByStockCodeIn(Collection<String> stockCodes);
+
+    // 여러 (종목코드, 포착일)의 포착가 일괄 조회 - [stockCode, captureDate, capturePrice]
+    // 두 목록의 교차 조합까지 포함될 수 있으므로 호출 측에서 필요한 쌍만 골라 씀
+    @Query("SELECT j.stockCode, j.captureDate, j.capturePrice FROM Jugot j " +
+           "WHERE j.stockCode IN :stockCodes AND j.captureDate IN :captureDates")
+    List<Object[]> findCapturePrices(@Param("stockCodes") Collection<String> stockCodes,
+                                     @Param("captureDates") Collection<LocalDate> captureDates);
 }
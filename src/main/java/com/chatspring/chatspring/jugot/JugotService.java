@@ -3,6 +3,10 @@ package com.chatspring.chatspring.jugot;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -15,8 +19,11 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,10 +31,25 @@ import java.util.Optional;
 @Service
 public class JugotService {
 
+    // 월 기준 최대 주차 수
+    private static final int WEEKS_IN_MONTH = 5;
+
+    // 최근 종목 목록 캐시 이름 (만료 시간은 CacheConfig에서 설정)
+    public static final String RECENT_STOCKS_CACHE = "recentStocks";
+    // 최근 종목 목록 최대 개수
+    private static final int RECENT_STOCKS_LIMIT = 100;
+
     private final JugotRepository repository;
+    private final JugotMonthViewCache monthViewCache;
+    private final StockSearchIndex stockSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JugotService(JugotRepository repository) {
+    public JugotService(JugotRepository repository, JugotMonthViewCache monthViewCache,
+                        StockSearchIndex stockSearchIndex, ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.monthViewCache = monthViewCache;
+        this.stockSearchIndex = stockSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     // 한글 컬럼명을 영문 필드명으로 매핑하는 맵
@@ -54,56 +76,52 @@ public class JugotService {
 
     // 수정: (year, month, weekInMonth)로 기간 계산 (월 기준 1주차~5주차, 월요일 시작, 일요일 끝)
     public List<JugotDto> getByYearMonthWeek(int year, int month, int weekInMonth) {
-        LocalDate[] range = computeWeekRangeOfMonth(year, month, weekInMonth);
-        List<Jugot> rows = repository.findByCaptureDateBetween(range[0], range[1]);
-        List<JugotDto> out = new ArrayList<>();
-
-        for (Jugot e : rows) {
-            JugotDto dto = convertToDto(e);
-            if (dto != null) {
-                out.add(dto);
-            }
+        // 1~5주차는 월별 캐시의 주차 묶음을 그대로 사용
+        if (weekInMonth >= 1 && weekInMonth <= WEEKS_IN_MONTH) {
+            return getAllWeeksInMonth(year, month).getOrDefault(weekInMonth + "주차", List.of());
         }
-        return out;
+
+        LocalDate[] range = computeWeekRangeOfMonth(year, month, weekInMonth);
+        return repository.findDtosByCaptureDateBetween(range[0], range[1]);
     }
 
-    // 모든 주차 데이터를 한 번에 가져오는 메서드 (N+1 문제 해결: 5번의 DB 조회를 1번으로 최적화)
+    // 모든 주차 데이터를 한 번에 가져오는 메서드 (월별 캐시, 업로드/일일 업데이트로 해당 월 행이 바뀌면 무효화)
     public Map<String, List<JugotDto>> getAllWeeksInMonth(int year, int month) {
-        Map<String, List<JugotDto>> result = new HashMap<>();
+        YearMonth ym = YearMonth.of(year, month);
+        return monthViewCache.get(ym, () -> bucketByWeek(ym));
+    }
 
-        // 1. 1주차의 시작일과 5주차의 종료일을 계산하여 전체 범위를 구합니다.
-        LocalDate[] firstWeekRange = computeWeekRangeOfMonth(year, month, 1);
-        LocalDate[] lastWeekRange = computeWeekRangeOfMonth(year, month, 5);
-        
-        LocalDate startDate = firstWeekRange[0];
-        LocalDate endDate = lastWeekRange[1];
+    // DTO 프로젝션으로 DB 1회 조회 후 행을 한 번만 훑어 주차별로 나눔 (각 행의 주차는 첫 월요일로부터의 일수로 계산)
+    private Map<String, List<JugotDto>> bucketByWeek(YearMonth ym) {
+        LocalDate firstMonday = computeWeekRangeOfMonth(ym.getYear(), ym.getMonthValue(), 1)[0];
+        LocalDate monthEnd = ym.atEndOfMonth();
+        List<JugotDto> allRows = repository.findDtosByCaptureDateBetween(firstMonday, monthEnd);
 
-        // 2. DB 접속은 딱 1번만 수행 (Batch 조회)
-        List<Jugot> allRows = repository.findByCaptureDateBetween(startDate, endDate);
+        List<List<JugotDto>> weeks = new ArrayList<>(WEEKS_IN_MONTH);
+        for (int week = 1; week <= WEEKS_IN_MONTH; week++) {
+            weeks.add(new ArrayList<>());
+        }
+        for (JugotDto dto : allRows) {
+            LocalDate captureDate = dto.getCaptureDate();
+            if (captureDate == null || captureDate.isBefore(firstMonday) || captureDate.isAfter(monthEnd)) {
+                continue;
+            }
+            int weekIndex = (int) (ChronoUnit.DAYS.between(firstMonday, captureDate) / 7);
+            if (weekIndex >= WEEKS_IN_MONTH) {
+                continue;
+            }
+            weeks.get(weekIndex).add(dto);
+        }
 
-        // 3. Java 메모리에서 주차별로 필터링 (DB 부하 감소)
-        for (int week = 1; week <= 5; week++) {
-            LocalDate[] range = computeWeekRangeOfMonth(year, month, week);
-            LocalDate wStart = range[0];
-            LocalDate wEnd = range[1];
-            
-            List<JugotDto> weekData = allRows.stream()
-                .filter(j -> {
-                    LocalDate captureDate = j.getCaptureDate();
-                    return captureDate != null && 
-                           !captureDate.isBefore(wStart) && 
-                           !captureDate.isAfter(wEnd);
-                })
-                .map(this::convertToDto)
-                .filter(dto -> dto != null)
-                .collect(java.util.stream.Collectors.toList());
-            
+        Map<String, List<JugotDto>> result = new LinkedHashMap<>();
+        for (int week = 1; week <= WEEKS_IN_MONTH; week++) {
+            List<JugotDto> weekData = weeks.get(week - 1);
             if (!weekData.isEmpty()) {
-                result.put(week + "주차", weekData);
+                result.put(week + "주차", Collections.unmodifiableList(weekData));
             }
         }
-
-        return result;
+        // 여러 요청이 공유하므로 읽기 전용으로 반환
+        return Collections.unmodifiableMap(result);
     }
 
     // 수정: 월 기준 N주차(1~5) 범위 계산 (월요일~일요일)
@@ -133,33 +151,6 @@ public class JugotService {
         return new LocalDate[]{ start, end };
     }
 
-    // DTO 변환 헬퍼 메서드 (중복 제거용)
-    private JugotDto convertToDto(Jugot e) {
-        if (e == null) return null;
-        
-        // NPE 방지를 위해 null 체크
-        String name = safe(() -> e.getStockName());
-        Integer capturePrice = safe(() -> e.getCapturePrice());
-        LocalDate captureDate = safe(() -> e.getCaptureDate());
-        String market = safe(() -> e.getMarketType());
-        Integer currentPrice = safe(() -> e.getCurrentPrice());
-        Integer highestPrice = safe(() -> e.getHighestPrice());
-        Integer lowestPrice = safe(() -> e.getLowestPrice());
-        
-        // 필수 필드만 체크 (name, capturePrice)
-        if (name == null || capturePrice == null) {
-            System.out.println("Jugot 데이터에 필수 필드(null)가 있어 건너뜁니다: " + e);
-            return null;
-        }
-        
-        return new JugotDto(name, capturePrice, captureDate, market, currentPrice, highestPrice, lowestPrice);
-    }
-
-    // NPE 방지용
-    private static <T> T safe(SupplierWithEx<T> s) {
-        try { return s.get(); } catch (Throwable t) { return null; }
-    }
-
     // 엑셀/CSV 파일 업로드 및 유효성 검증
     public Map<String, Object> uploadAndValidateExcel(MultipartFile file) {
         Map<String, Object> result = new HashMap<>();
@@ -450,8 +441,9 @@ public class JugotService {
                 return result;
             }
             
-            // 모든 데이터가 유효하면 DB에 저장
+            // 모든 데이터가 유효하면 DB에 저장 후 해당 월 캐시 무효화
             repository.saveAll(validJugots);
+            eventPublisher.publishEvent(JugotDataChangedEvent.of(validJugots));
             
             result.put("success", true);
             result.put("message", totalRows + "건 중 " + successCount + "건 성공적으로 업로드되었습니다.");
@@ -1028,8 +1020,9 @@ public class JugotService {
                 return result;
             }
             
-            // 모든 데이터가 유효하면 DB에 저장
+            // 모든 데이터가 유효하면 DB에 저장 후 해당 월 캐시 무효화
             repository.saveAll(validJugots);
+            eventPublisher.publishEvent(JugotDataChangedEvent.of(validJugots));
             
             result.put("success", true);
             result.put("message", totalRows + "건 중 " + successCount + "건 성공적으로 업로드되었습니다.");
@@ -1127,79 +1120,37 @@ public class JugotService {
         return null;
     }
 
-    // 종목 검색 (종목명으로 검색)
+    // 종목 검색 (종목명, 종목코드, 초성으로 검색)
     public List<Map<String, Object>> searchStocks(String keyword) {
-        List<Object[]> results = repository.findDistinctStockNameAndCodeByStockNameContaining(keyword);
-        List<Map<String, Object>> stocks = new ArrayList<>();
-        
-        for (Object[] result : results) {
-            String stockCode = (String) result[1];
-            Map<String, Object> stock = new HashMap<>();
-            stock.put("stockName", (String) result[0]);
-            stock.put("stockCode", stockCode);
-            
-            // 해당 종목의 최신 currentPrice 조회 (stockCode를 6자리로 패딩)
-            String paddedStockCode = padStockCode(stockCode);
-            List<Jugot> latestJugots = repository.findByStockCodeOrderByCaptureDateDesc(paddedStockCode);
-            
-            Integer currentPrice = null;
-            if (!latestJugots.isEmpty()) {
-                // currentPrice가 null이 아니고 0보다 큰 경우만 사용
-                for (Jugot jugot : latestJugots) {
-                    Integer price = jugot.getCurrentPrice();
-                    if (price != null && price > 0) {
-                        currentPrice = price;
-                        break;
-                    }
-                }
-            }
-            stock.put("currentPrice", currentPrice);
-            
-            stocks.add(stock);
-        }
-        
-        return stocks;
+        // 메모리 색인에서 종목명/종목코드/초성으로 찾고 최신 현재가를 함께 반환 (DB 조회 없음)
+        return stockSearchIndex.search(keyword);
     }
     
-    // 최근 종목 목록 조회
+    // 최근 종목 목록 조회 (최근 포착순 최대 RECENT_STOCKS_LIMIT개, 최신 현재가 포함)
+    // 쿼리 한 번으로 가져오고 잠깐 캐시함 - 업로드/가격 갱신 시 JugotDataChangedEvent로 비움
+    @Cacheable(RECENT_STOCKS_CACHE)
     public List<Map<String, Object>> getRecentStocks() {
-        List<Object[]> results = repository.findDistinctStocksOrderByDateDesc();
-        List<Map<String, Object>> stocks = new ArrayList<>();
-        
-        // 최대 100개까지만 반환
-        int limit = Math.min(100, results.size());
-        for (int i = 0; i < limit; i++) {
-            Object[] result = results.get(i);
-            String stockCode = (String) result[1];
+        List<Object[]> results = repository.findRecentStocksWithLatestPrice(RECENT_STOCKS_LIMIT);
+        List<Map<String, Object>> stocks = new ArrayList<>(results.size());
+        for (Object[] result : results) {
             Map<String, Object> stock = new HashMap<>();
             stock.put("stockName", (String) result[0]);
-            stock.put("stockCode", stockCode);
-            
-            // 해당 종목의 최신 currentPrice 조회 (stockCode를 6자리로 패딩)
-            String paddedStockCode = padStockCode(stockCode);
-            List<Jugot> latestJugots = repository.findByStockCodeOrderByCaptureDateDesc(paddedStockCode);
-            
-            Integer currentPrice = null;
-            if (!latestJugots.isEmpty()) {
-                // currentPrice가 null이 아니고 0보다 큰 경우만 사용
-                for (Jugot jugot : latestJugots) {
-                    Integer price = jugot.getCurrentPrice();
-                    if (price != null && price > 0) {
-                        currentPrice = price;
-                        break;
-                    }
-                }
-            }
-            stock.put("currentPrice", currentPrice);
-            
-            stocks.add(stock);
+            stock.put("stockCode", (String) result[1]);
+            // 네이티브 쿼리라 DB에 따라 숫자 타입이 다를 수 있음
+            stock.put("currentPrice", result[2] != null ? ((Number) result[2]).intValue() : null);
+            stocks.add(Collections.unmodifiableMap(stock));
         }
-        
-        return stocks;
+        return Collections.unmodifiableList(stocks);
+    }
+
+    @CacheEvict(value = RECENT_STOCKS_CACHE, allEntries = true)
+    @EventListener
+    public void onJugotDataChanged(JugotDataChangedEvent event) {
+        // 최근 종목 캐시 비우기 (어노테이션으로 처리)
     }
 
     // stock_code를 6자리로 패딩하는 헬퍼 메서드 (앞에 0 채우기)
-    private String padStockCode(String stockCode) {
+    static String padStockCode(String stockCode) {
         if (stockCode == null || stockCode.isEmpty()) {
             return stockCode;
         }
@@ -1228,10 +1179,5 @@ public class JugotService {
             return stockCode;
         }
     }
-
-    @FunctionalInterface
-    interface SupplierWithEx<T> {
-        T get() throws Exception;
-    }
 }
 
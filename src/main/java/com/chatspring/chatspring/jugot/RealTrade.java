@@ -62,6 +62,14 @@ public class RealTrade {
     @Column(name = "final_period")
     private Integer finalPeriod;
 
+    // 자동 중단 규칙 (비우면 kiwoom.realtrade.rules 기본값, 0 이하면 해당 규칙 끔)
+    @Column(name = "take_profit_rate")
+    private Double takeProfitRate;
+
+    // 손실률 크기(%)로 저장 (예: 10 -> 수익률 -10% 이하에서 중단)
+    @Column(name = "stop_loss_rate")
+    private Double stopLossRate;
+
     @PrePersist
     protected void onCreate() {
         if (status == null || status.isEmpty()) {
@@ -210,10 +218,20 @@ public class RealTrade {
     public void setEndDate(LocalDate endDate) {
         this.endDate = endDate;
     }
-}
-
-
 
+    public Double getTakeProfitRate() {
+        return takeProfitRate;
+    }
 
+    public void setTakeProfitRate(Double takeProfitRate) {
+        this.takeProfitRate = takeProfitRate;
+    }
 
+    public Double getStopLossRate() {
+        return stopLossRate;
+    }
 
+    public void setStopLossRate(Double stopLossRate) {
+        this.stopLossRate = stopLossRate;
+    }
+}
@@ -0,0 +1,8 @@
+package com.chatspring.chatspring.jugot;
+
+/**
+ * 실매매(참여자 포함) 데이터가 바뀐 뒤 발행하는 이벤트
+ * 실매매 목록 조회의 데이터 버전을 올리는 데 사용합니다.
+ */
+public class RealTradeDataChangedEvent {
+}
@@ -1,10 +1,13 @@
 package com.chatspring.chatspring.jugot;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,13 @@ public interface RealTradeRepository extends JpaRepository<RealTrade, Long> {
     // 상태별 실매매를 참여자 정보와 함께 조회 (fetch join)
     @Query("SELECT DISTINCT rt FROM RealTrade rt LEFT JOIN FETCH rt.participants p LEFT JOIN FETCH p.user WHERE rt.status = :status ORDER BY rt.createdAt DESC")
     List<RealTrade> findByStatusWithParticipantsOrderByCreatedAtDesc(@Param("status") String status);
+
+    // 여러 실매매의 상태를 한 번에 변경 (현재 상태가 expected인 것만 - 그사이 사용자가 바꾼 상태는 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE RealTrade rt SET rt.status = :status WHERE rt.id IN :ids AND rt.status = :expected")
+    int updateStatusIfCurrent(@Param("ids") Collection<Long> ids, @Param("expected") String expected,
+                              @Param("status") String status);
 }
 
 
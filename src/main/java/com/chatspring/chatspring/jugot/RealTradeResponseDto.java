@@ -23,6 +23,8 @@ public class RealTradeResponseDto {
     private Integer startPrice;
     private Double finalReturnRate;
     private Integer finalPeriod;
+    private Double takeProfitRate;
+    private Double stopLossRate;
 
     public RealTradeResponseDto() {}
 
@@ -178,4 +180,22 @@ public class RealTradeResponseDto {
     public void setFinalPeriod(Integer finalPeriod) {
         this.finalPeriod = finalPeriod;
     }
+
+    @JsonProperty("takeProfitRate")
+    public Double getTakeProfitRate() {
+        return takeProfitRate;
+    }
+
+    public void setTakeProfitRate(Double takeProfitRate) {
+        this.takeProfitRate = takeProfitRate;
+    }
+
+    @JsonProperty("stopLossRate")
+    public Double getStopLossRate() {
+        return stopLossRate;
+    }
+
+    public void setStopLossRate(Double stopLossRate) {
+        this.stopLossRate = stopLossRate;
+    }
 }
@@ -2,11 +2,12 @@ package com.chatspring.chatspring.jugot;
 
 import com.chatspring.chatspring.jugot.user.User;
 import com.chatspring.chatspring.jugot.user.UserRepository;
+import com.chatspring.chatspring.kiwoom.KrxTradingCalendar;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,20 +22,74 @@ public class RealTradeService {
     private final TradeParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final JugotRepository jugotRepository;
+    private final KrxTradingCalendar tradingCalendar;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RealTradeService(RealTradeRepository repository, 
                            TradeParticipantRepository participantRepository,
                            UserRepository userRepository,
-                           JugotRepository jugotRepository) {
+                           JugotRepository jugotRepository,
+                           KrxTradingCalendar tradingCalendar,
+                           ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.participantRepository = participantRepository;
         this.userRepository = userRepository;
         this.jugotRepository = jugotRepository;
+        this.tradingCalendar = tradingCalendar;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 실매매 데이터 변경 알림 (목록 조회 ETag 갱신, 트랜잭션 안이면 커밋 후 반영)
+    private <T> T changed(T result) {
+        eventPublisher.publishEvent(new RealTradeDataChangedEvent());
+        return result;
     }
 
     // 실매매 정보 저장
     public RealTrade createRealTrade(RealTrade realTrade) {
-        return repository.save(realTrade);
+        requireValidRate("takeProfitRate", realTrade.getTakeProfitRate());
+        requireValidRate("stopLossRate", realTrade.getStopLossRate());
+        return changed(repository.save(realTrade));
+    }
+
+    // 자동 중단 규칙 변경 (null이면 기본값 사용, 0이면 해당 규칙 끔)
+    public RealTrade updateRules(Long id, Double takeProfitRate, Double stopLossRate) {
+        requireValidRate("takeProfitRate", takeProfitRate);
+        requireValidRate("stopLossRate", stopLossRate);
+        RealTrade realTrade = findById(id);
+        realTrade.setTakeProfitRate(takeProfitRate);
+        realTrade.setStopLossRate(stopLossRate);
+        return changed(repository.save(realTrade));
+    }
+
+    /**
+     * 요청 값을 익절/손절 기준(%)으로 변환 (없거나 빈 문자열이면 null)
+     * 숫자가 아니거나 음수이면 IllegalArgumentException
+     */
+    static Double parseRate(String name, Object value) {
+        Double rate;
+        if (value == null) {
+            rate = null;
+        } else if (value instanceof Number) {
+            rate = ((Number) value).doubleValue();
+        } else if (value instanceof String && ((String) value).trim().isEmpty()) {
+            rate = null;
+        } else {
+            try {
+                rate = Double.parseDouble(value.toString().trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + "는 숫자여야 합니다: " + value);
+            }
+        }
+        requireValidRate(name, rate);
+        return rate;
+    }
+
+    // 손절 기준도 손실률 크기로 저장하므로 두 값 모두 0 이상이어야 함
+    private static void requireValidRate(String name, Double rate) {
+        if (rate != null && (rate.isNaN() || rate.isInfinite() || rate < 0)) {
+            throw new IllegalArgumentException(name + "는 0 이상이어야 합니다: " + rate);
+        }
     }
 
     // ACTIVE 및 PAUSED 상태인 실매매 목록 조회 (일반 사용자용)
@@ -111,7 +166,7 @@ public class RealTradeService {
         
         // 편의 메서드를 사용하여 참여자 추가
         realTrade.addParticipant(user);
-        return repository.save(realTrade);
+        return changed(repository.save(realTrade));
     }
 
     // 참여자 제거 (나가기)
@@ -130,7 +185,7 @@ public class RealTradeService {
         
         if (participant != null) {
             realTrade.getParticipants().remove(participant);
-            repository.save(realTrade);
+            changed(repository.save(realTrade));
         }
         
         return realTrade;
@@ -140,6 +195,7 @@ public class RealTradeService {
     public void deleteRealTrade(Long id) {
         RealTrade realTrade = findById(id);
         repository.delete(realTrade);
+        changed(realTrade);
     }
 
     // 실매매 완료 처리
@@ -156,28 +212,27 @@ public class RealTradeService {
             realTrade.setFinalReturnRate(returnRate);
         }
         
-        // 최종 경과기간 계산: 시작일로부터 오늘까지의 일수
+        // 최종 경과기간 계산: 시작일로부터 오늘까지의 거래일 수 (주말/휴장일 제외)
         if (realTrade.getStartDate() != null) {
-            long daysElapsed = ChronoUnit.DAYS.between(realTrade.getStartDate(), today);
-            realTrade.setFinalPeriod((int) daysElapsed);
+            realTrade.setFinalPeriod(tradingCalendar.tradingDaysBetween(realTrade.getStartDate(), today));
         }
         
         realTrade.setStatus("COMPLETED");
-        return repository.save(realTrade);
+        return changed(repository.save(realTrade));
     }
 
     // 실매매 중단 처리
     public RealTrade pauseRealTrade(Long id) {
         RealTrade realTrade = findById(id);
         realTrade.setStatus("PAUSED");
-        return repository.save(realTrade);
+        return changed(repository.save(realTrade));
     }
 
     // 실매매 재개 처리
     public RealTrade resumeRealTrade(Long id) {
         RealTrade realTrade = findById(id);
         realTrade.setStatus("ACTIVE");
-        return repository.save(realTrade);
+        return changed(repository.save(realTrade));
     }
 
     // 관리자용 실매매 목록 조회 (ACTIVE + PAUSED)
@@ -314,6 +369,8 @@ public class RealTradeService {
         dto.setStartPrice(realTrade.getStartPrice());
         dto.setFinalReturnRate(realTrade.getFinalReturnRate());
         dto.setFinalPeriod(realTrade.getFinalPeriod());
+        dto.setTakeProfitRate(realTrade.getTakeProfitRate());
+        dto.setStopLossRate(realTrade.getStopLossRate());
         
         // 참여자 목록을 ParticipantDto로 변환
         List<ParticipantDto> participants = realTrade.getParticipants().stream()
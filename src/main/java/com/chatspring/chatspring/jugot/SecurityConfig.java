@@ -39,6 +39,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // 공개 엔드포인트 (인증 불필요)
                 .requestMatchers("/api/user/login", "/api/user/register").permitAll()
+                // 실시간 시세 WebSocket 핸드셰이크 (구독은 /topic/quotes/{종목코드})
+                .requestMatchers("/ws/**").permitAll()
                 // Jugot API - 조회 엔드포인트는 공개, 수정/삭제는 인증 필요
                 .requestMatchers(
                     "/api/jugot",
@@ -60,6 +62,7 @@ public class SecurityConfig {
                     "/api/jugot/realtrade/*/complete",
                     "/api/jugot/realtrade/*/pause",
                     "/api/jugot/realtrade/*/resume",
+                    "/api/jugot/realtrade/*/rules",
                     "/api/jugot/realtrade/**",
                     "/api/jugot/realtrade/admin"
                 ).authenticated()
@@ -0,0 +1,334 @@
+package com.chatspring.chatspring.jugot;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 종목 검색용 메모리 색인
+ * (종목명, 종목코드) 쌍마다 종목명의 초성 투영(한글 음절 -> 초성, 그 외 소문자)과 종목코드의 1-gram/2-gram 역색인을 두고,
+ * 종목코드별 최신 현재가(포착일이 가장 늦은 행의 0보다 큰 현재가)를 함께 보관합니다.
+ * 검색어도 같은 방식으로 투영해 가장 짧은 색인 목록만 후보로 확인하므로 DB 조회가 없습니다.
+ * 첫 검색 때 전체를 한 번 읽고, 이후에는 {@link JugotDataChangedEvent}로 바뀐 행만 반영합니다.
+ * 이벤트는 이 인스턴스의 쓰기만 알리므로 {@link JugotDataVersions#refreshPeriod()} 주기가 바뀌면 전체를 다시 읽습니다
+ * (클러스터 모드에서 다른 노드가 저장한 종목과 현재가 반영).
+ */
+@Component
+public class StockSearchIndex {
+
+    // 초성 (호환용 자모, 유니코드 초성 순서)
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    // 음절 하나에 속하는 (중성 x 종성) 조합 수
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private final JugotRepository repository;
+    private final JugotDataVersions versions;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호
+    private boolean loaded;
+    // 전체를 읽은 갱신 주기
+    private long loadedPeriod;
+    private boolean ranksDirty;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Entry> entriesByKey = new HashMap<>();
+    private final Map<Integer, Postings> unigrams = new HashMap<>();
+    private final Map<Integer, Postings> bigrams = new HashMap<>();
+    private final Map<String, LatestPrice> pricesByCode = new HashMap<>();
+
+    public StockSearchIndex(JugotRepository repository, JugotDataVersions versions) {
+        this.repository = repository;
+        this.versions = versions;
+    }
+
+    /**
+     * 종목명 또는 종목코드에 검색어가 포함된 종목 (종목명 순)
+     * 종목명은 대소문자를 구분하지 않고, 검색어의 초성(ㄱ~ㅎ)은 그 초성으로 시작하는 음절과 일치합니다. 예) "ㅅㅅ전자" -> 삼성전자
+     */
+    public List<Map<String, Object>> search(String keyword) {
+        ensureLoaded();
+        String query = keyword.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            Postings candidates = candidates(project(query));
+            List<Entry> matches = new ArrayList<>();
+            if (candidates != null) {
+                for (int i = 0; i < candidates.size; i++) {
+                    Entry entry = entries.get(candidates.ids[i]);
+                    if (entry.matches(query)) {
+                        matches.add(entry);
+                    }
+                }
+            }
+            matches.sort(Comparator.comparingInt((Entry e) -> e.rank));
+
+            List<Map<String, Object>> stocks = new ArrayList<>(matches.size());
+            for (Entry entry : matches) {
+                Map<String, Object> stock = new LinkedHashMap<>();
+                stock.put("stockName", entry.stockName);
+                stock.put("stockCode", entry.stockCode);
+                LatestPrice price = pricesByCode.get(entry.paddedCode);
+                stock.put("currentPrice", price != null ? price.price : null);
+                stocks.add(stock);
+            }
+            return stocks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onJugotDataChanged(JugotDataChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            // 아직 읽지 않았으면 첫 검색 때 최신 상태를 읽으므로 건너뜀
+            if (!loaded) {
+                return;
+            }
+            for (Jugot row : event.getRows()) {
+                add(row.getStockName(), row.getStockCode(), row.getCaptureDate(), row.getCurrentPrice());
+            }
+            rankEntries();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        long period = versions.refreshPeriod();
+        lock.readLock().lock();
+        try {
+            if (loaded && loadedPeriod == period) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded || loadedPeriod != period) {
+                clear();
+                for (Object[] row : repository.findSearchRows()) {
+                    add((String) row[0], (String) row[1], (LocalDate) row[2], (Integer) row[3]);
+                }
+                markLoaded(period);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체 비우기 (쓰기 잠금 안에서 호출)
+     */
+    private void clear() {
+        entries.clear();
+        entriesByKey.clear();
+        unigrams.clear();
+        bigrams.clear();
+        pricesByCode.clear();
+        ranksDirty = false;
+        loaded = false;
+    }
+
+    /**
+     * 행 하나 반영 (쓰기 잠금 안에서 호출) - 새 (종목명, 종목코드) 쌍이면 색인하고, 최신 현재가 갱신
+     */
+    void add(String stockName, String stockCode, LocalDate captureDate, Integer currentPrice) {
+        if (stockName == null || stockCode == null) {
+            return;
+        }
+        String paddedCode = JugotService.padStockCode(stockCode);
+        String key = stockName + "\u0000" + stockCode;
+        if (!entriesByKey.containsKey(key)) {
+            Entry entry = new Entry(entries.size(), stockName, stockCode, paddedCode);
+            entries.add(entry);
+            entriesByKey.put(key, entry);
+            ranksDirty = true;
+            indexGrams(entry.id, project(entry.lowerName));
+            indexGrams(entry.id, entry.lowerCode);
+        }
+        if (currentPrice != null && currentPrice > 0) {
+            LatestPrice latest = pricesByCode.get(paddedCode);
+            if (latest == null || isSameOrLater(captureDate, latest.captureDate)) {
+                pricesByCode.put(paddedCode, new LatestPrice(captureDate, currentPrice));
+            }
+        }
+    }
+
+    void markLoaded(long period) {
+        rankEntries();
+        loadedPeriod = period;
+        loaded = true;
+    }
+
+    /**
+     * 종목명 -> 종목코드 순위 매기기 (쓰기 잠금 안에서 호출) - 검색 결과는 이 순위로 정렬
+     * 새 (종목명, 종목코드) 쌍은 업로드 때만 생기므로 그때만 다시 매김
+     */
+    private void rankEntries() {
+        if (!ranksDirty) {
+            return;
+        }
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing((Entry e) -> e.stockName).thenComparing(e -> e.stockCode));
+        for (int i = 0; i < sorted.size(); i++) {
+            sorted.get(i).rank = i;
+        }
+        ranksDirty = false;
+    }
+
+    // 포착일 없는 행은 가장 오래된 것으로 취급
+    private static boolean isSameOrLater(LocalDate date, LocalDate than) {
+        if (date == null) {
+            return than == null;
+        }
+        return than == null || !date.isBefore(than);
+    }
+
+    private void indexGrams(int id, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            unigrams.computeIfAbsent((int) text.charAt(i), k -> new Postings()).addOnce(id);
+            if (i + 1 < text.length()) {
+                bigrams.computeIfAbsent(bigram(text, i), k -> new Postings()).addOnce(id);
+            }
+        }
+    }
+
+    /**
+     * 투영된 검색어의 모든 gram을 가진 후보 중 가장 짧은 색인 목록 (하나라도 없으면 null)
+     */
+    private Postings candidates(String projected) {
+        if (projected.isEmpty()) {
+            return null;
+        }
+        if (projected.length() == 1) {
+            return unigrams.get((int) projected.charAt(0));
+        }
+        Postings shortest = null;
+        for (int i = 0; i + 1 < projected.length(); i++) {
+            Postings postings = bigrams.get(bigram(projected, i));
+            if (postings == null) {
+                return null;
+            }
+            if (shortest == null || postings.size < shortest.size) {
+                shortest = postings;
+            }
+        }
+        return shortest;
+    }
+
+    private static int bigram(String text, int i) {
+        return (text.charAt(i) << 16) | text.charAt(i + 1);
+    }
+
+    /**
+     * 한글 음절은 초성으로, 나머지 문자는 그대로 바꾼 문자열
+     */
+    static String project(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseongOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char choseongOf(char c) {
+        if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+            return CHOSEONG[(c - HANGUL_FIRST) / SYLLABLES_PER_CHOSEONG];
+        }
+        return c;
+    }
+
+    private static boolean isChoseong(char c) {
+        return Arrays.binarySearch(CHOSEONG, c) >= 0;
+    }
+
+    /**
+     * 종목명에 검색어가 포함되는지 (검색어의 초성은 같은 초성의 음절과도 일치)
+     */
+    static boolean nameContains(String name, String query) {
+        int last = name.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            int j = 0;
+            while (j < query.length()) {
+                char q = query.charAt(j);
+                char c = name.charAt(start + j);
+                if (q != c && !(isChoseong(q) && choseongOf(c) == q)) {
+                    break;
+                }
+                j++;
+            }
+            if (j == query.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+        final int id;
+        final String stockName;
+        final String stockCode;
+        final String paddedCode;
+        final String lowerName;
+        final String lowerCode;
+        // 종목명 순 정렬 위치
+        int rank;
+
+        Entry(int id, String stockName, String stockCode, String paddedCode) {
+            this.id = id;
+            this.stockName = stockName;
+            this.stockCode = stockCode;
+            this.paddedCode = paddedCode;
+            this.lowerName = stockName.toLowerCase(Locale.ROOT);
+            this.lowerCode = stockCode.toLowerCase(Locale.ROOT);
+        }
+
+        boolean matches(String query) {
+            return lowerCode.contains(query) || nameContains(lowerName, query);
+        }
+    }
+
+    private static final class LatestPrice {
+        final LocalDate captureDate;
+        final int price;
+
+        LatestPrice(LocalDate captureDate, int price) {
+            this.captureDate = captureDate;
+            this.price = price;
+        }
+    }
+
+    /**
+     * 오름차순 id 목록 (항목은 id 순으로 추가되므로 마지막 값만 보면 중복을 막을 수 있음)
+     */
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void addOnce(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.chatspring.chatspring.jugot.user;
 
+import com.chatspring.chatspring.jugot.RealTradeDataChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +15,9 @@ public class UserService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public User register(User user) {
         // 아이디 검증: 영문 소문자/숫자, 6~20자, 특수문자 불가
         String username = user.getUsername();
@@ -223,7 +228,10 @@ public class UserService {
         // requestedNickname을 null로 초기화
         user.setRequestedNickname(null);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // 실매매 참여자 목록에 닉네임이 보이므로 실매매 조회 버전도 올림
+        eventPublisher.publishEvent(new RealTradeDataChangedEvent());
+        return saved;
     }
 
     /**
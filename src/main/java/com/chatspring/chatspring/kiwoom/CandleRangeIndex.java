@@ -0,0 +1,99 @@
+package com.chatspring.chatspring.kiwoom;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 종목의 일봉에 대한 구간 최고가/최저가 인덱스 (Sparse Table)
+ * 생성 O(n log n), 조회 O(1). 불변 객체이므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public class CandleRangeIndex {
+
+    private final long[] epochDays;     // 거래일 (오름차순)
+    private final int[][] maxHigh;      // maxHigh[k][i] = [i, i + 2^k) 구간의 최고가
+    private final int[][] minLow;       // minLow[k][i] = [i, i + 2^k) 구간의 최저가 (0 이하 값은 제외)
+
+    /**
+     * @param candles 날짜 오름차순으로 정렬된 일봉
+     */
+    public CandleRangeIndex(List<DailyCandle> candles) {
+        int n = candles.size();
+        this.epochDays = new long[n];
+        int levels = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+        this.maxHigh = new int[levels][];
+        this.minLow = new int[levels][];
+
+        maxHigh[0] = new int[n];
+        minLow[0] = new int[n];
+        for (int i = 0; i < n; i++) {
+            DailyCandle candle = candles.get(i);
+            epochDays[i] = candle.getTradeDate().toEpochDay();
+            Integer high = candle.getHighPrice();
+            Integer low = candle.getLowPrice();
+            maxHigh[0][i] = high != null && high > 0 ? high : Integer.MIN_VALUE;
+            minLow[0][i] = low != null && low > 0 ? low : Integer.MAX_VALUE;
+        }
+
+        for (int k = 1; k < levels; k++) {
+            int span = 1 << k;
+            int half = span >> 1;
+            int size = n - span + 1;
+            maxHigh[k] = new int[size];
+            minLow[k] = new int[size];
+            for (int i = 0; i < size; i++) {
+                maxHigh[k][i] = Math.max(maxHigh[k - 1][i], maxHigh[k - 1][i + half]);
+                minLow[k][i] = Math.min(minLow[k - 1][i], minLow[k - 1][i + half]);
+            }
+        }
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * 기간 내 최고가 (해당 기간에 유효한 일봉이 없으면 null)
+     */
+    public Integer highestHigh(LocalDate from, LocalDate to) {
+        int[] range = indexRange(from, to);
+        if (range == null) {
+            return null;
+        }
+        int k = log2(range[1] - range[0] + 1);
+        int value = Math.max(maxHigh[k][range[0]], maxHigh[k][range[1] - (1 << k) + 1]);
+        return value == Integer.MIN_VALUE ? null : value;
+    }
+
+    /**
+     * 기간 내 최저가 (해당 기간에 유효한 일봉이 없으면 null)
+     */
+    public Integer lowestLow(LocalDate from, LocalDate to) {
+        int[] range = indexRange(from, to);
+        if (range == null) {
+            return null;
+        }
+        int k = log2(range[1] - range[0] + 1);
+        int value = Math.min(minLow[k][range[0]], minLow[k][range[1] - (1 << k) + 1]);
+        return value == Integer.MAX_VALUE ? null : value;
+    }
+
+    // [from, to] 날짜 구간을 배열 인덱스 구간 [lo, hi]로 변환
+    private int[] indexRange(LocalDate from, LocalDate to) {
+        if (epochDays.length == 0 || from.isAfter(to)) {
+            return null;
+        }
+        int lo = lowerBound(from.toEpochDay());
+        int hi = lowerBound(to.toEpochDay() + 1) - 1;
+        return lo <= hi ? new int[]{lo, hi} : null;
+    }
+
+    private int lowerBound(long key) {
+        int idx = Arrays.binarySearch(epochDays, key);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+}
@@ -0,0 +1,96 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 임대 기반 노드 간 조정
+ * 별도 인프라 없이 기존 데이터소스(MySQL/H2)의 scheduler_leases 테이블로 리더를 정합니다.
+ * 시각 비교는 각 노드의 시계를 사용하므로 노드 간 시계는 NTP 등으로 맞춰 두어야 합니다.
+ */
+@Service
+public class ClusterLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterLeaseService.class);
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final boolean enabled;
+    private final String nodeId;
+
+    public ClusterLeaseService(SchedulerLeaseRepository leaseRepository,
+                               @Value("${kiwoom.cluster.enabled:false}") boolean enabled,
+                               @Value("${kiwoom.cluster.node-id:}") String nodeId) {
+        this.leaseRepository = leaseRepository;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        if (enabled) {
+            logger.info("클러스터 모드 사용 - 노드 ID: {}", this.nodeId);
+        }
+    }
+
+    /**
+     * 임대 획득 또는 갱신 (이미 내가 가진 임대면 만료 시각만 연장)
+     *
+     * @return 획득했으면 true, 다른 노드가 유효한 임대를 가지고 있으면 false
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        if (leaseRepository.acquire(name, nodeId, now, now.plus(ttl)) > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(name)) {
+            return false;
+        }
+        // 처음 쓰는 임대: 행을 INSERT로 만듦 (동시에 만들면 기본키 충돌로 한 노드만 성공)
+        // 엔티티 save는 id가 지정되어 있어 merge(UPDATE)가 될 수 있으므로 쓰지 않음
+        try {
+            leaseRepository.create(name, nodeId, now.plus(ttl));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("임대 {} 행을 다른 노드가 먼저 만들었습니다", name);
+        }
+        // 어느 쪽이든 DB에 기록된 소유자로 판단
+        return currentOwner(name).filter(nodeId::equals).isPresent();
+    }
+
+    /**
+     * 내가 가진 임대를 즉시 만료시킴
+     */
+    public void release(String name) {
+        leaseRepository.release(name, nodeId, LocalDateTime.now());
+    }
+
+    /**
+     * 현재 임대 보유 노드 (만료되었으면 empty)
+     */
+    public Optional<String> currentOwner(String name) {
+        return leaseRepository.findById(name)
+            .filter(lease -> lease.getExpiresAt().isAfter(LocalDateTime.now()))
+            .map(SchedulerLease::getOwner);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,116 @@
+package com.chatspring.chatspring.kiwoom;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * 키움 API(ka10086)로 수집한 일봉 데이터 로컬 저장소
+ */
+@Entity
+@Table(name = "daily_candles",
+    uniqueConstraints = @UniqueConstraint(name = "uk_daily_candle_code_date", columnNames = {"stock_code", "trade_date"}),
+    indexes = @Index(name = "idx_daily_candle_code_date", columnList = "stock_code, trade_date"))
+public class DailyCandle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(name = "trade_date", nullable = false)
+    private LocalDate tradeDate;
+
+    @Column(name = "open_price")
+    private Integer openPrice;
+
+    @Column(name = "high_price")
+    private Integer highPrice;
+
+    @Column(name = "low_price")
+    private Integer lowPrice;
+
+    @Column(name = "close_price")
+    private Integer closePrice;
+
+    @Column(name = "volume")
+    private Long volume;
+
+    @Column(name = "change_rate")
+    private Double changeRate;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStockCode() {
+        return stockCode;
+    }
+
+    public void setStockCode(String stockCode) {
+        this.stockCode = stockCode;
+    }
+
+    public LocalDate getTradeDate() {
+        return tradeDate;
+    }
+
+    public void setTradeDate(LocalDate tradeDate) {
+        this.tradeDate = tradeDate;
+    }
+
+    public Integer getOpenPrice() {
+        return openPrice;
+    }
+
+    public void setOpenPrice(Integer openPrice) {
+        this.openPrice = openPrice;
+    }
+
+    public Integer getHighPrice() {
+        return highPrice;
+    }
+
+    public void setHighPrice(Integer highPrice) {
+        this.highPrice = highPrice;
+    }
+
+    public Integer getLowPrice() {
+        return lowPrice;
+    }
+
+    public void setLowPrice(Integer lowPrice) {
+        this.lowPrice = lowPrice;
+    }
+
+    public Integer getClosePrice() {
+        return closePrice;
+    }
+
+    public void setClosePrice(Integer closePrice) {
+        this.closePrice = closePrice;
+    }
+
+    public Long getVolume() {
+        return volume;
+    }
+
+    public void setVolume(Long volume) {
+        this.volume = volume;
+    }
+
+    public Double getChangeRate() {
+        return changeRate;
+    }
+
+    public void setChangeRate(Double changeRate) {
+        this.changeRate = changeRate;
+    }
+}
@@ -0,0 +1,16 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyCandleRepository extends JpaRepository<DailyCandle, Long> {
+    // 종목코드의 전체 일봉 (날짜 오름차순)
+    List<DailyCandle> findByStockCodeOrderByTradeDateAsc(String stockCode);
+
+    // 종목코드의 기간 일봉 (날짜 오름차순)
+    List<DailyCandle> findByStockCodeAndTradeDateBetweenOrderByTradeDateAsc(String stockCode, LocalDate start, LocalDate end);
+}
@@ -0,0 +1,124 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일봉 로컬 저장소
+ * 수집 작업이 받은 키움 일별 데이터를 종목코드+거래일 기준으로 저장하고,
+ * "포착일 이후 최고가/최저가" 같은 구간 질의를 키움 API 호출 없이 인덱스로 응답합니다.
+ */
+@Service
+public class DailyCandleStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyCandleStore.class);
+
+    private final DailyCandleRepository repository;
+
+    // 종목코드별 구간 인덱스 (저장 시 무효화, 조회 시 지연 생성)
+    private final Map<String, CandleRangeIndex> indexes = new ConcurrentHashMap<>();
+
+    public DailyCandleStore(DailyCandleRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * 키움 일별 데이터 저장 (같은 거래일이 이미 있으면 갱신)
+     */
+    @Transactional
+    public void saveDailyPrices(String stockCode, DailyPriceSeries dailyPrices) {
+        if (dailyPrices.isEmpty()) {
+            return;
+        }
+
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+        // 거래일 -> 시계열의 행 번호
+        Map<LocalDate, Integer> byDate = new HashMap<>();
+        for (int i = 0; i < dailyPrices.size(); i++) {
+            LocalDate tradeDate = dailyPrices.tradeDate(i);
+            byDate.put(tradeDate, i);
+            if (minDate == null || tradeDate.isBefore(minDate)) minDate = tradeDate;
+            if (maxDate == null || tradeDate.isAfter(maxDate)) maxDate = tradeDate;
+        }
+
+        List<DailyCandle> toSave = new ArrayList<>();
+        for (DailyCandle existing : repository.findByStockCodeAndTradeDateBetweenOrderByTradeDateAsc(stockCode, minDate, maxDate)) {
+            Integer row = byDate.remove(existing.getTradeDate());
+            if (row != null) {
+                copy(dailyPrices, row, existing);
+                toSave.add(existing);
+            }
+        }
+        for (Map.Entry<LocalDate, Integer> entry : byDate.entrySet()) {
+            DailyCandle candle = new DailyCandle();
+            candle.setStockCode(stockCode);
+            candle.setTradeDate(entry.getKey());
+            copy(dailyPrices, entry.getValue(), candle);
+            toSave.add(candle);
+        }
+
+        repository.saveAll(toSave);
+        invalidateIndex(stockCode);
+        logger.debug("종목 {} 일봉 {} 건 저장 ({} ~ {})", stockCode, toSave.size(), minDate, maxDate);
+    }
+
+    /**
+     * 기간 일봉 조회 (날짜 오름차순)
+     */
+    public List<DailyCandle> getCandles(String stockCode, LocalDate from, LocalDate to) {
+        return repository.findByStockCodeAndTradeDateBetweenOrderByTradeDateAsc(stockCode, from, to);
+    }
+
+    /**
+     * 기간 내 최고가 (저장된 일봉이 없으면 null)
+     */
+    public Integer highestHigh(String stockCode, LocalDate from, LocalDate to) {
+        return getIndex(stockCode).highestHigh(from, to);
+    }
+
+    /**
+     * 기간 내 최저가 (저장된 일봉이 없으면 null)
+     */
+    public Integer lowestLow(String stockCode, LocalDate from, LocalDate to) {
+        return getIndex(stockCode).lowestLow(from, to);
+    }
+
+    // 커밋 전에 다른 스레드가 이전 데이터로 인덱스를 다시 만들 수 있으므로 커밋 후에도 한 번 더 제거
+    private void invalidateIndex(String stockCode) {
+        indexes.remove(stockCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexes.remove(stockCode);
+                }
+            });
+        }
+    }
+
+    private CandleRangeIndex getIndex(String stockCode) {
+        return indexes.computeIfAbsent(stockCode,
+            code -> new CandleRangeIndex(repository.findByStockCodeOrderByTradeDateAsc(code)));
+    }
+
+    private static void copy(DailyPriceSeries series, int row, DailyCandle candle) {
+        candle.setOpenPrice(series.openPrice(row));
+        candle.setHighPrice(series.highPrice(row));
+        candle.setLowPrice(series.lowPrice(row));
+        candle.setClosePrice(series.closePrice(row));
+        candle.setVolume(series.volume(row));
+        candle.setChangeRate(series.changeRate(row));
+    }
+}
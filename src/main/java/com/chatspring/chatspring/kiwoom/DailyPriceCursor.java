@@ -0,0 +1,59 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * ka10086 연속조회 진행 상태
+ * 재시도 사이에도 유지되어, 실패한 페이지부터 다시 요청하고 이미 받은 페이지는 다시 받지 않습니다.
+ * 한 번의 조회(종목 1건) 안에서만 순차적으로 사용합니다.
+ */
+class DailyPriceCursor {
+
+    private final DailyPriceSeries.Builder rows = new DailyPriceSeries.Builder();
+    private String contYn = "N";
+    private String nextKey = "";
+    private int completedPages = 0;
+
+    /**
+     * 성공한 페이지를 반영하고 다음 요청 위치로 이동
+     */
+    void advance(DailyPriceSeries pageRows, String nextContYn, String nextNextKey) {
+        rows.addAll(pageRows);
+        completedPages++;
+        if ("Y".equals(nextContYn) && nextNextKey != null && !nextNextKey.isEmpty()) {
+            contYn = "Y";
+            nextKey = nextNextKey;
+        } else {
+            contYn = "N";
+            nextKey = "";
+        }
+    }
+
+    /**
+     * 다음 페이지가 있는지 (첫 페이지 요청 전에는 false)
+     */
+    boolean hasNext() {
+        return "Y".equals(contYn);
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * 지금까지 받은 행 (최신순)
+     */
+    DailyPriceSeries getRows() {
+        return rows.build();
+    }
+
+    String getContYn() {
+        return contYn;
+    }
+
+    String getNextKey() {
+        return nextKey;
+    }
+
+    int getCompletedPages() {
+        return completedPages;
+    }
+}
@@ -0,0 +1,310 @@
+package com.chatspring.chatspring.kiwoom;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일봉 시계열의 열(column) 단위 표현 (키움 응답 순서 그대로 최신순)
+ * 행마다 DailyPriceData 객체를 만드는 대신 필드별 기본형 배열에 담아, 종목당 수백 건이어도 배열 몇 개로 끝나고
+ * 최고가/최저가 계산은 배열을 한 번 훑는 것으로 끝납니다.
+ * 날짜는 YYYYMMDD를 그대로 정수로 담은 값(예: 20250102)이라 정수 비교로 선후를 판단합니다. 날짜가 없는 행은 0입니다.
+ *
+ * 생성 후에는 변경하지 않습니다 (여러 스레드에서 읽어도 안전).
+ */
+public final class DailyPriceSeries {
+
+    private static final DailyPriceSeries EMPTY = new DailyPriceSeries(0, new int[0], new int[0], new int[0],
+            new int[0], new int[0], new long[0], new double[0]);
+
+    private final int size;
+    private final int[] dates;
+    private final int[] openPrices;
+    private final int[] highPrices;
+    private final int[] lowPrices;
+    private final int[] closePrices;
+    private final long[] volumes;
+    private final double[] changeRates;
+
+    private DailyPriceSeries(int size, int[] dates, int[] openPrices, int[] highPrices, int[] lowPrices,
+                             int[] closePrices, long[] volumes, double[] changeRates) {
+        this.size = size;
+        this.dates = dates;
+        this.openPrices = openPrices;
+        this.highPrices = highPrices;
+        this.lowPrices = lowPrices;
+        this.closePrices = closePrices;
+        this.volumes = volumes;
+        this.changeRates = changeRates;
+    }
+
+    public static DailyPriceSeries empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * i번째 행의 거래일 (YYYYMMDD 정수, 없으면 0)
+     */
+    public int date(int i) {
+        return dates[i];
+    }
+
+    public LocalDate tradeDate(int i) {
+        return unpackDate(dates[i]);
+    }
+
+    public int openPrice(int i) {
+        return openPrices[i];
+    }
+
+    public int highPrice(int i) {
+        return highPrices[i];
+    }
+
+    public int lowPrice(int i) {
+        return lowPrices[i];
+    }
+
+    public int closePrice(int i) {
+        return closePrices[i];
+    }
+
+    public long volume(int i) {
+        return volumes[i];
+    }
+
+    public double changeRate(int i) {
+        return changeRates[i];
+    }
+
+    /**
+     * 거래일이 sinceDate(포함) 이후인 행의 최고가 (해당 행이 없으면 Integer.MIN_VALUE)
+     */
+    public int maxHighSince(int sinceDate) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (dates[i] >= sinceDate && highPrices[i] > max) {
+                max = highPrices[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 거래일이 sinceDate(포함) 이후인 행의 최저가 (해당 행이 없으면 Integer.MAX_VALUE)
+     */
+    public int minLowSince(int sinceDate) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (dates[i] >= sinceDate && lowPrices[i] < min) {
+                min = lowPrices[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 거래일이 sinceDate(포함) 이후인 행 수
+     */
+    public int countSince(int sinceDate) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (dates[i] >= sinceDate) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * sinceDate보다 오래된 행이 있는지 (sinceDate가 0이면 항상 false)
+     */
+    public boolean hasRowBefore(int sinceDate) {
+        if (sinceDate == 0) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (dates[i] != 0 && dates[i] < sinceDate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 구간으로 자르기: 날짜가 없거나 sinceDate 이전인 행을 빼고 최대 maxCount건
+     * (sinceDate가 0이면 개수만 자름)
+     */
+    public DailyPriceSeries trimToWindow(int sinceDate, int maxCount) {
+        Builder builder = new Builder(Math.min(size, maxCount));
+        for (int i = 0; i < size && builder.size() < maxCount; i++) {
+            if (sinceDate != 0 && (dates[i] == 0 || dates[i] < sinceDate)) {
+                continue;
+            }
+            builder.add(dates[i], openPrices[i], highPrices[i], lowPrices[i], closePrices[i], volumes[i], changeRates[i]);
+        }
+        return builder.size() == size ? this : builder.build();
+    }
+
+    /**
+     * i번째 행을 DailyPriceData로 (스냅샷처럼 한 건만 필요한 곳에서 사용)
+     */
+    public KiwoomApiClient.DailyPriceData row(int i) {
+        KiwoomApiClient.DailyPriceData data = new KiwoomApiClient.DailyPriceData();
+        data.setDate(dates[i] != 0 ? Integer.toString(dates[i]) : null);
+        data.setOpenPrice(openPrices[i]);
+        data.setHighPrice(highPrices[i]);
+        data.setLowPrice(lowPrices[i]);
+        data.setClosePrice(closePrices[i]);
+        data.setVolume(volumes[i]);
+        data.setChangeRate(changeRates[i]);
+        return data;
+    }
+
+    /**
+     * 행 객체 목록으로 변환 (기존 List 기반 API 호환용)
+     */
+    public List<KiwoomApiClient.DailyPriceData> toList() {
+        List<KiwoomApiClient.DailyPriceData> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(row(i));
+        }
+        return rows;
+    }
+
+    /**
+     * YYYYMMDD 문자열을 정수로 (숫자 8자리가 아니면 0)
+     */
+    public static int packDate(String yyyymmdd) {
+        if (yyyymmdd == null) {
+            return 0;
+        }
+        return packDate(yyyymmdd.toCharArray(), 0, yyyymmdd.length());
+    }
+
+    /**
+     * 문자 배열의 YYYYMMDD를 정수로 (파서가 문자열을 만들지 않고 바로 사용, 숫자 8자리가 아니면 0)
+     */
+    static int packDate(char[] buf, int offset, int length) {
+        if (length != 8) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = buf[i];
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static int packDate(LocalDate date) {
+        return date != null ? date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth() : 0;
+    }
+
+    public static LocalDate unpackDate(int packed) {
+        return packed != 0 ? LocalDate.of(packed / 10000, packed / 100 % 100, packed % 100) : null;
+    }
+
+    /**
+     * 행을 차례로 추가해 시계열을 만드는 빌더 (필요할 때마다 배열을 두 배로 늘림)
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] dates;
+        private int[] openPrices;
+        private int[] highPrices;
+        private int[] lowPrices;
+        private int[] closePrices;
+        private long[] volumes;
+        private double[] changeRates;
+
+        public Builder() {
+            this(32);
+        }
+
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(1, initialCapacity);
+            dates = new int[capacity];
+            openPrices = new int[capacity];
+            highPrices = new int[capacity];
+            lowPrices = new int[capacity];
+            closePrices = new int[capacity];
+            volumes = new long[capacity];
+            changeRates = new double[capacity];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Builder add(int date, int openPrice, int highPrice, int lowPrice, int closePrice, long volume, double changeRate) {
+            if (size == dates.length) {
+                grow(size * 2);
+            }
+            dates[size] = date;
+            openPrices[size] = openPrice;
+            highPrices[size] = highPrice;
+            lowPrices[size] = lowPrice;
+            closePrices[size] = closePrice;
+            volumes[size] = volume;
+            changeRates[size] = changeRate;
+            size++;
+            return this;
+        }
+
+        public Builder addAll(DailyPriceSeries series) {
+            if (size + series.size > dates.length) {
+                grow(Math.max(size + series.size, size * 2));
+            }
+            System.arraycopy(series.dates, 0, dates, size, series.size);
+            System.arraycopy(series.openPrices, 0, openPrices, size, series.size);
+            System.arraycopy(series.highPrices, 0, highPrices, size, series.size);
+            System.arraycopy(series.lowPrices, 0, lowPrices, size, series.size);
+            System.arraycopy(series.closePrices, 0, closePrices, size, series.size);
+            System.arraycopy(series.volumes, 0, volumes, size, series.size);
+            System.arraycopy(series.changeRates, 0, changeRates, size, series.size);
+            size += series.size;
+            return this;
+        }
+
+        /**
+         * 지금까지 추가한 행으로 시계열 생성 (배열은 복사하므로 이후 추가는 결과에 영향 없음)
+         */
+        public DailyPriceSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new DailyPriceSeries(size,
+                    Arrays.copyOf(dates, size),
+                    Arrays.copyOf(openPrices, size),
+                    Arrays.copyOf(highPrices, size),
+                    Arrays.copyOf(lowPrices, size),
+                    Arrays.copyOf(closePrices, size),
+                    Arrays.copyOf(volumes, size),
+                    Arrays.copyOf(changeRates, size));
+        }
+
+        private void grow(int capacity) {
+            dates = Arrays.copyOf(dates, capacity);
+            openPrices = Arrays.copyOf(openPrices, capacity);
+            highPrices = Arrays.copyOf(highPrices, capacity);
+            lowPrices = Arrays.copyOf(lowPrices, capacity);
+            closePrices = Arrays.copyOf(closePrices, capacity);
+            volumes = Arrays.copyOf(volumes, capacity);
+            changeRates = Arrays.copyOf(changeRates, capacity);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 일별 주가 조회(ka10086) 응답 스트리밍 파서
+ * 응답 본문을 문자열/JsonNode 트리로 만들지 않고 InputStream에서 바로 읽으며,
+ * "+78,800" 같은 부호/천단위 구분자가 섞인 숫자는 정규식 없이 문자를 훑어서 파싱합니다.
+ * 행은 객체로 만들지 않고 {@link DailyPriceSeries}의 열 배열에 바로 채웁니다.
+ */
+public final class Ka10086ResponseParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(Ka10086ResponseParser.class);
+
+    // JsonFactory는 스레드 안전하므로 공유
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10};
+
+    private Ka10086ResponseParser() {
+    }
+
+    /**
+     * 응답 한 페이지 파싱
+     * 본문이 JSON 형식이 아니면 재시도 대상이 아닌 {@link KiwoomResponseParseException},
+     * 본문을 읽는 도중의 네트워크 오류는 그대로 IOException(재시도 대상)으로 던집니다.
+     */
+    public static Page parse(InputStream body, String stockCode) throws IOException {
+        try {
+            return parsePage(body, stockCode);
+        } catch (JsonProcessingException e) {
+            throw new KiwoomResponseParseException("ka10086 응답 파싱 실패: " + stockCode + " - " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static Page parsePage(InputStream body, String stockCode) throws IOException {
+        Page page = new Page();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "ka10086 응답이 JSON 객체가 아닙니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "return_code" -> page.returnCode = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "return_msg" -> page.returnMsg = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "daly_stkpc" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            readRows(parser, stockCode, page.rows);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return page;
+    }
+
+    private static void readRows(JsonParser parser, String stockCode, DailyPriceSeries.Builder rows) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int date = 0;
+            int openPrice = 0;
+            int highPrice = 0;
+            int lowPrice = 0;
+            int closePrice = 0;
+            long volume = 0;
+            double changeRate = 0.0;
+            boolean lowParsed = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "date" -> date = parseDate(parser, value);
+                    case "open_pric" -> openPrice = (int) orZero(parseUnsigned(parser, value));
+                    case "high_pric" -> highPrice = (int) orZero(parseUnsigned(parser, value));
+                    case "low_pric" -> {
+                        long low = parseUnsigned(parser, value);
+                        lowParsed = low >= 0;
+                        lowPrice = (int) orZero(low);
+                    }
+                    case "close_pric" -> closePrice = (int) orZero(parseUnsigned(parser, value));
+                    case "trde_qty" -> volume = orZero(parseUnsigned(parser, value));
+                    case "flu_rt" -> changeRate = parseSignedDecimal(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (!lowParsed) {
+                logger.warn("low_pric 파싱 실패: code={}, date={}", stockCode, date);
+            }
+            rows.add(date, openPrice, highPrice, lowPrice, closePrice, volume, changeRate);
+        }
+    }
+
+    /**
+     * 파싱 실패(-1)는 0으로 (빈 문자열, null, "-" 등은 기존 파서처럼 0)
+     */
+    private static long orZero(long parsed) {
+        return Math.max(0, parsed);
+    }
+
+    /**
+     * 거래일(YYYYMMDD)을 정수로. 형식이 다르면 0
+     */
+    static int parseDate(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            // 배열/객체 값은 통째로 건너뜀 (행의 나머지 필드를 계속 읽을 수 있도록)
+            parser.skipChildren();
+            return 0;
+        }
+        return DailyPriceSeries.packDate(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * 부호를 무시한 정수값 (가격/거래량). 숫자가 하나도 없으면 -1
+     * 키움 가격 필드의 부호는 전일 대비 방향이므로 절대값만 사용합니다.
+     */
+    static long parseUnsigned(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return Math.abs(parser.getLongValue());
+        }
+        if (value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return (long) Math.abs(parser.getDoubleValue());
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return -1;
+        }
+        return parseUnsigned(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * 문자 배열에서 숫자만 모아 정수로 변환 ('+', '-', ',', 공백, 전각 부호 등은 건너뜀)
+     * 소수점이 나오면 그 이후는 버립니다. 숫자가 하나도 없으면 -1
+     */
+    static long parseUnsigned(char[] buf, int offset, int length) {
+        long result = 0;
+        boolean digits = false;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = buf[i];
+            if (c == '.') {
+                break;
+            }
+            int d = Character.digit(c, 10);
+            if (d >= 0) {
+                result = result * 10 + d;
+                digits = true;
+            }
+        }
+        return digits ? result : -1;
+    }
+
+    /**
+     * 부호가 있는 소수 (등락률). 숫자가 없으면 0
+     * 기존 파서(parseRateValue)는 앞의 '+'/'-'를 모두 떼어 하락일도 양수로 저장했지만,
+     * 이제는 "-0.38"을 -0.38로 읽어 daily_candles.change_rate에 하락/상승 방향이 남습니다.
+     */
+    static double parseSignedDecimal(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return 0.0;
+        }
+        return parseSignedDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    static double parseSignedDecimal(char[] buf, int offset, int length) {
+        long mantissa = 0;
+        int scale = 0;
+        boolean negative = false;
+        boolean fraction = false;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = buf[i];
+            if (c == '-' || c == '−' || c == '－') {
+                negative = true;
+            } else if (c == '.') {
+                fraction = true;
+            } else {
+                int d = Character.digit(c, 10);
+                if (d >= 0) {
+                    mantissa = mantissa * 10 + d;
+                    if (fraction) {
+                        scale++;
+                    }
+                }
+            }
+        }
+        // 정확한 10의 거듭제곱으로 한 번만 나누면 Double.parseDouble과 같은 결과
+        double result = scale < POWERS_OF_TEN.length ? mantissa / POWERS_OF_TEN[scale] : mantissa / Math.pow(10, scale);
+        return negative ? -result : result;
+    }
+
+    /**
+     * 응답 한 페이지
+     */
+    public static class Page {
+        private String returnCode;
+        private String returnMsg;
+        private final DailyPriceSeries.Builder rows = new DailyPriceSeries.Builder();
+
+        public String getReturnCode() {
+            return returnCode;
+        }
+
+        public String getReturnMsg() {
+            return returnMsg;
+        }
+
+        public DailyPriceSeries getRows() {
+            return rows.build();
+        }
+
+        public boolean isSuccess() {
+            return "0".equals(returnCode);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.chatspring.chatspring.kiwoom;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,152 +7,24 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
-import com.fasterxml.jackson.core.JsonProcessingException;
 
 
 @Service
 public class KiwoomApiClient {
 
-    private static final Logger log = LoggerFactory.getLogger(KiwoomApiClient.class);
-    
-    // 토큰 캐시
-    private String cachedToken;
-    private String tokenExpiresDt;
-    private long tokenCacheTime;
-    
-
-    private static String debugCodepoints(String s) {
-        if (s == null) return "null";
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < s.length(); i++) {
-            sb.append(String.format("[%d U+%04X '%s']",
-                    i, (int) s.charAt(i), s.substring(i, i + 1)));
-        }
-        return sb.toString();
-    }
-
-    /** 유니코드 공백/부호까지 제거 + 최종 fallback: 숫자만 추출 */
-    private static Integer parsePriceOrNull(String raw, String code, String date, String fieldName, Logger log) {
-        if (raw == null) {
-            log.warn("{} null: code={}, date={}", fieldName, code, date);
-            return null;
-        }
-        // 1) 전처리: 모든 공백(ASCII/유니코드) 제거
-        // \p{Zs} = Unicode space separators, \s = ASCII whitespace
-        String s = raw.replaceAll("[\\p{Zs}\\s]", "");
-
-        // 2) 흔한 유니코드 부호/전각부호 제거 (＋ － − 등)
-        s = s.replaceAll("[+\\-\\u2212\\uFF0B\\uFF0D]", "");
-
-        // 3) 천단위 구분자(전각/반각) 제거
-        s = s.replaceAll("[,\\uFF0C]", "");
-
-        // 4) 그대로 파싱 시도
-        try {
-            if (s.isEmpty()) throw new NumberFormatException("empty after sanitize");
-            return Integer.parseInt(s);
-        } catch (NumberFormatException e1) {
-            // 5) 최후의 보루: 숫자만 추출해서 파싱
-            String digitsOnly = s.replaceAll("\\D", "");
-            try {
-                if (digitsOnly.isEmpty()) throw new NumberFormatException("no digits");
-                return Integer.parseInt(digitsOnly);
-            } catch (NumberFormatException e2) {
-                // 원인 분석을 위해 코드포인트 로그 남김
-                log.warn("{} 파싱 실패: code={}, date={}, raw='{}', raw-cp={}, sani='{}', sani-cp={}",
-                        fieldName, code, date, raw, debugCodepoints(raw), s, debugCodepoints(s));
-                return null;
-            }
-        }
-    }
-
-    private static Integer parsePriceNonNegative(com.fasterxml.jackson.databind.JsonNode row, String key) {
-        com.fasterxml.jackson.databind.JsonNode n = row.get(key);
-        if (n == null || n.isNull()) return null;
-
-        String raw = n.asText("");
-
-        // 1) 텍스트로 뽑고, 유니코드 공백류까지 전부 제거(표준 trim이 못 지우는 NBSP 등)
-        String noSpaces = raw
-                .replace("\\u00A0", "")   // NBSP
-                // ... (다른 replace 로직들) ...
-                .replace(" ", "")
-                .replace(",", "")
-                .replace("+", "")         // <--- 이 줄 추가
-                .replace("-", "")         // <--- 이 줄 추가 (저가는 음수가 될 수 없으므로)
-                .trim();
-
-        if (noSpaces.isEmpty()) {
-            return null;
-        }
-
-        try {
-            // 2) 숫자로 변환 시도
-            return Integer.parseInt(noSpaces);
-        } catch (NumberFormatException e) {
-            // 3) 실패 시 경고 로그
-            log.warn("{} 파싱 실패: key={}, raw='{}', cleaned='{}'",
-                    key, raw, noSpaces, e.getMessage());
-            return null;
-        }
-    }
-
-    private static int parsePriceValue(String raw) {
-        if (raw == null || raw.trim().isEmpty()) return 0;
-        String s = raw.trim().replaceAll("[+\\-]", ""); // 모든 '+', '-' 기호 제거
-        if (s.isEmpty()) return 0;
-        try {
-            return Integer.parseInt(s);
-        } catch (NumberFormatException e) {
-            logger.warn("가격 파싱 실패: {}", raw);
-            return 0;
-        }
-    }
-    
-    private static long parseVolumeValue(String raw) {
-        if (raw == null || raw.trim().isEmpty()) return 0;
-        String s = raw.trim().replaceAll("^[+-]+", ""); // 선행 '+', '-' 전부 제거
-        if (s.isEmpty()) return 0;
-        try {
-            return Long.parseLong(s);
-        } catch (NumberFormatException e) {
-            logger.warn("거래량 파싱 실패: {}", raw);
-            return 0;
-        }
-    }
-    
-    private static double parseRateValue(String raw) {
-        if (raw == null || raw.trim().isEmpty()) return 0.0;
-        String s = raw.trim().replaceAll("^[+-]+", ""); // 선행 '+', '-' 전부 제거
-        if (s.isEmpty()) return 0.0;
-        try {
-            return Double.parseDouble(s);
-        } catch (NumberFormatException e) {
-            logger.warn("변동률 파싱 실패: {}", raw);
-            return 0.0;
-        }
-    }
-
-
     private static final Logger logger = LoggerFactory.getLogger(KiwoomApiClient.class);
     
-    @Value("${kiwoom.api.appkey}")
-    private String appkey;
-    
-    @Value("${kiwoom.api.secretkey}")
-    private String secretkey;
-    
     @Value("${kiwoom.api.host}")
     private String host;
     
@@ -165,105 +35,64 @@ public class KiwoomApiClient {
     private int retry;
     
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final KiwoomRateLimiter rateLimiter;
+    private final KiwoomCallGuard callGuard;
+    private final KiwoomTokenManager tokenManager;
     
-    public KiwoomApiClient(RestTemplate restTemplate) {
+    public KiwoomApiClient(RestTemplate restTemplate, KiwoomRateLimiter rateLimiter, KiwoomCallGuard callGuard,
+                           KiwoomTokenManager tokenManager) {
         this.restTemplate = restTemplate;
-        this.objectMapper = new ObjectMapper();
+        this.rateLimiter = rateLimiter;
+        this.callGuard = callGuard;
+        this.tokenManager = tokenManager;
     }
     
     /**
-     * 토큰이 유효한지 확인
+     * 접근 토큰 발급 (au10001) - 유효한 토큰이 있으면 재사용
+     * 발급, 만료 전 재발급, 동시 요청 처리는 {@link KiwoomTokenManager}가 담당합니다.
      */
-    private boolean isTokenValid() {
-        if (cachedToken == null || tokenExpiresDt == null) {
-            return false;
-        }
-        
-        // 현재 시간이 토큰 발급 시간으로부터 23시간 이내인지 확인 (여유시간 1시간)
-        long currentTime = System.currentTimeMillis();
-        long tokenAge = currentTime - tokenCacheTime;
-        long maxAge = 23 * 60 * 60 * 1000; // 23시간
-        
-        return tokenAge < maxAge;
+    public TokenResponse getAccessToken() {
+        return tokenManager.getToken();
     }
-    
+
     /**
-     * 접근 토큰 발급 (au10001) - 캐시된 토큰이 있으면 재사용
+     * 일별 주가 조회 (ka10086) - 최신 거래일부터 최대 maxCount건
      */
-    public TokenResponse getAccessToken() {
-        // 캐시된 토큰이 유효하면 재사용
-        if (isTokenValid()) {
-            logger.info("캐시된 토큰 재사용 (만료일: {})", tokenExpiresDt);
-            return new TokenResponse(cachedToken, tokenExpiresDt);
-        }
-        
-        // 새 토큰 발급
-        return getNewAccessToken();
+    public List<DailyPriceData> fetchDailyPrices(String token, String stockCode, String queryDate, int maxCount) {
+        return fetchDailyPrices(token, stockCode, queryDate, null, maxCount);
     }
-    
+
     /**
-     * 새로운 접근 토큰 발급 (au10001)
+     * 일별 주가 조회 (ka10086) - since(포함) 이후 거래일만, 최대 maxCount건
+     * 응답은 최신순이므로 since보다 오래된 행이 나온 페이지에서 연속조회를 멈춥니다.
+     * 네트워크 오류나 호출 한도 초과 시 점진적으로 대기 시간을 늘려가며 최대 5회 재시도합니다.
+     * 재시도는 이미 받은 페이지를 다시 받지 않고 실패한 페이지부터 이어서 요청합니다.
+     * 차단기가 열려 있으면({@link KiwoomCircuitOpenException}) 재시도하지 않고 즉시 실패합니다.
+     *
+     * @param since 조회 하한일 (null이면 maxCount만 적용)
      */
-    private TokenResponse getNewAccessToken() {
-        String url = host + "/oauth2/token";
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        Map<String, String> body = new HashMap<>();
-        body.put("grant_type", "client_credentials");
-        body.put("appkey", appkey);
-        body.put("secretkey", secretkey);
-        
-        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-        
-        try {
-            logger.info("키움 API 토큰 발급 요청: {}", url);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                String returnCode = jsonNode.get("return_code").asText();
-                
-                if ("0".equals(returnCode)) {
-                    String token = jsonNode.get("token").asText();
-                    String expiresDt = jsonNode.get("expires_dt").asText();
-                    
-                    // 토큰 캐시에 저장
-                    this.cachedToken = token;
-                    this.tokenExpiresDt = expiresDt;
-                    this.tokenCacheTime = System.currentTimeMillis();
-                    
-                    logger.info("키움 API 토큰 발급 성공, 만료일: {}", expiresDt);
-                    return new TokenResponse(token, expiresDt);
-                } else {
-                    logger.error("키움 API 토큰 발급 실패: {}", response.getBody());
-                    throw new RuntimeException("키움 API 토큰 발급 실패: " + response.getBody());
-                }
-            } else {
-                logger.error("키움 API 토큰 발급 HTTP 오류: {}", response.getStatusCode());
-                throw new RuntimeException("키움 API 토큰 발급 HTTP 오류: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            logger.error("키움 API 토큰 발급 중 오류 발생", e);
-            throw new RuntimeException("키움 API 토큰 발급 중 오류 발생", e);
-        }
+    public List<DailyPriceData> fetchDailyPrices(String token, String stockCode, String queryDate, LocalDate since, int maxCount) {
+        return fetchDailyPriceSeries(token, stockCode, queryDate, since, maxCount).toList();
     }
 
     /**
-     * 일별 주가 조회 (ka10086)
-     * 네트워크 오류 발생 시 점진적으로 대기 시간을 늘려가며 최대 5회 재시도합니다.
+     * 일별 주가 조회 (ka10086) - 행 객체 없이 열 단위 시계열로 반환
+     * 조회/재시도 규칙은 {@link #fetchDailyPrices(String, String, String, LocalDate, int)}와 같습니다.
+     *
+     * @param since 조회 하한일 (null이면 maxCount만 적용)
      */
-    public List<DailyPriceData> fetchDailyPrices(String token, String stockCode, String queryDate, int maxCount) {
+    public DailyPriceSeries fetchDailyPriceSeries(String token, String stockCode, String queryDate, LocalDate since, int maxCount) {
         int maxRetries = 5;
         int baseDelay = 1000; // 1초부터 시작
+        // 받은 행과 다음 페이지 위치는 재시도 사이에도 유지
+        DailyPriceCursor cursor = new DailyPriceCursor();
         
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
-                logger.info("키움 API 일별 주가 조회 시도 {}/{}: {}", attempt, maxRetries, stockCode);
-                return fetchDailyPricesInternal(token, stockCode, queryDate, maxCount);
-            } catch (RestClientException e) {
+                logger.info("키움 API 일별 주가 조회 시도 {}/{}: {} ({}페이지부터)",
+                        attempt, maxRetries, stockCode, cursor.getCompletedPages() + 1);
+                return fetchDailyPricesInternal(token, stockCode, queryDate, since, maxCount, cursor);
+            } catch (RestClientException | KiwoomThrottledException e) {
                 logger.warn("키움 API 네트워크 오류 발생 (시도 {}/{}): {}", attempt, maxRetries, e.getMessage());
                 
                 if (attempt == maxRetries) {
@@ -290,116 +119,149 @@ public class KiwoomApiClient {
     
     /**
      * 실제 API 호출 로직
+     * cursor 위치(첫 페이지 또는 실패했던 페이지)부터 요청하며, 성공한 페이지만 cursor에 반영합니다.
+     * 인증 오류로 거절되면 토큰을 재발급받아 해당 페이지를 한 번 더 요청합니다.
      */
-    private List<DailyPriceData> fetchDailyPricesInternal(String token, String stockCode, String queryDate, int maxCount) {
-        String url = host + "/api/dostk/mrkcond";
-        List<DailyPriceData> allRows = new ArrayList<>();
+    private DailyPriceSeries fetchDailyPricesInternal(String token, String stockCode, String queryDate, LocalDate since,
+                                                      int maxCount, DailyPriceCursor cursor) {
+        int sinceDate = DailyPriceSeries.packDate(since);
 
-        String contYn = "N";
-        String nextKey = "";
-        int page = 0;
+        // 실행 도중 토큰이 재발급되었으면 새 토큰 사용
+        String activeToken = tokenManager.resolve(token);
+        boolean authRetried = false;
         int maxPages = 100;
 
-        while (page < maxPages) {
-            page++;
+        while (cursor.getCompletedPages() < maxPages) {
+            int page = cursor.getCompletedPages() + 1;
+            String contYn = cursor.getContYn();
+            String nextKey = cursor.getNextKey();
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept", "application/json");
-            // Connection: close 헤더 제거 - Connection Pooling을 위해 Keep-Alive 사용
-            headers.set("authorization", "Bearer " + token);
-            headers.set("cont-yn", contYn);
-            headers.set("next-key", nextKey);
-            headers.set("api-id", "ka10086");
-
-            Map<String, String> body = new HashMap<>();
-            body.put("stk_cd", stockCode);
-            body.put("qry_dt", queryDate);
-            body.put("indc_tp", "0"); // 수량 기준
-
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+            PageResponse response;
+            try {
+                response = requestPage(activeToken, stockCode, queryDate, contYn, nextKey, page);
+            } catch (KiwoomAuthException e) {
+                if (authRetried) {
+                    throw e;
+                }
+                authRetried = true;
+                activeToken = tokenManager.refreshAfterAuthFailure(activeToken);
+                response = requestPage(activeToken, stockCode, queryDate, contYn, nextKey, page);
+            }
 
-            ResponseEntity<String> response;
-            logger.info("키움 API 일별 주가 조회 요청: {} (페이지: {})", stockCode, page);
-            response = restTemplate.postForEntity(url, request, String.class);
+            if (response == null || !response.page.isSuccess()) {
+                String detail = response == null ? "응답 없음"
+                        : "return_code=" + response.page.getReturnCode() + ", return_msg=" + response.page.getReturnMsg();
+                logger.error("키움 API 일별 주가 조회 실패: {}", detail);
+                throw new RuntimeException("키움 API 일별 주가 조회 실패: " + detail);
+            }
 
-            // 응답 파싱
-            try {
-                if (response.getStatusCode() == HttpStatus.OK) {
-                    JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                    String returnCode = jsonNode.get("return_code").asText();
+            DailyPriceSeries rows = response.page.getRows();
+            cursor.advance(rows, response.contYn, response.nextKey);
 
-                    if ("0".equals(returnCode)) {
-                        JsonNode dailyStkpc = jsonNode.get("daly_stkpc");
-                        if (dailyStkpc != null && dailyStkpc.isArray()) {
-                            for (JsonNode row : dailyStkpc) {
+            // 필요한 구간을 다 받았으면 연속조회 여부와 관계없이 중단
+            // (최대 개수를 채웠거나, 조회 하한일보다 오래된 행이 나옴 - 이후 페이지는 모두 더 오래된 데이터)
+            if (cursor.getRowCount() >= maxCount || rows.hasRowBefore(sinceDate)) {
+                break;
+            }
 
-                                Integer low = parsePriceNonNegative(row, "low_pric");
-                                if (low == null) {
-                                    log.warn("low_pric 파싱 실패: code={}, date={}, raw='{}'",
-                                            stockCode,
-                                            row.path("date").asText(), // 날짜 키는 실제 키로 바꿔도 됨
-                                            row.path("low_pric").asText());
-                                }
+            // 연속조회 여부 확인 (다음 페이지 호출 간격은 rateLimiter가 조절)
+            if (!cursor.hasNext()) {
+                break;
+            }
+        }
 
-                                DailyPriceData data = new DailyPriceData();
-                                data.setDate(row.get("date").asText());
-                                data.setOpenPrice(parsePriceValue(row.get("open_pric").asText()));
-                                data.setHighPrice(parsePriceValue(row.get("high_pric").asText()));
-                                data.setLowPrice(parsePriceValue(row.get("low_pric").asText()));
-                                data.setClosePrice(parsePriceValue(row.get("close_pric").asText()));
-                                data.setVolume(parseVolumeValue(row.get("trde_qty").asText()));
-                                data.setChangeRate(parseRateValue(row.get("flu_rt").asText()));
+        DailyPriceSeries allRows = cursor.getRows().trimToWindow(sinceDate, maxCount);
 
-                                allRows.add(data);
-                            }
-                        }
+        logger.info("키움 API 일별 주가 조회 완료: {} 건", allRows.size());
+        return allRows;
+    }
+    
+    /**
+     * ka10086 한 페이지 요청
+     * 응답 본문은 문자열로 버퍼링하지 않고 {@link Ka10086ResponseParser}로 스트림에서 바로 파싱합니다.
+     */
+    private PageResponse requestPage(String token, String stockCode, String queryDate, String contYn, String nextKey, int page) {
+        String url = host + "/api/dostk/mrkcond";
 
-                        // 연속조회 여부 확인
-                        String contYnHeader = response.getHeaders().getFirst("cont-yn");
-                        String nextKeyHeader = response.getHeaders().getFirst("next-key");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Accept", "application/json");
+        // Connection: close 헤더 제거 - Connection Pooling을 위해 Keep-Alive 사용
+        headers.set("authorization", "Bearer " + token);
+        headers.set("cont-yn", contYn);
+        headers.set("next-key", nextKey);
+        headers.set("api-id", "ka10086");
 
-                        if ("Y".equals(contYnHeader) && nextKeyHeader != null && !nextKeyHeader.isEmpty()) {
-                            contYn = "Y";
-                            nextKey = nextKeyHeader;
+        Map<String, String> body = new HashMap<>();
+        body.put("stk_cd", stockCode);
+        body.put("qry_dt", queryDate);
+        body.put("indc_tp", "0"); // 수량 기준
 
-                            // API 호출 간격 조절
-                            try {
-                                Thread.sleep(1000);
-                            } catch (InterruptedException e) {
-                                Thread.currentThread().interrupt();
-                                break;
-                            }
-                        } else {
-                            break;
-                        }
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
 
-                        // 최대 개수 확인
-                        if (allRows.size() >= maxCount) {
-                            allRows = allRows.subList(0, maxCount);
-                            break;
+        // 동시 호출 한도(callGuard, AIMD) 안에서, 모든 워커가 공유하는 토큰 버킷(TPS)을 지켜 호출
+        long callStart = callGuard.acquire();
+        KiwoomCallGuard.Outcome outcome = KiwoomCallGuard.Outcome.IGNORED;
+        PageResponse response;
+        try {
+            rateLimiter.acquire();
+            callStart = System.nanoTime(); // 토큰 대기 시간은 응답 지연에서 제외
+            logger.info("키움 API 일별 주가 조회 요청: {} (페이지: {})", stockCode, page);
+            response = restTemplate.execute(url, HttpMethod.POST,
+                    restTemplate.httpEntityCallback(request),
+                    clientResponse -> {
+                        if (clientResponse.getStatusCode().value() != HttpStatus.OK.value()) {
+                            logger.error("키움 API 일별 주가 조회 HTTP 오류: {}", clientResponse.getStatusCode());
+                            throw new RuntimeException("키움 API 일별 주가 조회 HTTP 오류: " + clientResponse.getStatusCode());
                         }
-                    } else {
-                        logger.error("키움 API 일별 주가 조회 실패: {}", response.getBody());
-                        throw new RuntimeException("키움 API 일별 주가 조회 실패: " + response.getBody());
-                    }
-                } else {
-                    logger.error("키움 API 일별 주가 조회 HTTP 오류: {}", response.getStatusCode());
-                    throw new RuntimeException("키움 API 일별 주가 조회 HTTP 오류: " + response.getStatusCode());
-                }
-            } catch (JsonProcessingException jsonEx) {
-                // JSON 파싱 실패
-                log.error("API 응답 JSON 파싱 실패: {}", response.getBody(), jsonEx);
-                throw new RuntimeException("API 응답 JSON 파싱 실패", jsonEx);
-            } catch (Exception e) {
-                // 기타 파싱 중 오류 (e.g., NullPointerException)
-                logger.error("API 응답 데이터 처리 중 알 수 없는 오류 발생", e);
-                throw new RuntimeException("API 응답 데이터 처리 중 알 수 없는 오류 발생", e);
+                        return new PageResponse(
+                                Ka10086ResponseParser.parse(clientResponse.getBody(), stockCode),
+                                clientResponse.getHeaders().getFirst("cont-yn"),
+                                clientResponse.getHeaders().getFirst("next-key"));
+                    });
+            
+            if (response != null && !response.page.isSuccess() && tokenManager.isAuthErrorReturnCode(response.page.getReturnCode())) {
+                throw new KiwoomAuthException("키움 API 인증 오류: return_code=" + response.page.getReturnCode()
+                        + ", return_msg=" + response.page.getReturnMsg());
+            }
+            if (response != null && !response.page.isSuccess() && callGuard.isThrottleReturnCode(response.page.getReturnCode())) {
+                outcome = KiwoomCallGuard.Outcome.THROTTLED;
+                throw new KiwoomThrottledException("키움 API 호출 한도 초과: return_code=" + response.page.getReturnCode()
+                        + ", return_msg=" + response.page.getReturnMsg());
+            }
+            outcome = KiwoomCallGuard.Outcome.SUCCESS;
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == HttpStatus.UNAUTHORIZED.value()) {
+                throw new KiwoomAuthException("키움 API 인증 오류: HTTP 401");
             }
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                outcome = KiwoomCallGuard.Outcome.THROTTLED;
+            } else if (e.getStatusCode().is5xxServerError()) {
+                outcome = KiwoomCallGuard.Outcome.FAILURE;
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = KiwoomCallGuard.Outcome.FAILURE;
+            throw e;
+        } finally {
+            callGuard.release(callStart, outcome);
+        }
+        return response;
+    }
+    
+    /**
+     * 응답 페이지와 연속조회 헤더
+     */
+    private static class PageResponse {
+        private final Ka10086ResponseParser.Page page;
+        private final String contYn;
+        private final String nextKey;
+
+        private PageResponse(Ka10086ResponseParser.Page page, String contYn, String nextKey) {
+            this.page = page;
+            this.contYn = contYn;
+            this.nextKey = nextKey;
         }
-
-        logger.info("키움 API 일별 주가 조회 완료: {} 건", allRows.size());
-        return allRows;
     }
     
     /**
@@ -0,0 +1,290 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 키움 API 비동기 클라이언트
+ * JDK {@link HttpClient}의 sendAsync 위에서 동작하여 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * 연속조회 페이지와 재시도 대기는 스레드를 재우지 않고 {@link CompletableFuture} 연결로 처리하며,
+ * 토큰 캐시, 동시 호출 한도(callGuard), 호출 속도(rateLimiter)는 동기 클라이언트({@link KiwoomApiClient})와 공유합니다.
+ * RealTrade 현재가 업데이트에서 스냅샷에 없는 종목들의 당일 봉을 한꺼번에 조회할 때 사용합니다.
+ */
+@Service
+public class KiwoomAsyncApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiwoomAsyncApiClient.class);
+
+    private static final int MAX_RETRIES = 5;
+    private static final long BASE_DELAY_MS = 1000;
+    private static final int MAX_PAGES = 100;
+
+    @Value("${kiwoom.api.host}")
+    private String host;
+
+    @Value("${kiwoom.api.timeout:10}")
+    private int timeout;
+
+    private final KiwoomTokenManager tokenManager;
+    private final KiwoomRateLimiter rateLimiter;
+    private final KiwoomCallGuard callGuard;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 응답 콜백(파싱, 다음 페이지 요청)을 실행할 가상 스레드 실행기
+    private final ExecutorService callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    public KiwoomAsyncApiClient(KiwoomTokenManager tokenManager, KiwoomRateLimiter rateLimiter, KiwoomCallGuard callGuard,
+                                @Value("${kiwoom.api.connect-timeout:3}") int connectTimeout) {
+        this.tokenManager = tokenManager;
+        this.rateLimiter = rateLimiter;
+        this.callGuard = callGuard;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(connectTimeout))
+            .executor(callbackExecutor)
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbackExecutor.shutdown();
+    }
+
+    /**
+     * 접근 토큰 발급 (au10001) - 유효한 토큰이 있으면 재사용
+     * 발급 중인 요청이 있으면 같은 future를 공유합니다({@link KiwoomTokenManager}).
+     */
+    public CompletableFuture<KiwoomApiClient.TokenResponse> getAccessTokenAsync() {
+        return tokenManager.getTokenAsync();
+    }
+
+    /**
+     * 일별 주가 조회 (ka10086) - 최신 거래일부터 최대 maxCount건
+     */
+    public CompletableFuture<List<KiwoomApiClient.DailyPriceData>> fetchDailyPricesAsync(
+            String token, String stockCode, String queryDate, int maxCount) {
+        return fetchDailyPricesAsync(token, stockCode, queryDate, null, maxCount);
+    }
+
+    /**
+     * 일별 주가 조회 (ka10086) - since(포함) 이후 거래일만, 최대 maxCount건
+     * since보다 오래된 행이 나온 페이지에서 연속조회를 멈춥니다.
+     * 네트워크 오류나 호출 한도 초과 시 1초, 2초, 4초, 8초 간격으로 최대 5회까지 다시 시도하며,
+     * 이미 받은 페이지는 유지하고 실패한 페이지부터 이어서 요청합니다.
+     * 차단기가 열려 있으면 {@link KiwoomCircuitOpenException}으로 즉시 실패하고,
+     * 인증 오류면 토큰을 재발급받아 한 번 더 조회합니다.
+     */
+    public CompletableFuture<List<KiwoomApiClient.DailyPriceData>> fetchDailyPricesAsync(
+            String token, String stockCode, String queryDate, LocalDate since, int maxCount) {
+        return fetchWithRetry(tokenManager.resolve(token), stockCode, queryDate,
+            DailyPriceSeries.packDate(since), maxCount, new DailyPriceCursor(), 1, false)
+            .thenApply(DailyPriceSeries::toList);
+    }
+
+    private CompletableFuture<DailyPriceSeries> fetchWithRetry(
+            String token, String stockCode, String queryDate, int sinceDate, int maxCount,
+            DailyPriceCursor cursor, int attempt, boolean authRetried) {
+        logger.info("키움 API 일별 주가 비동기 조회 시도 {}/{}: {} ({}페이지부터)",
+            attempt, MAX_RETRIES, stockCode, cursor.getCompletedPages() + 1);
+        return fetchPages(token, stockCode, queryDate, sinceDate, maxCount, cursor)
+            .handle((rows, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(rows);
+                }
+                Throwable cause = unwrap(error);
+                if (cause instanceof KiwoomAuthException && !authRetried) {
+                    return tokenManager.refreshAfterAuthFailureAsync(token)
+                        .thenCompose(refreshed -> fetchWithRetry(refreshed.getToken(), stockCode, queryDate, sinceDate, maxCount, cursor, attempt, true));
+                }
+                boolean retryable = cause instanceof IOException || cause instanceof KiwoomThrottledException;
+                if (!retryable || attempt >= MAX_RETRIES) {
+                    if (retryable) {
+                        logger.error("키움 API 최대 재시도 횟수 초과, 최종 실패: {}", stockCode);
+                    }
+                    return CompletableFuture.<DailyPriceSeries>failedFuture(cause);
+                }
+                long delay = BASE_DELAY_MS << (attempt - 1);
+                logger.warn("키움 API 네트워크 오류 발생 (시도 {}/{}): {}, {}ms 후 재시도",
+                    attempt, MAX_RETRIES, cause.getMessage(), delay);
+                return CompletableFuture.supplyAsync(() -> null, delayed(delay, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> fetchWithRetry(token, stockCode, queryDate, sinceDate, maxCount, cursor, attempt + 1, authRetried));
+            })
+            .thenCompose(future -> future);
+    }
+
+    /**
+     * cursor 위치의 페이지를 요청하고, 연속조회가 필요하면 다음 페이지 요청을 이어 붙임
+     * 성공한 페이지만 cursor에 반영하므로 실패 후 재시도는 같은 페이지부터 시작합니다.
+     */
+    private CompletableFuture<DailyPriceSeries> fetchPages(
+            String token, String stockCode, String queryDate, int sinceDate, int maxCount,
+            DailyPriceCursor cursor) {
+        int page = cursor.getCompletedPages() + 1;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(host + "/api/dostk/mrkcond"))
+            .timeout(Duration.ofSeconds(timeout))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .header("authorization", "Bearer " + token)
+            .header("cont-yn", cursor.getContYn())
+            .header("next-key", cursor.getNextKey())
+            .header("api-id", "ka10086")
+            .POST(jsonBody(Map.of(
+                "stk_cd", stockCode,
+                "qry_dt", queryDate,
+                "indc_tp", "0")))
+            .build();
+
+        CompletableFuture<PageResult> sent = sendPage(request, stockCode);
+
+        logger.info("키움 API 일별 주가 비동기 조회 요청: {} (페이지: {})", stockCode, page);
+        return sent.thenCompose(result -> {
+            HttpResponse<byte[]> response = result.response;
+            Ka10086ResponseParser.Page parsed = result.page;
+            if (!parsed.isSuccess()) {
+                String detail = "return_code=" + parsed.getReturnCode() + ", return_msg=" + parsed.getReturnMsg();
+                logger.error("키움 API 일별 주가 조회 실패: {}", detail);
+                throw new RuntimeException("키움 API 일별 주가 조회 실패: " + detail);
+            }
+            DailyPriceSeries rows = parsed.getRows();
+            cursor.advance(rows,
+                response.headers().firstValue("cont-yn").orElse("N"),
+                response.headers().firstValue("next-key").orElse(""));
+
+            // 최대 개수를 채웠거나 조회 하한일 이전 행이 나왔으면 다음 페이지를 요청하지 않음
+            boolean done = cursor.getRowCount() >= maxCount || rows.hasRowBefore(sinceDate);
+            if (!done && cursor.hasNext() && cursor.getCompletedPages() < MAX_PAGES) {
+                return fetchPages(token, stockCode, queryDate, sinceDate, maxCount, cursor);
+            }
+
+            DailyPriceSeries trimmed = cursor.getRows().trimToWindow(sinceDate, maxCount);
+            logger.info("키움 API 일별 주가 비동기 조회 완료: {} 건", trimmed.size());
+            return CompletableFuture.completedFuture(trimmed);
+        });
+    }
+
+    /**
+     * callGuard에서 슬롯을 받은 뒤(동시 호출 한도, 차단기) 한 페이지를 요청하고, 결과(정상/한도 초과/오류)를 반영
+     * 동기 클라이언트와 같이 슬롯을 먼저 받고 호출 한도(TPS) 토큰을 예약하므로,
+     * 슬롯을 기다리는 동안 토큰이 소모되지 않습니다. 토큰 대기는 스레드를 재우지 않고 지연 실행합니다.
+     */
+    private CompletableFuture<PageResult> sendPage(HttpRequest request, String stockCode) {
+        return callGuard.enterAsync().thenCompose(callStart -> {
+            long waitNanos = rateLimiter.reserve();
+            if (waitNanos <= 0) {
+                return send(request, stockCode, callStart);
+            }
+            return CompletableFuture.supplyAsync(() -> null, delayed(waitNanos, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> send(request, stockCode, callStart));
+        });
+    }
+
+    private CompletableFuture<PageResult> send(HttpRequest request, String stockCode, long callStart) {
+        AtomicReference<KiwoomCallGuard.Outcome> outcome = new AtomicReference<>(KiwoomCallGuard.Outcome.FAILURE);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                int status = response.statusCode();
+                if (status == 401) {
+                    outcome.set(KiwoomCallGuard.Outcome.IGNORED);
+                    throw new KiwoomAuthException("키움 API 인증 오류: HTTP 401");
+                }
+                if (status == 429) {
+                    outcome.set(KiwoomCallGuard.Outcome.THROTTLED);
+                    throw new KiwoomThrottledException("키움 API 호출 한도 초과: HTTP 429");
+                }
+                if (status >= 500) {
+                    // 서버 오류는 네트워크 오류와 같이 재시도 대상
+                    outcome.set(KiwoomCallGuard.Outcome.FAILURE);
+                    logger.error("키움 API 일별 주가 조회 HTTP 오류: {}", status);
+                    throw new UncheckedIOException(new IOException("키움 API 일별 주가 조회 HTTP 오류: " + status));
+                }
+                if (status != 200) {
+                    outcome.set(KiwoomCallGuard.Outcome.IGNORED);
+                    logger.error("키움 API 일별 주가 조회 HTTP 오류: {}", status);
+                    throw new RuntimeException("키움 API 일별 주가 조회 HTTP 오류: " + status);
+                }
+                Ka10086ResponseParser.Page parsed;
+                // 파싱 실패(KiwoomResponseParseException)는 재시도하지 않고 호출 한도 조정에도 반영하지 않음
+                outcome.set(KiwoomCallGuard.Outcome.IGNORED);
+                try {
+                    parsed = Ka10086ResponseParser.parse(new ByteArrayInputStream(response.body()), stockCode);
+                } catch (IOException e) {
+                    // 메모리의 본문을 읽으므로 네트워크 오류일 수 없음
+                    throw new KiwoomResponseParseException("키움 API 응답 파싱 실패: " + e.getMessage(), e);
+                }
+                if (!parsed.isSuccess() && tokenManager.isAuthErrorReturnCode(parsed.getReturnCode())) {
+                    outcome.set(KiwoomCallGuard.Outcome.IGNORED);
+                    throw new KiwoomAuthException("키움 API 인증 오류: return_code=" + parsed.getReturnCode()
+                        + ", return_msg=" + parsed.getReturnMsg());
+                }
+                if (!parsed.isSuccess() && callGuard.isThrottleReturnCode(parsed.getReturnCode())) {
+                    outcome.set(KiwoomCallGuard.Outcome.THROTTLED);
+                    throw new KiwoomThrottledException("키움 API 호출 한도 초과: return_code=" + parsed.getReturnCode()
+                        + ", return_msg=" + parsed.getReturnMsg());
+                }
+                outcome.set(KiwoomCallGuard.Outcome.SUCCESS);
+                return new PageResult(response, parsed);
+            })
+            .whenComplete((result, error) -> callGuard.release(callStart, outcome.get()));
+    }
+
+    /**
+     * 응답과 파싱된 페이지
+     */
+    private static class PageResult {
+        private final HttpResponse<byte[]> response;
+        private final Ka10086ResponseParser.Page page;
+
+        private PageResult(HttpResponse<byte[]> response, Ka10086ResponseParser.Page page) {
+            this.response = response;
+            this.page = page;
+        }
+    }
+
+    private Executor delayed(long delay, TimeUnit unit) {
+        return CompletableFuture.delayedExecutor(delay, unit, callbackExecutor);
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Map<String, String> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * CompletionException, UncheckedIOException에 감싸진 원인 예외
+     */
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
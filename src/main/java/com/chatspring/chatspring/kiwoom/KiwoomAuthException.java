@@ -0,0 +1,11 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * 키움 API가 토큰 인증 실패(HTTP 401 또는 인증 오류 return_code)로 요청을 거절했을 때 발생
+ */
+public class KiwoomAuthException extends RuntimeException {
+
+    public KiwoomAuthException(String message) {
+        super(message);
+    }
+}
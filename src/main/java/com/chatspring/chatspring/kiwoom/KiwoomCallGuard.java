@@ -0,0 +1,332 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 키움 API 호출 보호기 (모든 호출이 공유)
+ * 동시 호출 수를 AIMD 방식으로 조절하고, 연속 실패 시 차단기를 열어 잠시 호출을 멈춥니다.
+ * <ul>
+ *   <li>정상 응답: 동시 호출 한도를 조금씩(+1/한도) 늘림</li>
+ *   <li>호출 한도 초과, 지연 임계값 초과, 네트워크/5xx 오류: 한도를 절반으로 줄임 (감소 간격 내 1회)</li>
+ *   <li>네트워크/5xx 오류가 연속으로 쌓이면 차단기 OPEN → 대기 후 HALF_OPEN에서 시험 호출 1건</li>
+ * </ul>
+ * 동기 클라이언트는 {@link #acquire()}로 슬롯이 날 때까지 스레드를 재우고,
+ * 비동기 클라이언트는 {@link #enterAsync()}로 대기열에 들어가 슬롯이 반환될 때 이어서 실행됩니다.
+ */
+@Component
+public class KiwoomCallGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiwoomCallGuard.class);
+
+    public enum Outcome {
+        /** 정상 응답 */
+        SUCCESS,
+        /** 호출 한도 초과 (HTTP 429, 한도 초과 return_code) */
+        THROTTLED,
+        /** 네트워크 오류, 5xx */
+        FAILURE,
+        /** API 상태와 무관한 결과 (요청 오류 등) - 한도와 차단기에 반영하지 않음 */
+        IGNORED
+    }
+
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long decreaseIntervalNanos;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Set<String> throttleReturnCodes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotAvailable = lock.newCondition();
+    // 슬롯을 기다리는 비동기 호출 (도착 순)
+    private final ArrayDeque<CompletableFuture<Long>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean halfOpenTrialInFlight;
+
+    // 상태 조회용 누적 지표
+    private long successCount;
+    private long throttledCount;
+    private long failureCount;
+    private long rejectedCount;
+    private long circuitOpenCount;
+    // 끝난 호출 수 (진행 상황 조회용, 락 없이 읽음)
+    private final LongAdder callCount = new LongAdder();
+    private LocalDateTime lastThrottledAt;
+    private LocalDateTime lastOpenedAt;
+
+    public KiwoomCallGuard(@Value("${kiwoom.update.concurrency:4}") int maxLimit,
+                           @Value("${kiwoom.api.guard.min-concurrency:1}") int minLimit,
+                           @Value("${kiwoom.api.guard.latency-threshold-ms:3000}") long latencyThresholdMs,
+                           @Value("${kiwoom.api.guard.decrease-interval-ms:1000}") long decreaseIntervalMs,
+                           @Value("${kiwoom.api.guard.failure-threshold:5}") int failureThreshold,
+                           @Value("${kiwoom.api.guard.open-duration-seconds:30}") long openDurationSeconds,
+                           @Value("${kiwoom.api.guard.throttle-return-codes:5}") String throttleReturnCodes) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.decreaseIntervalNanos = TimeUnit.MILLISECONDS.toNanos(decreaseIntervalMs);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.SECONDS.toNanos(openDurationSeconds);
+        this.throttleReturnCodes = Arrays.stream(throttleReturnCodes.split(","))
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * 호출 슬롯을 얻을 때까지 대기 (차단기가 열려 있으면 즉시 실패)
+     *
+     * @return 호출 시작 시각(ns) - {@link #release(long, Outcome)}에 그대로 전달
+     */
+    public long acquire() {
+        lock.lock();
+        try {
+            while (true) {
+                if (circuitRejects()) {
+                    throw circuitOpen();
+                }
+                if (inFlight < (int) limit) {
+                    return admit();
+                }
+                slotAvailable.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("API 호출 대기 중 인터럽트 발생", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스레드를 막지 않고 호출 슬롯 요청 (비동기 클라이언트용)
+     * 슬롯이 있으면 바로, 없으면 슬롯이 반환될 때 호출 시작 시각(ns)으로 완료됩니다.
+     * 차단기가 열려 있거나 HALF_OPEN 시험 호출이 이미 진행 중이면 {@link KiwoomCircuitOpenException}으로 실패합니다.
+     */
+    public CompletableFuture<Long> enterAsync() {
+        lock.lock();
+        try {
+            if (circuitRejects()) {
+                return CompletableFuture.failedFuture(circuitOpen());
+            }
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                return CompletableFuture.completedFuture(admit());
+            }
+            CompletableFuture<Long> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 결과 반영 및 슬롯 반환
+     */
+    public void release(long startNanos, Outcome outcome) {
+        long now = System.nanoTime();
+        callCount.increment();
+        List<Runnable> handoffs;
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - 1);
+            switch (outcome) {
+                case SUCCESS -> onSuccess(now, now - startNanos);
+                case THROTTLED -> onThrottled(now);
+                case FAILURE -> onFailure(now);
+                case IGNORED -> { }
+            }
+            if (circuitState == CircuitState.HALF_OPEN && outcome == Outcome.IGNORED) {
+                halfOpenTrialInFlight = false;
+            }
+            slotAvailable.signalAll();
+            handoffs = admitWaiters();
+        } finally {
+            lock.unlock();
+        }
+        // 대기하던 호출의 후속 처리는 락 밖에서 실행
+        handoffs.forEach(Runnable::run);
+    }
+
+    /**
+     * 남는 슬롯만큼 대기 중인 비동기 호출을 받아들임 (락 안에서 호출, 완료는 반환된 작업으로 락 밖에서)
+     * 차단기가 호출을 막는 상태면 대기 중인 호출을 모두 실패시킴
+     */
+    private List<Runnable> admitWaiters() {
+        List<Runnable> handoffs = new ArrayList<>();
+        while (!waiters.isEmpty()) {
+            if (circuitRejects()) {
+                KiwoomCircuitOpenException rejected = circuitOpen();
+                List<CompletableFuture<Long>> failed = new ArrayList<>(waiters);
+                waiters.clear();
+                rejectedCount += failed.size() - 1;
+                handoffs.add(() -> failed.forEach(waiter -> waiter.completeExceptionally(rejected)));
+                break;
+            }
+            if (inFlight >= (int) limit) {
+                break;
+            }
+            CompletableFuture<Long> waiter = waiters.poll();
+            long start = admit();
+            handoffs.add(() -> {
+                // 기다리던 쪽이 취소했으면 슬롯을 바로 돌려줌
+                if (!waiter.complete(start)) {
+                    release(start, Outcome.IGNORED);
+                }
+            });
+        }
+        return handoffs;
+    }
+
+    /**
+     * 지금까지 끝난 호출 수 (성공/실패 구분 없음)
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * 응답 return_code가 호출 한도 초과를 뜻하는지 확인
+     */
+    public boolean isThrottleReturnCode(String returnCode) {
+        return returnCode != null && throttleReturnCodes.contains(returnCode.trim());
+    }
+
+    /**
+     * 차단기가 호출을 막는지 확인 (OPEN 대기 시간이 지났으면 HALF_OPEN으로 전환, 락 안에서 호출)
+     * HALF_OPEN에서는 시험 호출 1건만 통과시킴
+     */
+    private boolean circuitRejects() {
+        if (circuitState == CircuitState.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            circuitState = CircuitState.HALF_OPEN;
+            halfOpenTrialInFlight = false;
+            logger.info("키움 API 차단기 HALF_OPEN - 시험 호출 허용");
+        }
+        if (circuitState == CircuitState.OPEN
+                || (circuitState == CircuitState.HALF_OPEN && halfOpenTrialInFlight)) {
+            rejectedCount++;
+            return true;
+        }
+        return false;
+    }
+
+    private KiwoomCircuitOpenException circuitOpen() {
+        return new KiwoomCircuitOpenException("키움 API 차단기 " + circuitState + " - 호출을 건너뜁니다");
+    }
+
+    // 슬롯 하나를 차지 (락 안에서 호출) - HALF_OPEN이면 이 호출이 시험 호출
+    private long admit() {
+        if (circuitState == CircuitState.HALF_OPEN) {
+            halfOpenTrialInFlight = true;
+        }
+        inFlight++;
+        return System.nanoTime();
+    }
+
+    private void onSuccess(long now, long latencyNanos) {
+        successCount++;
+        consecutiveFailures = 0;
+        if (circuitState == CircuitState.HALF_OPEN) {
+            circuitState = CircuitState.CLOSED;
+            halfOpenTrialInFlight = false;
+            logger.info("키움 API 차단기 CLOSED - 시험 호출 성공");
+        }
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease(now, "응답 지연 " + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + "ms");
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private void onThrottled(long now) {
+        throttledCount++;
+        lastThrottledAt = LocalDateTime.now();
+        if (circuitState == CircuitState.HALF_OPEN) {
+            // 한도 초과는 API가 살아 있다는 뜻이므로 차단기는 닫되, 한도는 줄임
+            circuitState = CircuitState.CLOSED;
+            halfOpenTrialInFlight = false;
+        }
+        decrease(now, "호출 한도 초과");
+    }
+
+    private void onFailure(long now) {
+        failureCount++;
+        consecutiveFailures++;
+        decrease(now, "오류 응답");
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            circuitState = CircuitState.OPEN;
+            openedAtNanos = now;
+            halfOpenTrialInFlight = false;
+            circuitOpenCount++;
+            lastOpenedAt = LocalDateTime.now();
+            logger.warn("키움 API 차단기 OPEN - 연속 실패 {}회, {}초 동안 호출 중단",
+                consecutiveFailures, TimeUnit.NANOSECONDS.toSeconds(openDurationNanos));
+        }
+    }
+
+    private void decrease(long now, String reason) {
+        // 동시에 실패한 호출들이 한도를 연쇄적으로 깎지 않도록 감소 간격 내 1회만 적용
+        if (now - lastDecreaseNanos < decreaseIntervalNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double previous = limit;
+        limit = Math.max(minLimit, limit / 2);
+        logger.warn("키움 API 동시 호출 한도 감소: {} → {} ({})",
+            String.format("%.1f", previous), String.format("%.1f", limit), reason);
+    }
+
+    /**
+     * 현재 상태 (상태 조회 API, 실행 로그용)
+     */
+    public Map<String, Object> getStatus() {
+        lock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("circuitState", circuitState.name());
+            status.put("concurrencyLimit", (int) limit);
+            status.put("maxConcurrency", maxLimit);
+            status.put("inFlight", inFlight);
+            status.put("queued", waiters.size());
+            status.put("successCount", successCount);
+            status.put("throttledCount", throttledCount);
+            status.put("failureCount", failureCount);
+            status.put("rejectedCount", rejectedCount);
+            status.put("circuitOpenCount", circuitOpenCount);
+            status.put("lastThrottledAt", lastThrottledAt);
+            status.put("lastOpenedAt", lastOpenedAt);
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
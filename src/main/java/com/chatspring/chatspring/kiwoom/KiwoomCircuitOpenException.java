@@ -0,0 +1,13 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * 키움 API 차단기(circuit breaker)가 열려 있어 호출하지 않고 즉시 실패할 때 발생
+ * 재시도 대상(RestClientException)이 아니므로 작업은 바로 다음 종목으로 넘어가고,
+ * 실패한 종목은 재처리(retry-failures) 대상으로 남습니다.
+ */
+public class KiwoomCircuitOpenException extends RuntimeException {
+
+    public KiwoomCircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,79 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 종목별 업데이트 작업을 가상 스레드로 병렬 실행하는 실행기
+ * 동시에 실행되는 작업 수는 kiwoom.update.concurrency로 제한하고,
+ * 실제 API 호출 속도는 {@link KiwoomRateLimiter}가 조절합니다.
+ */
+@Component
+public class KiwoomJobExecutor {
+
+    private final int concurrency;
+
+    public KiwoomJobExecutor(@Value("${kiwoom.update.concurrency:4}") int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * 모든 항목에 대해 작업을 실행하고, 전부 끝날 때까지 대기
+     * 작업 내부의 예외 처리는 호출하는 쪽에서 담당합니다.
+     */
+    public <T> void runAll(String name, List<T> items, Consumer<T> task) {
+        runAll(name, items, () -> true, task);
+    }
+
+    /**
+     * 목록 순서대로 작업을 시작하고, 전부 끝날 때까지 대기
+     * 빈 자리가 생길 때마다 다음 항목을 시작하므로 앞쪽 항목이 먼저 처리되며,
+     * 항목을 시작하기 전에 admit이 false를 반환하면 나머지 항목은 시작하지 않습니다.
+     *
+     * @return 시작한 항목 수
+     */
+    public <T> int runAll(String name, List<T> items, BooleanSupplier admit, Consumer<T> task) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        int started = 0;
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-", 0).factory())) {
+            for (T item : items) {
+                // 자리를 먼저 확보한 뒤 제출해야 목록 순서대로 시작됨
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (!admit.getAsBoolean()) {
+                    permits.release();
+                    break;
+                }
+                started++;
+                executor.submit(() -> {
+                    try {
+                        task.accept(item);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } // close()가 모든 작업 종료를 기다림
+        return started;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
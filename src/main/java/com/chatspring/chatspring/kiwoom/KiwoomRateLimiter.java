@@ -0,0 +1,70 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키움 API 호출 한도(TPS)를 지키기 위한 토큰 버킷
+ * 모든 워커 스레드가 하나의 버킷을 공유하며, 토큰이 없으면 다음 토큰이 채워질 때까지 대기합니다.
+ */
+@Component
+public class KiwoomRateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burst;
+
+    // 음수이면 이미 예약된 대기 토큰이 있다는 뜻 (먼저 요청한 스레드가 먼저 나감)
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    public KiwoomRateLimiter(@Value("${kiwoom.api.rate-limit.tps:5}") double permitsPerSecond,
+                             @Value("${kiwoom.api.rate-limit.burst:2}") int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("kiwoom.api.rate-limit.tps는 0보다 커야 합니다: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.storedPermits = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개를 얻을 때까지 대기
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("API 호출 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 토큰 1개를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        double refill = (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond;
+        storedPermits = Math.min(burst, storedPermits + refill);
+        lastRefillNanos = now;
+
+        storedPermits -= 1;
+        if (storedPermits >= 0) {
+            return 0;
+        }
+        return (long) (-storedPermits / permitsPerSecond * 1_000_000_000L);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,12 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * 키움 API 응답 본문이 JSON 형식이 아니어서 파싱할 수 없을 때 발생
+ * 같은 요청을 다시 보내도 결과가 같으므로 재시도하지 않고 해당 종목만 실패로 기록합니다.
+ */
+public class KiwoomResponseParseException extends RuntimeException {
+
+    public KiwoomResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
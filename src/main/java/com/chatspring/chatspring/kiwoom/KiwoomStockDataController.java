@@ -1,5 +1,6 @@
 package com.chatspring.chatspring.kiwoom;
 
+import com.chatspring.chatspring.kiwoom.realtime.QuoteStreamService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,10 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
+import java.util.Optional;
 import com.chatspring.chatspring.jugot.Jugot;
+import com.chatspring.chatspring.scalping.stock.dto.DailyCandleDto;
+import org.springframework.format.annotation.DateTimeFormat;
 
 @RestController
 @RequestMapping("/api/kiwoom")
@@ -21,6 +27,18 @@ public class KiwoomStockDataController {
     @Autowired
     private StockDataUpdateService stockDataUpdateService;
     
+    @Autowired
+    private DailyCandleStore dailyCandleStore;
+    
+    @Autowired
+    private StockJobCheckpointService checkpointService;
+    
+    @Autowired
+    private KiwoomCallGuard kiwoomCallGuard;
+    
+    @Autowired
+    private QuoteStreamService quoteStreamService;
+    
     /**
      * 특정 종목 데이터 수동 업데이트
      */
@@ -50,13 +68,19 @@ public class KiwoomStockDataController {
     
     /**
      * 모든 올해 종목 데이터 수동 업데이트 (테스트용)
+     * 휴장일에는 건너뛰며, force=true면 휴장일에도 실행
      */
     @RequestMapping(value = "/update-all", method = {RequestMethod.GET, RequestMethod.POST})
-    public ResponseEntity<Map<String, Object>> updateAllStockData() {
+    public ResponseEntity<Map<String, Object>> updateAllStockData(@RequestParam(defaultValue = "false") boolean force) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            stockDataUpdateService.updateStockDataDaily();
+            if (!stockDataUpdateService.updateStockDataDaily(force)) {
+                response.put("success", false);
+                response.put("skipped", true);
+                response.put("message", "휴장일이라 업데이트를 건너뛰었습니다 (force=true로 강제 실행)");
+                return ResponseEntity.ok(response);
+            }
             
             response.put("success", true);
             response.put("message", "모든 종목 데이터 업데이트 완료");
@@ -73,6 +97,89 @@ public class KiwoomStockDataController {
         }
     }
     
+    /**
+     * 직전 실행에서 실패했거나 중단된 종목만 다시 업데이트
+     */
+    @PostMapping("/retry-failures")
+    public ResponseEntity<Map<String, Object>> retryFailures() {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            Optional<StockJobRun> run = stockDataUpdateService.retryFailures();
+            
+            response.put("success", true);
+            if (run.isPresent()) {
+                response.put("message", "실패 종목 재처리 완료");
+                response.put("run", toRunSummary(run.get()));
+            } else {
+                response.put("message", "재처리할 실패 종목이 없습니다");
+            }
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("실패 종목 재처리 실패", e);
+            
+            response.put("success", false);
+            response.put("message", "실패 종목 재처리 실패: " + e.getMessage());
+            
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
+    /**
+     * 최근 업데이트 실행 상태와 실패 종목 조회
+     */
+    @GetMapping("/job-runs/latest")
+    public ResponseEntity<Map<String, Object>> getLatestRun() {
+        Map<String, Object> response = new HashMap<>();
+        Optional<StockJobRun> run = checkpointService.findLatestRun();
+        response.put("success", true);
+        if (run.isPresent()) {
+            response.put("run", toRunSummary(run.get()));
+            response.put("failedItems", checkpointService.getFailedItems(run.get().getId()).stream()
+                .map(item -> {
+                    Map<String, Object> failed = new HashMap<>();
+                    failed.put("stockCode", item.getStockCode());
+                    failed.put("attempts", item.getAttempts());
+                    failed.put("lastError", item.getLastError());
+                    failed.put("durationMs", item.getDurationMs());
+                    return failed;
+                })
+                .toList());
+        }
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 키움 API 호출 보호기 상태 (차단기 상태, 현재 동시 호출 한도, 한도 초과/오류 횟수)
+     */
+    @GetMapping("/call-guard")
+    public ResponseEntity<Map<String, Object>> getCallGuardStatus() {
+        return ResponseEntity.ok(kiwoomCallGuard.getStatus());
+    }
+    
+    /**
+     * 실시간 시세 중계 상태 조회
+     */
+    @GetMapping("/realtime/status")
+    public ResponseEntity<Map<String, Object>> getRealtimeStatus() {
+        return ResponseEntity.ok(quoteStreamService.getStatus());
+    }
+    
+    private Map<String, Object> toRunSummary(StockJobRun run) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("id", run.getId());
+        summary.put("status", run.getStatus());
+        summary.put("startedAt", run.getStartedAt());
+        summary.put("finishedAt", run.getFinishedAt());
+        summary.put("totalCount", run.getTotalCount());
+        summary.put("okCount", run.getOkCount());
+        summary.put("failedCount", run.getFailedCount());
+        summary.put("resumeCount", run.getResumeCount());
+        return summary;
+    }
+    
     /**
      * 간단한 테스트 API (키움 API 호출 없이)
      */
@@ -107,4 +214,48 @@ public class KiwoomStockDataController {
             return ResponseEntity.internalServerError().body(response);
         }
     }
+    
+    /**
+     * 로컬에 저장된 일봉 조회 (키움 API 호출 없음)
+     * 예) /api/kiwoom/candles/005930?from=2025-01-01&to=2025-03-31
+     */
+    @GetMapping("/candles/{stockCode}")
+    public ResponseEntity<List<DailyCandleDto>> getCandles(
+            @PathVariable String stockCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        List<DailyCandleDto> candles = dailyCandleStore.getCandles(stockCode, from, end).stream()
+            .map(candle -> {
+                DailyCandleDto dto = new DailyCandleDto();
+                dto.setDate(candle.getTradeDate().toString());
+                dto.setOpen(candle.getOpenPrice() != null ? candle.getOpenPrice() : 0);
+                dto.setHigh(candle.getHighPrice() != null ? candle.getHighPrice() : 0);
+                dto.setLow(candle.getLowPrice() != null ? candle.getLowPrice() : 0);
+                dto.setClose(candle.getClosePrice() != null ? candle.getClosePrice() : 0);
+                dto.setVolume(candle.getVolume() != null ? candle.getVolume() : 0L);
+                return dto;
+            })
+            .toList();
+        return ResponseEntity.ok(candles);
+    }
+    
+    /**
+     * 로컬 일봉 기준 기간 최고가/최저가 조회
+     * 예) /api/kiwoom/candles/005930/range?from=2025-01-02
+     */
+    @GetMapping("/candles/{stockCode}/range")
+    public ResponseEntity<Map<String, Object>> getCandleRange(
+            @PathVariable String stockCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Map<String, Object> response = new HashMap<>();
+        response.put("stockCode", stockCode);
+        response.put("from", from);
+        response.put("to", end);
+        response.put("highestPrice", dailyCandleStore.highestHigh(stockCode, from, end));
+        response.put("lowestPrice", dailyCandleStore.lowestLow(stockCode, from, end));
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,11 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * 키움 API가 호출 한도 초과(HTTP 429 또는 설정된 return_code)로 요청을 거절했을 때 발생
+ */
+public class KiwoomThrottledException extends RuntimeException {
+
+    public KiwoomThrottledException(String message) {
+        super(message);
+    }
+}
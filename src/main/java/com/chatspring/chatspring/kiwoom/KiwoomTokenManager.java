@@ -0,0 +1,255 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 키움 API 접근 토큰 관리 (au10001)
+ * <ul>
+ *   <li>동시에 여러 스레드가 만료를 감지해도 발급 요청은 한 번만 보내고, 모두 같은 future를 기다립니다.</li>
+ *   <li>expires_dt 기준으로 만료 전에 백그라운드에서 미리 재발급합니다.</li>
+ *   <li>호출이 인증 오류로 거절되면 해당 토큰을 폐기하고 한 번 재발급합니다.</li>
+ * </ul>
+ */
+@Component
+public class KiwoomTokenManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiwoomTokenManager.class);
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter EXPIRES_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    // expires_dt를 해석할 수 없을 때 사용하는 유효 기간 (기존 캐시 정책)
+    private static final Duration FALLBACK_LIFETIME = Duration.ofHours(23);
+
+    @Value("${kiwoom.api.appkey}")
+    private String appkey;
+
+    @Value("${kiwoom.api.secretkey}")
+    private String secretkey;
+
+    @Value("${kiwoom.api.host}")
+    private String host;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration refreshAhead;
+    private final Duration expirySkew;
+    private final Set<String> authErrorReturnCodes;
+
+    private volatile TokenState current;
+    private final AtomicReference<CompletableFuture<TokenState>> inFlight = new AtomicReference<>();
+
+    public KiwoomTokenManager(RestTemplate restTemplate,
+                              @Value("${kiwoom.api.token.refresh-ahead-minutes:30}") long refreshAheadMinutes,
+                              @Value("${kiwoom.api.token.expiry-skew-seconds:60}") long expirySkewSeconds,
+                              @Value("${kiwoom.api.token.auth-error-return-codes:3}") String authErrorReturnCodes) {
+        this.restTemplate = restTemplate;
+        this.refreshAhead = Duration.ofMinutes(refreshAheadMinutes);
+        this.expirySkew = Duration.ofSeconds(expirySkewSeconds);
+        this.authErrorReturnCodes = Arrays.stream(authErrorReturnCodes.split(","))
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 유효한 토큰 반환 (없거나 만료되었으면 발급될 때까지 대기)
+     */
+    public KiwoomApiClient.TokenResponse getToken() {
+        return await(getTokenAsync());
+    }
+
+    /**
+     * 유효한 토큰 반환 (비동기)
+     */
+    public CompletableFuture<KiwoomApiClient.TokenResponse> getTokenAsync() {
+        TokenState state = current;
+        if (state != null && state.isUsable(Instant.now(), expirySkew)) {
+            return CompletableFuture.completedFuture(state.response);
+        }
+        return refresh().thenApply(refreshed -> refreshed.response);
+    }
+
+    /**
+     * 인증 오류로 거절된 토큰을 폐기하고 새 토큰 반환
+     * 다른 스레드가 이미 재발급했다면 그 토큰을 그대로 사용합니다.
+     */
+    public String refreshAfterAuthFailure(String failedToken) {
+        return await(refreshAfterAuthFailureAsync(failedToken)).getToken();
+    }
+
+    public CompletableFuture<KiwoomApiClient.TokenResponse> refreshAfterAuthFailureAsync(String failedToken) {
+        TokenState state = current;
+        if (state != null && !state.response.getToken().equals(failedToken) && state.isUsable(Instant.now(), expirySkew)) {
+            return CompletableFuture.completedFuture(state.response);
+        }
+        logger.warn("키움 API 인증 오류 - 토큰을 재발급합니다");
+        return refresh().thenApply(refreshed -> refreshed.response);
+    }
+
+    /**
+     * 호출자가 들고 있는 토큰이 이미 교체되었으면 현재 토큰으로 바꿔 반환
+     * (실행 시작 시 받은 토큰을 계속 쓰는 작업이 재발급 이후 인증 오류를 반복하지 않도록)
+     */
+    public String resolve(String token) {
+        TokenState state = current;
+        if (state != null && !state.response.getToken().equals(token) && state.isUsable(Instant.now(), expirySkew)) {
+            return state.response.getToken();
+        }
+        return token;
+    }
+
+    public boolean isAuthErrorReturnCode(String returnCode) {
+        return returnCode != null && authErrorReturnCodes.contains(returnCode.trim());
+    }
+
+    /**
+     * 만료 임박 토큰 선제 재발급 (토큰을 한 번이라도 사용한 경우에만)
+     * 일일 업데이트 중에도 돌아야 하므로 전용 스케줄러에서 실행
+     */
+    @Scheduled(fixedDelayString = "${kiwoom.api.token.check-interval-ms:60000}", scheduler = SchedulerConfig.TOKEN_SCHEDULER)
+    public void refreshIfExpiring() {
+        TokenState state = current;
+        if (state == null || Instant.now().isBefore(state.expiresAt.minus(refreshAhead))) {
+            return;
+        }
+        logger.info("키움 API 토큰 만료 임박 (만료일: {}) - 백그라운드 재발급", state.response.getExpiresDt());
+        refresh().exceptionally(e -> {
+            logger.error("키움 API 토큰 선제 재발급 실패: {}", e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 발급 요청을 한 번만 보내고, 진행 중인 요청이 있으면 그 future를 공유
+     */
+    private CompletableFuture<TokenState> refresh() {
+        while (true) {
+            CompletableFuture<TokenState> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<TokenState> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                // 대기자를 깨우기 전에 inFlight를 비워야, 실패를 받은 호출자가 바로 다시 요청할 때 끝난 future를 다시 받지 않음
+                Thread.ofVirtual().name("kiwoom-token-refresh").start(() -> {
+                    TokenState issued;
+                    try {
+                        issued = issueToken();
+                    } catch (Throwable e) {
+                        inFlight.compareAndSet(created, null);
+                        created.completeExceptionally(e);
+                        return;
+                    }
+                    current = issued;
+                    inFlight.compareAndSet(created, null);
+                    created.complete(issued);
+                });
+                return created;
+            }
+        }
+    }
+
+    /**
+     * 새로운 접근 토큰 발급 (au10001)
+     */
+    private TokenState issueToken() {
+        String url = host + "/oauth2/token";
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        Map<String, String> body = new HashMap<>();
+        body.put("grant_type", "client_credentials");
+        body.put("appkey", appkey);
+        body.put("secretkey", secretkey);
+        
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+        
+        try {
+            logger.info("키움 API 토큰 발급 요청: {}", url);
+            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+            
+            if (response.getStatusCode() != HttpStatus.OK) {
+                logger.error("키움 API 토큰 발급 HTTP 오류: {}", response.getStatusCode());
+                throw new RuntimeException("키움 API 토큰 발급 HTTP 오류: " + response.getStatusCode());
+            }
+            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            if (!"0".equals(jsonNode.path("return_code").asText())) {
+                logger.error("키움 API 토큰 발급 실패: {}", response.getBody());
+                throw new RuntimeException("키움 API 토큰 발급 실패: " + response.getBody());
+            }
+            
+            String token = jsonNode.get("token").asText();
+            String expiresDt = jsonNode.get("expires_dt").asText();
+            logger.info("키움 API 토큰 발급 성공, 만료일: {}", expiresDt);
+            return new TokenState(new KiwoomApiClient.TokenResponse(token, expiresDt), parseExpiresAt(expiresDt));
+        } catch (Exception e) {
+            logger.error("키움 API 토큰 발급 중 오류 발생", e);
+            throw new RuntimeException("키움 API 토큰 발급 중 오류 발생", e);
+        }
+    }
+
+    private static Instant parseExpiresAt(String expiresDt) {
+        try {
+            return LocalDateTime.parse(expiresDt, EXPIRES_DT_FORMAT).atZone(KST).toInstant();
+        } catch (DateTimeParseException | NullPointerException e) {
+            logger.warn("키움 API 토큰 만료일 형식 오류 ({}), {}시간 유효로 간주합니다", expiresDt, FALLBACK_LIFETIME.toHours());
+            return Instant.now().plus(FALLBACK_LIFETIME);
+        }
+    }
+
+    private static KiwoomApiClient.TokenResponse await(CompletableFuture<KiwoomApiClient.TokenResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("키움 API 토큰 발급 중 오류 발생", e.getCause());
+        }
+    }
+
+    /**
+     * 발급된 토큰과 만료 시각
+     */
+    private static class TokenState {
+        private final KiwoomApiClient.TokenResponse response;
+        private final Instant expiresAt;
+
+        private TokenState(KiwoomApiClient.TokenResponse response, Instant expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isUsable(Instant now, Duration skew) {
+            return now.isBefore(expiresAt.minus(skew));
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * KRX 거래일 달력
+ * 주말과 휴장일 표(classpath:kiwoom/krx-calendar.csv + kiwoom.calendar.extra-holidays)로 거래일을 판단하고,
+ * 개장/마감 시각이 다른 날(수능일, 연초 개장일)의 거래시간을 제공합니다.
+ *
+ * 표가 포함하는 연도 구간은 생성 시 "그날 이전 거래일 수" 배열을 미리 계산해 두어,
+ * 거래일 수 계산과 n거래일 이동이 O(1)입니다. 구간 밖은 주말만 제외하고 계산합니다.
+ */
+@Component
+public class KrxTradingCalendar {
+
+    private static final Logger logger = LoggerFactory.getLogger(KrxTradingCalendar.class);
+
+    private static final String CALENDAR_RESOURCE = "/kiwoom/krx-calendar.csv";
+    private static final LocalTime REGULAR_OPEN = LocalTime.of(9, 0);
+    private static final LocalTime REGULAR_CLOSE = LocalTime.of(15, 30);
+    // 매년 첫 거래일은 1시간 늦게 개장
+    private static final LocalTime NEW_YEAR_OPEN = LocalTime.of(10, 0);
+
+    private final Map<LocalDate, String> holidays = new HashMap<>();
+    private final Map<LocalDate, LocalTime[]> specialSessions = new HashMap<>();
+
+    // 미리 계산한 구간 [rangeStart, rangeEnd]
+    private final LocalDate rangeStart;
+    private final LocalDate rangeEnd;
+    // tradingDaysBefore[i]: rangeStart부터 rangeStart+i 전날까지의 거래일 수 (길이 = 구간 일수 + 1)
+    private final int[] tradingDaysBefore;
+    // 구간 안의 거래일을 순서대로 (tradingDays[k]는 구간의 k번째 거래일)
+    private final LocalDate[] tradingDays;
+
+    public KrxTradingCalendar(@Value("${kiwoom.calendar.extra-holidays:}") String extraHolidays) {
+        loadCalendar();
+        for (String value : extraHolidays.split(",")) {
+            if (!value.isBlank()) {
+                holidays.put(LocalDate.parse(value.trim()), "추가 휴장일");
+            }
+        }
+
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (LocalDate date : holidays.keySet()) {
+            minYear = Math.min(minYear, date.getYear());
+            maxYear = Math.max(maxYear, date.getYear());
+        }
+        if (holidays.isEmpty()) {
+            rangeStart = LocalDate.of(2000, 1, 1);
+            rangeEnd = rangeStart.minusDays(1);
+        } else {
+            rangeStart = LocalDate.of(minYear, 1, 1);
+            rangeEnd = LocalDate.of(maxYear, 12, 31);
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(rangeStart, rangeEnd) + 1;
+        tradingDaysBefore = new int[days + 1];
+        List<LocalDate> list = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = rangeStart.plusDays(i);
+            boolean trading = isTradingDay(date);
+            tradingDaysBefore[i + 1] = tradingDaysBefore[i] + (trading ? 1 : 0);
+            if (trading) {
+                list.add(date);
+            }
+        }
+        tradingDays = list.toArray(new LocalDate[0]);
+        logger.info("KRX 거래일 달력 로드: {} ~ {}, 휴장일 {} 건, 특수 거래시간 {} 건",
+                rangeStart, rangeEnd, holidays.size(), specialSessions.size());
+    }
+
+    private void loadCalendar() {
+        try (InputStream in = KrxTradingCalendar.class.getResourceAsStream(CALENDAR_RESOURCE)) {
+            if (in == null) {
+                logger.warn("KRX 휴장일 표({})가 없어 주말만 휴장일로 처리합니다.", CALENDAR_RESOURCE);
+                return;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                LocalDate date = LocalDate.parse(fields[0].trim());
+                if ("HOLIDAY".equals(fields[1].trim())) {
+                    holidays.put(date, fields.length > 2 ? fields[2].trim() : "휴장일");
+                } else if ("SESSION".equals(fields[1].trim())) {
+                    specialSessions.put(date, new LocalTime[] {
+                            LocalTime.parse(fields[2].trim()), LocalTime.parse(fields[3].trim())});
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("KRX 휴장일 표 로드 실패", e);
+        }
+    }
+
+    /**
+     * 거래일 여부 (주말, 휴장일이면 false)
+     */
+    public boolean isTradingDay(LocalDate date) {
+        return !isWeekend(date) && !holidays.containsKey(date);
+    }
+
+    /**
+     * 휴장 사유 (주말이면 "주말", 거래일이면 null)
+     */
+    public String holidayName(LocalDate date) {
+        if (isWeekend(date)) {
+            return "주말";
+        }
+        return holidays.get(date);
+    }
+
+    /**
+     * [start, endExclusive) 구간의 거래일 수 - ChronoUnit.DAYS.between과 같은 규칙(끝 날짜 제외, 역순이면 음수)
+     */
+    public int tradingDaysBetween(LocalDate start, LocalDate endExclusive) {
+        return (int) (tradingIndex(endExclusive) - tradingIndex(start));
+    }
+
+    /**
+     * date 기준 n거래일 뒤의 거래일 (n이 음수면 앞, 0이면 date 그대로)
+     */
+    public LocalDate plusTradingDays(LocalDate date, int n) {
+        if (n == 0) {
+            return date;
+        }
+        // 위치 k의 거래일 = 그날 이전 거래일 수가 k인 거래일
+        long k = n > 0 ? tradingIndex(date.plusDays(1)) + n - 1 : tradingIndex(date) + n;
+        long first = tradingIndex(rangeStart);
+        if (k >= first && k - first < tradingDays.length) {
+            return tradingDays[(int) (k - first)];
+        }
+        // 미리 계산한 구간 밖: 하루씩 이동
+        int step = n > 0 ? 1 : -1;
+        LocalDate current = date;
+        for (int remaining = Math.abs(n); remaining > 0; ) {
+            current = current.plusDays(step);
+            if (isTradingDay(current)) {
+                remaining--;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * date 다음 거래일 (date 제외)
+     */
+    public LocalDate nextTradingDay(LocalDate date) {
+        return plusTradingDays(date, 1);
+    }
+
+    /**
+     * date 이전 거래일 (date 제외)
+     */
+    public LocalDate previousTradingDay(LocalDate date) {
+        return plusTradingDays(date, -1);
+    }
+
+    /**
+     * 개장 시각 (거래일이 아니면 null)
+     */
+    public LocalTime openTime(LocalDate date) {
+        if (!isTradingDay(date)) {
+            return null;
+        }
+        LocalTime[] session = specialSessions.get(date);
+        if (session != null) {
+            return session[0];
+        }
+        return previousTradingDay(date).getYear() < date.getYear() ? NEW_YEAR_OPEN : REGULAR_OPEN;
+    }
+
+    /**
+     * 마감 시각 (거래일이 아니면 null)
+     */
+    public LocalTime closeTime(LocalDate date) {
+        if (!isTradingDay(date)) {
+            return null;
+        }
+        LocalTime[] session = specialSessions.get(date);
+        return session != null ? session[1] : REGULAR_CLOSE;
+    }
+
+    /**
+     * date 이전까지의 누적 거래일 수 (rangeStart를 0으로 하는 상대값)
+     * 구간 밖은 주말만 제외한 평일 수로 이어 붙입니다.
+     */
+    private long tradingIndex(LocalDate date) {
+        if (date.isBefore(rangeStart)) {
+            return -weekdaysBetween(date, rangeStart);
+        }
+        long offset = ChronoUnit.DAYS.between(rangeStart, date);
+        if (offset < tradingDaysBefore.length) {
+            return tradingDaysBefore[(int) offset];
+        }
+        LocalDate afterRange = rangeEnd.plusDays(1);
+        return tradingDaysBefore[tradingDaysBefore.length - 1] + weekdaysBetween(afterRange, date);
+    }
+
+    /**
+     * [start, endExclusive) 구간의 평일 수 (start <= endExclusive)
+     */
+    private static long weekdaysBetween(LocalDate start, LocalDate endExclusive) {
+        long days = ChronoUnit.DAYS.between(start, endExclusive);
+        long count = days / 7 * 5;
+        LocalDate date = start.plusDays(days / 7 * 7);
+        while (date.isBefore(endExclusive)) {
+            if (!isWeekend(date)) {
+                count++;
+            }
+            date = date.plusDays(1);
+        }
+        return count;
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
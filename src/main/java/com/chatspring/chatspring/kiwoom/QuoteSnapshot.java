@@ -0,0 +1,44 @@
+package com.chatspring.chatspring.kiwoom;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 번의 업데이트 실행 동안 공유하는 종목코드별 최신 일봉 스냅샷
+ * Jugot 업데이트에서 이미 받은 당일 봉을 RealTrade 현재가/평단가 업데이트가 다시 조회하지 않도록 합니다.
+ */
+public class QuoteSnapshot {
+
+    private final Map<String, KiwoomApiClient.DailyPriceData> latestByCode = new ConcurrentHashMap<>();
+
+    /**
+     * 최신순 일봉 목록에서 가장 최근 봉을 기록
+     */
+    public void record(String stockCode, List<KiwoomApiClient.DailyPriceData> dailyPrices) {
+        if (!dailyPrices.isEmpty()) {
+            latestByCode.put(stockCode, dailyPrices.get(0));
+        }
+    }
+
+    /**
+     * 최신순 시계열에서 가장 최근 봉을 기록
+     */
+    public void record(String stockCode, DailyPriceSeries dailyPrices) {
+        if (!dailyPrices.isEmpty()) {
+            latestByCode.put(stockCode, dailyPrices.row(0));
+        }
+    }
+
+    public KiwoomApiClient.DailyPriceData get(String stockCode) {
+        return latestByCode.get(stockCode);
+    }
+
+    public boolean contains(String stockCode) {
+        return latestByCode.containsKey(stockCode);
+    }
+
+    public int size() {
+        return latestByCode.size();
+    }
+}
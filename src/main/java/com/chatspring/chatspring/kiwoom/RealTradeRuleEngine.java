@@ -0,0 +1,231 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.chatspring.chatspring.jugot.JugotRepository;
+import com.chatspring.chatspring.jugot.RealTrade;
+import com.chatspring.chatspring.jugot.RealTradeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RealTrade 자동 중단 규칙 평가기
+ * 익절(수익률 >= take-profit-rate)과 손절(수익률 <= -stop-loss-rate) 규칙을 매매별 값 또는 기본값으로 평가합니다.
+ * 매수가(시작일 포착가)는 한 번의 쿼리로 모으고, 현재가가 채워진 매매 목록을 한 번 훑어 중단 대상을 고른 뒤
+ * 상태 변경도 한 번의 UPDATE로 반영합니다.
+ */
+@Component
+public class RealTradeRuleEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(RealTradeRuleEngine.class);
+
+    /**
+     * 자동 중단 규칙
+     */
+    public enum Rule {
+        TAKE_PROFIT("익절"),
+        STOP_LOSS("손절");
+
+        private final String label;
+
+        Rule(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final JugotRepository jugotRepository;
+    private final RealTradeRepository realTradeRepository;
+    private final double defaultTakeProfitRate;
+    private final double defaultStopLossRate;
+
+    public RealTradeRuleEngine(JugotRepository jugotRepository,
+                               RealTradeRepository realTradeRepository,
+                               @Value("${kiwoom.realtrade.rules.take-profit-rate:5.0}") double defaultTakeProfitRate,
+                               @Value("${kiwoom.realtrade.rules.stop-loss-rate:0}") double defaultStopLossRate) {
+        this.jugotRepository = jugotRepository;
+        this.realTradeRepository = realTradeRepository;
+        this.defaultTakeProfitRate = defaultTakeProfitRate;
+        this.defaultStopLossRate = defaultStopLossRate;
+    }
+
+    /**
+     * 현재가가 반영된 매매들에 규칙을 적용하고 걸린 매매를 PAUSED로 일괄 변경
+     *
+     * @return 규칙에 걸린 매매 목록 (상태 변경 전 값 기준)
+     */
+    public List<Decision> applyRules(List<RealTrade> trades) {
+        if (trades.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> buyPrices = resolveBuyPrices(trades);
+        List<Decision> decisions = evaluate(trades, buyPrices);
+        if (decisions.isEmpty()) {
+            return decisions;
+        }
+        List<Long> ids = new ArrayList<>(decisions.size());
+        for (Decision decision : decisions) {
+            ids.add(decision.getTradeId());
+            logger.info("RealTrade {} {} 규칙 충족 - buyPrice={}, currentPrice={}, profitRate={}%, 기준={}%",
+                decision.getStockCode(), decision.getRule().getLabel(), decision.getBuyPrice(),
+                decision.getCurrentPrice(), String.format("%.2f", decision.getProfitRate()), decision.getThreshold());
+        }
+        int paused = realTradeRepository.updateStatusIfCurrent(ids, "ACTIVE", "PAUSED");
+        logger.info("RealTrade 자동 중단: 대상 {} 건 중 {} 건 PAUSED 처리", ids.size(), paused);
+        return decisions;
+    }
+
+    /**
+     * 매매 id -> 매수가(시작일에 포착된 행의 포착가)를 한 번의 쿼리로 조회
+     */
+    Map<Long, Integer> resolveBuyPrices(Collection<RealTrade> trades) {
+        Set<String> codes = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (RealTrade trade : trades) {
+            if (trade.getStockCode() != null && trade.getStartDate() != null) {
+                codes.add(trade.getStockCode());
+                dates.add(trade.getStartDate());
+            }
+        }
+        Map<Long, Integer> buyPrices = new HashMap<>();
+        if (codes.isEmpty()) {
+            return buyPrices;
+        }
+        Map<String, Integer> priceByKey = new HashMap<>();
+        for (Object[] row : jugotRepository.findCapturePrices(codes, dates)) {
+            if (row[2] != null) {
+                priceByKey.putIfAbsent(row[0] + "|" + row[1], (Integer) row[2]);
+            }
+        }
+        for (RealTrade trade : trades) {
+            Integer price = priceByKey.get(trade.getStockCode() + "|" + trade.getStartDate());
+            if (price != null) {
+                buyPrices.put(trade.getId(), price);
+            }
+        }
+        return buyPrices;
+    }
+
+    /**
+     * 한 번 훑으며 규칙에 걸린 매매를 고름 (현재가와 매수가를 모두 아는 매매만 평가)
+     */
+    List<Decision> evaluate(Collection<RealTrade> trades, Map<Long, Integer> buyPrices) {
+        List<Decision> decisions = new ArrayList<>();
+        for (RealTrade trade : trades) {
+            Integer buyPrice = buyPrices.get(trade.getId());
+            Integer currentPrice = trade.getCurrentPrice();
+            if (buyPrice == null || buyPrice <= 0 || currentPrice == null || currentPrice <= 0) {
+                logger.debug("RealTrade {} 수익률 계산 불가: buyPrice={}, currentPrice={}",
+                    trade.getStockCode(), buyPrice, currentPrice);
+                continue;
+            }
+            double profitRate = profitRate(buyPrice, currentPrice);
+            double takeProfit = takeProfitRate(trade);
+            double stopLoss = stopLossRate(trade);
+            if (takeProfit > 0 && profitRate >= takeProfit) {
+                decisions.add(new Decision(trade, Rule.TAKE_PROFIT, buyPrice, profitRate, takeProfit));
+            } else if (stopLoss > 0 && profitRate <= -stopLoss) {
+                decisions.add(new Decision(trade, Rule.STOP_LOSS, buyPrice, profitRate, -stopLoss));
+            }
+        }
+        return decisions;
+    }
+
+    /**
+     * 가장 가까운 규칙 기준까지 남은 수익률(%p) - 이미 넘었으면 0, 켜진 규칙이 없으면 무한대
+     */
+    public double distanceToTrigger(RealTrade trade, int buyPrice, int currentPrice) {
+        double profitRate = profitRate(buyPrice, currentPrice);
+        double distance = Double.POSITIVE_INFINITY;
+        double takeProfit = takeProfitRate(trade);
+        if (takeProfit > 0) {
+            distance = Math.max(0, takeProfit - profitRate);
+        }
+        double stopLoss = stopLossRate(trade);
+        if (stopLoss > 0) {
+            distance = Math.min(distance, Math.max(0, profitRate + stopLoss));
+        }
+        return distance;
+    }
+
+    /**
+     * 익절 기준 수익률(%) - 매매별 값이 없으면 기본값, 0 이하면 규칙 꺼짐
+     */
+    public double takeProfitRate(RealTrade trade) {
+        return trade.getTakeProfitRate() != null ? trade.getTakeProfitRate() : defaultTakeProfitRate;
+    }
+
+    /**
+     * 손절 기준 손실률 크기(%) - 매매별 값이 없으면 기본값, 0 이하면 규칙 꺼짐
+     */
+    public double stopLossRate(RealTrade trade) {
+        return trade.getStopLossRate() != null ? trade.getStopLossRate() : defaultStopLossRate;
+    }
+
+    private static double profitRate(int buyPrice, int currentPrice) {
+        return ((double) (currentPrice - buyPrice) / buyPrice) * 100;
+    }
+
+    /**
+     * 규칙 평가 결과
+     */
+    public static class Decision {
+        private final Long tradeId;
+        private final String stockCode;
+        private final Rule rule;
+        private final int buyPrice;
+        private final int currentPrice;
+        private final double profitRate;
+        private final double threshold;
+
+        Decision(RealTrade trade, Rule rule, int buyPrice, double profitRate, double threshold) {
+            this.tradeId = trade.getId();
+            this.stockCode = trade.getStockCode();
+            this.rule = rule;
+            this.buyPrice = buyPrice;
+            this.currentPrice = trade.getCurrentPrice();
+            this.profitRate = profitRate;
+            this.threshold = threshold;
+        }
+
+        public Long getTradeId() {
+            return tradeId;
+        }
+
+        public String getStockCode() {
+            return stockCode;
+        }
+
+        public Rule getRule() {
+            return rule;
+        }
+
+        public int getBuyPrice() {
+            return buyPrice;
+        }
+
+        public int getCurrentPrice() {
+            return currentPrice;
+        }
+
+        public double getProfitRate() {
+            return profitRate;
+        }
+
+        public double getThreshold() {
+            return threshold;
+        }
+    }
+}
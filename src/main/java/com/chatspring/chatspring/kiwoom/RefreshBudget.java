@@ -0,0 +1,47 @@
+package com.chatspring.chatspring.kiwoom;
+
+/**
+ * 한 번의 일일 업데이트에서 처리할 종목코드 수와 시간의 상한
+ * 상한에 도달하면 남은 종목코드는 시작하지 않고 PENDING으로 남겨 재개 실행(retry-failures)에서 이어서 처리합니다.
+ * 작업을 시작하는 스레드 하나에서만 사용합니다.
+ */
+class RefreshBudget {
+
+    private final int maxCodes;
+    private final long deadlineMillis;
+    private int admitted = 0;
+    private boolean exhausted = false;
+
+    /**
+     * @param maxCodes 최대 종목코드 수 (0 이하면 제한 없음)
+     * @param minutes  최대 소요 시간(분) (0 이하면 제한 없음)
+     */
+    RefreshBudget(int maxCodes, long minutes) {
+        this.maxCodes = maxCodes;
+        this.deadlineMillis = minutes > 0 ? System.currentTimeMillis() + minutes * 60_000 : Long.MAX_VALUE;
+    }
+
+    static RefreshBudget unlimited() {
+        return new RefreshBudget(0, 0);
+    }
+
+    /**
+     * 종목코드 하나를 시작해도 되면 true (예산 차감)
+     */
+    boolean tryAdmit() {
+        if ((maxCodes > 0 && admitted >= maxCodes) || System.currentTimeMillis() >= deadlineMillis) {
+            exhausted = true;
+            return false;
+        }
+        admitted++;
+        return true;
+    }
+
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    int getAdmitted() {
+        return admitted;
+    }
+}
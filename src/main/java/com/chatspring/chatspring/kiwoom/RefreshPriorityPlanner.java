@@ -0,0 +1,178 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.chatspring.chatspring.jugot.Jugot;
+import com.chatspring.chatspring.jugot.RealTrade;
+import com.chatspring.chatspring.jugot.RealTradeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 일일 업데이트 처리 순서 결정
+ * 호출 예산이 바닥나거나 실행이 중간에 끊겨도 중요한 시세가 먼저 갱신되도록, 종목코드를 아래 순서로 처리합니다.
+ * 1. 자동 중단 규칙({@link RealTradeRuleEngine}의 익절/손절 기준)에 가깝거나 이미 넘은 ACTIVE RealTrade 종목
+ * 2. 나머지 ACTIVE RealTrade 종목
+ * 3. 최근 포착 종목 (kiwoom.update.priority.recent-days 이내)
+ * 4. 오래된 포착 종목
+ * 같은 등급 안에서는 자동 중단 기준과의 차이가 작은 순, 그다음 최근 포착일 순입니다.
+ */
+@Component
+public class RefreshPriorityPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshPriorityPlanner.class);
+
+    static final int TIER_NEAR_PAUSE = 0;
+    static final int TIER_ACTIVE_TRADE = 1;
+    static final int TIER_RECENT = 2;
+    static final int TIER_OLD = 3;
+
+    private final RealTradeRepository realTradeRepository;
+    private final RealTradeRuleEngine ruleEngine;
+    private final int recentDays;
+    private final double nearPauseMargin;
+
+    public RefreshPriorityPlanner(RealTradeRepository realTradeRepository,
+                                  RealTradeRuleEngine ruleEngine,
+                                  @Value("${kiwoom.update.priority.recent-days:30}") int recentDays,
+                                  @Value("${kiwoom.update.priority.near-pause-margin:2.0}") double nearPauseMargin) {
+        this.realTradeRepository = realTradeRepository;
+        this.ruleEngine = ruleEngine;
+        this.recentDays = recentDays;
+        this.nearPauseMargin = nearPauseMargin;
+    }
+
+    /**
+     * 종목코드별 행 묶음을 처리 순서대로 정렬한 새 맵
+     */
+    public Map<String, List<Jugot>> prioritize(Map<String, List<Jugot>> stocksByCode, LocalDate today) {
+        if (stocksByCode.size() < 2) {
+            return stocksByCode;
+        }
+        List<RealTrade> activeTrades = realTradeRepository.findByStatusOrderByCreatedAtDesc("ACTIVE");
+        PriorityQueue<RefreshTask> queue = buildQueue(stocksByCode, activeTrades, today);
+
+        Map<String, List<Jugot>> ordered = new LinkedHashMap<>();
+        int[] tierCounts = new int[TIER_OLD + 1];
+        while (!queue.isEmpty()) {
+            RefreshTask task = queue.poll();
+            ordered.put(task.stockCode, stocksByCode.get(task.stockCode));
+            tierCounts[task.tier]++;
+        }
+        logger.info("처리 순서 결정 - 중단 기준 근접: {}, ACTIVE 매매: {}, 최근 포착: {}, 기타: {}",
+            tierCounts[TIER_NEAR_PAUSE], tierCounts[TIER_ACTIVE_TRADE], tierCounts[TIER_RECENT], tierCounts[TIER_OLD]);
+        return ordered;
+    }
+
+    PriorityQueue<RefreshTask> buildQueue(Map<String, List<Jugot>> stocksByCode, Collection<RealTrade> activeTrades,
+                                          LocalDate today) {
+        // 종목코드별로 자동 중단 기준까지 남은 수익률(%p) 중 가장 작은 값
+        Map<String, Double> distanceToPause = new HashMap<>();
+        for (RealTrade trade : activeTrades) {
+            String code = trade.getStockCode();
+            List<Jugot> rows = stocksByCode.get(code);
+            if (rows == null) {
+                continue;
+            }
+            double distance = Double.POSITIVE_INFINITY;
+            Integer buyPrice = buyPrice(rows, trade.getStartDate());
+            Integer currentPrice = trade.getCurrentPrice();
+            if (buyPrice != null && buyPrice > 0 && currentPrice != null && currentPrice > 0) {
+                // 이미 기준을 넘었으면 0 (이번 실행에서 바로 중단 처리되어야 함)
+                distance = ruleEngine.distanceToTrigger(trade, buyPrice, currentPrice);
+            }
+            distanceToPause.merge(code, distance, Math::min);
+        }
+
+        LocalDate recentSince = today.minusDays(recentDays);
+        PriorityQueue<RefreshTask> queue = new PriorityQueue<>(Math.max(1, stocksByCode.size()));
+        for (Map.Entry<String, List<Jugot>> entry : stocksByCode.entrySet()) {
+            String code = entry.getKey();
+            LocalDate latestCapture = latestCaptureDate(entry.getValue());
+            Double distance = distanceToPause.get(code);
+            int tier;
+            if (distance != null) {
+                tier = distance <= nearPauseMargin ? TIER_NEAR_PAUSE : TIER_ACTIVE_TRADE;
+            } else {
+                tier = latestCapture != null && !latestCapture.isBefore(recentSince) ? TIER_RECENT : TIER_OLD;
+            }
+            queue.add(new RefreshTask(code, tier, distance != null ? distance : Double.POSITIVE_INFINITY, latestCapture));
+        }
+        return queue;
+    }
+
+    /**
+     * 매매 시작일에 포착된 행의 포착가 (자동 중단 판단과 같은 기준)
+     */
+    private static Integer buyPrice(List<Jugot> rows, LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        for (Jugot row : rows) {
+            if (startDate.equals(row.getCaptureDate())) {
+                return row.getCapturePrice();
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate latestCaptureDate(List<Jugot> rows) {
+        LocalDate latest = null;
+        for (Jugot row : rows) {
+            LocalDate captureDate = row.getCaptureDate();
+            if (captureDate != null && (latest == null || captureDate.isAfter(latest))) {
+                latest = captureDate;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 우선순위 큐 항목 (등급 -> 중단 기준과의 차이 -> 최근 포착일 -> 종목코드 순)
+     */
+    static final class RefreshTask implements Comparable<RefreshTask> {
+        final String stockCode;
+        final int tier;
+        final double distanceToPause;
+        final LocalDate latestCapture;
+
+        RefreshTask(String stockCode, int tier, double distanceToPause, LocalDate latestCapture) {
+            this.stockCode = stockCode;
+            this.tier = tier;
+            this.distanceToPause = distanceToPause;
+            this.latestCapture = latestCapture;
+        }
+
+        @Override
+        public int compareTo(RefreshTask other) {
+            if (tier != other.tier) {
+                return Integer.compare(tier, other.tier);
+            }
+            int byDistance = Double.compare(distanceToPause, other.distanceToPause);
+            if (byDistance != 0) {
+                return byDistance;
+            }
+            if (latestCapture != null || other.latestCapture != null) {
+                if (latestCapture == null) {
+                    return 1;
+                }
+                if (other.latestCapture == null) {
+                    return -1;
+                }
+                int byCapture = other.latestCapture.compareTo(latestCapture);
+                if (byCapture != 0) {
+                    return byCapture;
+                }
+            }
+            return stockCode.compareTo(other.stockCode);
+        }
+    }
+}
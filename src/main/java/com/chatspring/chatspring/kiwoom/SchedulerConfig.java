@@ -1,9 +1,38 @@
 package com.chatspring.chatspring.kiwoom;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
+
+    // 키움 토큰 선제 재발급 전용 스케줄러 이름 (@Scheduled(scheduler = ...))
+    public static final String TOKEN_SCHEDULER = "kiwoomTokenScheduler";
+
+    /**
+     * 기본 스케줄러 (일일 업데이트 등) - Spring Boot 기본값과 같은 단일 스레드
+     * 아래 전용 스케줄러를 등록하면 Boot가 기본 스케줄러를 만들지 않으므로 직접 등록합니다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    /**
+     * 토큰 만료 확인 전용 스케줄러
+     * 기본 스케줄러 스레드는 일일 업데이트가 도는 동안 점유되므로, 그 사이에도 토큰을 미리 재발급할 수 있도록 분리합니다.
+     */
+    @Bean(name = TOKEN_SCHEDULER)
+    public ThreadPoolTaskScheduler kiwoomTokenScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("kiwoom-token-");
+        return scheduler;
+    }
 }
@@ -1,28 +1,48 @@
 package com.chatspring.chatspring.kiwoom;
 
 import com.chatspring.chatspring.jugot.Jugot;
+import com.chatspring.chatspring.jugot.JugotDataChangedEvent;
 import com.chatspring.chatspring.jugot.JugotRepository;
 import com.chatspring.chatspring.jugot.RealTrade;
+import com.chatspring.chatspring.jugot.RealTradeDataChangedEvent;
 import com.chatspring.chatspring.jugot.RealTradeRepository;
-import com.chatspring.chatspring.jugot.RealTradeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Service
 public class StockDataUpdateService {
     
     private static final Logger logger = LoggerFactory.getLogger(StockDataUpdateService.class);
     
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    
+    // 클러스터 모드에서 일일 업데이트 리더를 정하는 임대 이름
+    private static final String DAILY_UPDATE_LEASE = "stock-daily-update";
+    
+    // 당일 봉이 확정되는 시각 = 그날 장 마감 시각 + 여유 (정규장 15:30 마감이면 15:40)
+    private static final long CANDLE_SETTLE_MINUTES = 10;
+    
     @Autowired
     private KiwoomApiClient kiwoomApiClient;
     
@@ -33,49 +53,192 @@ public class StockDataUpdateService {
     private RealTradeRepository realTradeRepository;
     
     @Autowired
-    private RealTradeService realTradeService;
+    private RealTradeRuleEngine realTradeRuleEngine;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     @Autowired
     private StockUpdateStatusService stockUpdateStatusService;
     
+    @Autowired
+    private KiwoomAsyncApiClient kiwoomAsyncApiClient;
+    
+    @Autowired
+    private KiwoomJobExecutor kiwoomJobExecutor;
+    
+    @Autowired
+    private KiwoomRateLimiter kiwoomRateLimiter;
+    
+    @Autowired
+    private KiwoomCallGuard kiwoomCallGuard;
+    
+    @Autowired
+    private DailyCandleStore dailyCandleStore;
+    
+    @Autowired
+    private StockJobCheckpointService checkpointService;
+    
+    @Autowired
+    private KrxTradingCalendar tradingCalendar;
+    
+    @Autowired
+    private ClusterLeaseService clusterLeaseService;
+    
+    @Autowired
+    private RefreshPriorityPlanner refreshPriorityPlanner;
+    
+    // 실행당 호출 예산: 처리할 최대 종목코드 수, 최대 소요 시간(분) - 0이면 제한 없음
+    @Value("${kiwoom.update.budget.max-codes:0}")
+    private int budgetMaxCodes;
+    
+    @Value("${kiwoom.update.budget.minutes:0}")
+    private long budgetMinutes;
+    
+    // 클러스터 모드 설정 (kiwoom.cluster.enabled=true일 때만 사용)
+    @Value("${kiwoom.cluster.leader-lease-minutes:30}")
+    private long leaderLeaseMinutes;
+    
+    @Value("${kiwoom.cluster.claim-minutes:10}")
+    private long claimMinutes;
+    
+    @Value("${kiwoom.cluster.batch-size:20}")
+    private int clusterBatchSize;
+    
+    @Value("${kiwoom.cluster.poll-interval-ms:2000}")
+    private long clusterPollIntervalMs;
+    
+    @Value("${kiwoom.cluster.join-timeout-seconds:120}")
+    private long clusterJoinTimeoutSeconds;
+    
     /**
-     * 매일 평일 15:30에 실행되는 스케줄러
-     * 각 종목의 포착일부터 오늘까지의 데이터를 조회하여 DB 업데이트
+     * 매일 평일 18:05에 실행되는 스케줄러 (휴장일은 건너뜀)
      */
     @Scheduled(cron = "0 05 18 * * MON-FRI", zone = "Asia/Seoul")
-    public void updateStockDataDaily() {
+    public void scheduledDailyUpdate() {
+        updateStockDataDaily(false);
+    }
+    
+    /**
+     * 각 종목의 포착일부터 오늘까지의 데이터를 조회하여 DB 업데이트
+     *
+     * @param force true면 휴장일에도 실행 (수동 실행, 벤치마크용)
+     * @return 실행했으면 true, 휴장일이라 건너뛰었으면 false
+     */
+    public boolean updateStockDataDaily(boolean force) {
+        LocalDate today = LocalDate.now(KST);
+        if (!force && !tradingCalendar.isTradingDay(today)) {
+            // 휴장일에는 새 일봉이 없으므로 키움 API를 호출하지 않음
+            logger.info("휴장일({})이라 일일 업데이트를 건너뜁니다: {}", tradingCalendar.holidayName(today), today);
+            return false;
+        }
+        if (clusterLeaseService.isEnabled()) {
+            runClusterUpdate();
+            return true;
+        }
+        runDailyUpdate(null);
+        return true;
+    }
+    
+    /**
+     * 직전 실행에서 실패했거나 중단된 종목만 다시 처리 (재개 모드)
+     * 클러스터 모드에서는 일일 업데이트와 같은 리더 임대를 잡은 동안만 실행하므로,
+     * 다른 노드가 일일 업데이트나 재처리를 진행 중이면 실행하지 않습니다.
+     *
+     * @return 재개한 실행의 최종 상태, 재개할 실행이 없으면 empty
+     */
+    public Optional<StockJobRun> retryFailures() {
+        if (stockUpdateStatusService.isUpdating()) {
+            throw new RuntimeException("이미 주식 데이터 업데이트가 진행 중입니다.");
+        }
+        boolean leased = clusterLeaseService.isEnabled();
+        if (leased && !clusterLeaseService.tryAcquire(DAILY_UPDATE_LEASE, Duration.ofMinutes(leaderLeaseMinutes))) {
+            throw new RuntimeException("다른 노드가 주식 데이터 업데이트를 진행 중입니다: "
+                + clusterLeaseService.currentOwner(DAILY_UPDATE_LEASE).orElse("알 수 없음"));
+        }
+        try {
+            Optional<StockJobRun> resumable = checkpointService.findResumableRun();
+            if (resumable.isEmpty()) {
+                logger.info("재개할 업데이트 실행이 없습니다 (오늘 시작한 미완료 실행 없음)");
+                return Optional.empty();
+            }
+            Long runId = runDailyUpdate(resumable.get());
+            return runId != null ? checkpointService.findLatestRun() : Optional.empty();
+        } finally {
+            if (leased) {
+                clusterLeaseService.release(DAILY_UPDATE_LEASE);
+            }
+        }
+    }
+    
+    /**
+     * 일일 업데이트 본체
+     *
+     * @param resumeFrom 재개할 실행 (null이면 전체 종목으로 새 실행 시작)
+     * @return 기록된 실행 ID (체크포인트 생성 전에 실패하면 null)
+     */
+    private Long runDailyUpdate(StockJobRun resumeFrom) {
         long startTime = System.currentTimeMillis();
-        logger.info("주식 데이터 일일 업데이트 시작");
+        logger.info(resumeFrom == null ? "주식 데이터 일일 업데이트 시작" : "주식 데이터 업데이트 재개 시작 (실행 #" + resumeFrom.getId() + ")");
         
         // 업데이트 상태 시작
         stockUpdateStatusService.startUpdate();
         
+        // 이번 실행 동안 세 단계(Jugot, RealTrade 현재가, 평단가)가 공유하는 최신 봉
+        QuoteSnapshot snapshot = new QuoteSnapshot();
+        StockJobRun run = resumeFrom;
+        
         try {
             // 1. 토큰 발급
             KiwoomApiClient.TokenResponse tokenResponse = kiwoomApiClient.getAccessToken();
             String token = tokenResponse.getToken();
             
-            // 2. 모든 종목들 조회
-            List<Jugot> allStocks = jugotRepository.findAll();
-            logger.info("전체 종목 수: {} 개", allStocks.size());
-            
-            // 3. 각 종목별로 데이터 업데이트
-            for (Jugot stock : allStocks) {
-                try {
-                    updateStockData(stock, token);
-                    // API 호출 간격 조절 (0.1초)
-                    Thread.sleep(3000);
-                } catch (Exception e) {
-                    logger.error("종목 {} 데이터 업데이트 실패: {}", stock.getStockCode(), e.getMessage());
+            // 2. 대상 종목 조회 (재개 모드는 OK가 아닌 종목코드만)
+            List<Jugot> allStocks;
+            if (resumeFrom == null) {
+                allStocks = jugotRepository.findAll();
+            } else {
+                List<String> retryCodes = checkpointService.resumeRun(resumeFrom);
+                allStocks = retryCodes.isEmpty() ? List.of() : jugotRepository.findByStockCodeIn(retryCodes);
+                // 그 사이 삭제되어 대상 행이 없는 종목코드는 처리할 것이 없으므로 완료 처리
+                Set<String> remainingCodes = allStocks.stream().map(Jugot::getStockCode).collect(Collectors.toSet());
+                for (String code : retryCodes) {
+                    if (!remainingCodes.contains(code)) {
+                        checkpointService.markOk(resumeFrom.getId(), code, 0);
+                    }
                 }
             }
+            logger.info("전체 종목 수: {} 개", allStocks.size());
             
-            logger.info("주식 데이터 일일 업데이트 완료");
+            // 3. 종목코드별로 묶어서 코드당 한 번만 조회 (가상 스레드 병렬 실행, 호출 속도는 rateLimiter가 조절)
+            // 예산이 바닥나도 중요한 시세가 먼저 갱신되도록 우선순위 순서로 처리
+            Map<String, List<Jugot>> stocksByCode = refreshPriorityPlanner.prioritize(allStocks.stream()
+                .collect(Collectors.groupingBy(Jugot::getStockCode, LinkedHashMap::new, Collectors.toList())),
+                LocalDate.now(KST));
+            logger.info("조회 대상 종목코드 수: {} 개", stocksByCode.size());
+            
+            if (run == null) {
+                run = checkpointService.startRun(stocksByCode.keySet());
+            }
+            Long runId = run.getId();
+            
+            long jugotStartTime = System.currentTimeMillis();
+            stockUpdateStatusService.startPhase(StockUpdateStatusService.Phase.JUGOT, stocksByCode.size());
+            RefreshBudget budget = new RefreshBudget(budgetMaxCodes, budgetMinutes);
+            processStockGroups(runId, stocksByCode, token, snapshot, budget);
+            checkpointService.finishRun(runId);
+            
+            logger.info("주식 데이터 일일 업데이트 완료 - {} 개 종목코드 ({} 건), 소요 시간: {}ms",
+                budget.getAdmitted(), allStocks.size(), System.currentTimeMillis() - jugotStartTime);
+            if (budget.isExhausted()) {
+                logger.warn("호출 예산 소진으로 {} 개 종목코드를 처리하지 않았습니다 (PENDING 유지, 재개 실행에서 처리)",
+                    stocksByCode.size() - budget.getAdmitted());
+            }
             
             // 4. RealTrade의 currentPrice 업데이트
             try {
                 logger.info("RealTrade currentPrice 업데이트 시작");
-                updateRealTradeCurrentPrice(token);
+                updateRealTradeCurrentPrice(token, snapshot);
             } catch (Exception e) {
                 logger.error("RealTrade currentPrice 업데이트 중 오류 발생", e);
             }
@@ -83,28 +246,231 @@ public class StockDataUpdateService {
         } catch (Exception e) {
             logger.error("주식 데이터 일일 업데이트 중 오류 발생", e);
         } finally {
-            // 4. 평일이면 RealTrade 평단가 업데이트 (Jugot 업데이트 완료 후 반드시 실행)
-            try {
-                LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-                DayOfWeek dayOfWeek = today.getDayOfWeek();
-                if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
-                    logger.info("평일 감지: RealTrade 평단가 업데이트 시작");
-                    // 토큰이 필요하므로 다시 발급 (이미 캐시되어 있을 가능성 높음)
-                    KiwoomApiClient.TokenResponse tokenResponse = kiwoomApiClient.getAccessToken();
-                    String token = tokenResponse.getToken();
-                    updateRealTradeAveragePrice(token);
-                }
-            } catch (Exception e) {
-                logger.error("RealTrade 평단가 업데이트 중 오류 발생", e);
-            }
+            // 4. 거래일이면 RealTrade 평단가 업데이트 (Jugot 업데이트 완료 후 반드시 실행)
+            applyAveragePriceOnce(run, snapshot);
             
             // 업데이트 상태 종료
             stockUpdateStatusService.endUpdate();
-            long endTime = System.currentTimeMillis();
-            long elapsedTime = endTime - startTime;
-            long minutes = elapsedTime / 60000;
-            long seconds = (elapsedTime % 60000) / 1000;
-            logger.info("주식 데이터 일일 업데이트 완료 및 상태 해제 - 총 소요 시간: {}분 {}초 ({}ms)", minutes, seconds, elapsedTime);
+            logRunSummary(startTime);
+        }
+        return run != null ? run.getId() : null;
+    }
+    
+    /**
+     * 클러스터 모드 일일 업데이트 (kiwoom.cluster.enabled=true)
+     * 모든 노드가 같은 시각에 실행되며, 리더 임대를 얻은 노드가 오늘 실행을 만들고 나머지 노드는 그 실행에 합류합니다.
+     * 종목코드는 stock_job_items에서 묶음 단위로 선점하므로 노드가 늘면 그만큼 나눠 처리하고,
+     * RealTrade 현재가/평단가 반영과 실행 종료 집계는 리더만 수행합니다.
+     */
+    private void runClusterUpdate() {
+        long startTime = System.currentTimeMillis();
+        Duration leaderLease = Duration.ofMinutes(leaderLeaseMinutes);
+        boolean leader = clusterLeaseService.tryAcquire(DAILY_UPDATE_LEASE, leaderLease);
+        logger.info("클러스터 일일 업데이트 시작 - 노드: {}, 역할: {}", clusterLeaseService.getNodeId(), leader ? "리더" : "작업자");
+        
+        StockJobRun run = leader ? openClusterRun() : awaitClusterRun();
+        if (run == null) {
+            if (leader) {
+                clusterLeaseService.release(DAILY_UPDATE_LEASE);
+            }
+            return;
+        }
+        
+        stockUpdateStatusService.startUpdate();
+        QuoteSnapshot snapshot = new QuoteSnapshot();
+        try {
+            String token = kiwoomApiClient.getAccessToken().getToken();
+            // 이 노드가 합류한 시점의 남은 종목코드 기준 (다른 노드 처리분도 포함)
+            stockUpdateStatusService.startPhase(StockUpdateStatusService.Phase.JUGOT, (int) checkpointService.countPending(run.getId()));
+            int processed = processClaimedItems(run.getId(), token, snapshot, leader, leaderLease);
+            logger.info("노드 {} 가 실행 #{} 에서 {} 개 종목코드 처리", clusterLeaseService.getNodeId(), run.getId(), processed);
+            
+            if (leader) {
+                checkpointService.finishRun(run.getId());
+                try {
+                    logger.info("RealTrade currentPrice 업데이트 시작");
+                    updateRealTradeCurrentPrice(token, snapshot);
+                } catch (Exception e) {
+                    logger.error("RealTrade currentPrice 업데이트 중 오류 발생", e);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("클러스터 일일 업데이트 중 오류 발생", e);
+        } finally {
+            if (leader) {
+                applyAveragePriceOnce(run, snapshot);
+                clusterLeaseService.release(DAILY_UPDATE_LEASE);
+            }
+            stockUpdateStatusService.endUpdate();
+            logRunSummary(startTime);
+        }
+    }
+    
+    /**
+     * 리더: 오늘 실행을 새로 만들거나, 이전 리더가 중단한 오늘 실행(RUNNING)을 이어받음
+     * 오늘 실행이 이미 끝났으면 null (늦게 깨어난 노드가 다시 실행하지 않도록)
+     */
+    private StockJobRun openClusterRun() {
+        Optional<StockJobRun> latest = checkpointService.findLatestRun().filter(this::startedToday);
+        if (latest.isPresent()) {
+            StockJobRun run = latest.get();
+            if (StockJobRun.RUNNING.equals(run.getStatus())) {
+                logger.info("오늘 실행 #{} 을 이어받습니다", run.getId());
+                return run;
+            }
+            logger.info("오늘 실행 #{} 이 이미 종료되었습니다 ({})", run.getId(), run.getStatus());
+            return null;
+        }
+        // 항목 ID 순서로 선점하므로 우선순위 순서대로 기록
+        Map<String, List<Jugot>> stocksByCode = refreshPriorityPlanner.prioritize(jugotRepository.findAll().stream()
+            .collect(Collectors.groupingBy(Jugot::getStockCode, LinkedHashMap::new, Collectors.toList())),
+            LocalDate.now(KST));
+        return checkpointService.startRun(stocksByCode.keySet());
+    }
+    
+    /**
+     * 작업자: 리더가 오늘 실행을 만들 때까지 대기 (join-timeout 동안)
+     */
+    private StockJobRun awaitClusterRun() {
+        long deadline = System.currentTimeMillis() + clusterJoinTimeoutSeconds * 1000;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<StockJobRun> latest = checkpointService.findLatestRun().filter(this::startedToday);
+            if (latest.isPresent()) {
+                if (StockJobRun.RUNNING.equals(latest.get().getStatus())) {
+                    logger.info("오늘 실행 #{} 에 합류합니다", latest.get().getId());
+                    return latest.get();
+                }
+                logger.info("오늘 실행 #{} 이 이미 종료되었습니다", latest.get().getId());
+                return null;
+            }
+            if (!sleepQuietly(clusterPollIntervalMs)) {
+                return null;
+            }
+        }
+        logger.warn("리더의 오늘 실행을 {}초 동안 찾지 못해 합류하지 않습니다", clusterJoinTimeoutSeconds);
+        return null;
+    }
+    
+    /**
+     * 선점한 종목코드 묶음을 처리하고 다음 묶음을 선점하기를 반복
+     * 리더는 선점할 종목이 없어도 다른 노드가 처리 중인 종목이 남아 있으면 끝나거나 선점이 만료될 때까지 기다립니다.
+     *
+     * @return 이 노드가 처리한 종목코드 수
+     */
+    private int processClaimedItems(Long runId, String token, QuoteSnapshot snapshot, boolean leader, Duration leaderLease) {
+        String nodeId = clusterLeaseService.getNodeId();
+        Duration claimTtl = Duration.ofMinutes(claimMinutes);
+        Set<String> attempted = new HashSet<>();
+        int processed = 0;
+        
+        while (true) {
+            if (leader) {
+                // 리더 임대 갱신
+                clusterLeaseService.tryAcquire(DAILY_UPDATE_LEASE, leaderLease);
+            }
+            List<String> claimed = checkpointService.claimPending(runId, nodeId, clusterBatchSize, claimTtl);
+            List<String> codes = claimed.stream().filter(code -> !attempted.contains(code)).toList();
+            
+            if (codes.isEmpty()) {
+                // 작업자는 선점할 종목이 없으면 종료, 리더는 남은 PENDING이 이 노드가 이미 시도한 종목뿐이면 종료
+                if (!leader || checkpointService.countPending(runId) <= claimed.size()) {
+                    break;
+                }
+                if (!sleepQuietly(clusterPollIntervalMs)) {
+                    break;
+                }
+                continue;
+            }
+            attempted.addAll(codes);
+            
+            List<Jugot> rows = jugotRepository.findByStockCodeIn(codes);
+            Map<String, List<Jugot>> stocksByCode = rows.stream()
+                .collect(Collectors.groupingBy(Jugot::getStockCode, LinkedHashMap::new, Collectors.toList()));
+            // 그 사이 삭제되어 대상 행이 없는 종목코드는 처리할 것이 없으므로 완료 처리
+            for (String code : codes) {
+                if (!stocksByCode.containsKey(code)) {
+                    checkpointService.markOk(runId, code, 0);
+                }
+            }
+            processStockGroups(runId, stocksByCode, token, snapshot, RefreshBudget.unlimited());
+            processed += codes.size();
+        }
+        return processed;
+    }
+    
+    /**
+     * 종목코드별 업데이트를 맵 순서대로 병렬 실행하고 결과를 체크포인트에 기록
+     * 예산이 바닥나면 남은 종목코드는 시작하지 않습니다(PENDING 유지).
+     */
+    private void processStockGroups(Long runId, Map<String, List<Jugot>> stocksByCode, String token, QuoteSnapshot snapshot,
+                                    RefreshBudget budget) {
+        kiwoomJobExecutor.runAll("jugot-update", new ArrayList<>(stocksByCode.entrySet()), budget::tryAdmit, entry -> {
+            long itemStartTime = System.currentTimeMillis();
+            try {
+                updateStockGroup(entry.getKey(), entry.getValue(), token, snapshot);
+                checkpointService.markOk(runId, entry.getKey(), System.currentTimeMillis() - itemStartTime);
+                stockUpdateStatusService.recordItem(true, System.currentTimeMillis() - itemStartTime);
+            } catch (Exception e) {
+                logger.error("종목 {} 데이터 업데이트 실패: {}", entry.getKey(), e.getMessage());
+                stockUpdateStatusService.recordItem(false, System.currentTimeMillis() - itemStartTime);
+                try {
+                    checkpointService.markFailed(runId, entry.getKey(), e.getClass().getSimpleName() + ": " + e.getMessage(),
+                        System.currentTimeMillis() - itemStartTime);
+                } catch (Exception checkpointError) {
+                    logger.error("종목 {} 실패 기록 저장 실패: {}", entry.getKey(), checkpointError.getMessage());
+                }
+            }
+        });
+    }
+    
+    /**
+     * 거래일이면 RealTrade 평단가 반영 (실행당 한 번만)
+     */
+    private void applyAveragePriceOnce(StockJobRun run, QuoteSnapshot snapshot) {
+        try {
+            LocalDate today = LocalDate.now(KST);
+            if (run != null && Boolean.TRUE.equals(run.getAveragePriceDone())) {
+                // 평단가는 매수를 누적하므로 같은 실행에서 두 번 반영하지 않음
+                logger.info("실행 #{} 의 RealTrade 평단가는 이미 반영되었습니다.", run.getId());
+            } else if (tradingCalendar.isTradingDay(today)) {
+                logger.info("거래일 감지: RealTrade 평단가 업데이트 시작");
+                // 토큰이 필요하므로 다시 발급 (이미 캐시되어 있을 가능성 높음)
+                KiwoomApiClient.TokenResponse tokenResponse = kiwoomApiClient.getAccessToken();
+                String token = tokenResponse.getToken();
+                updateRealTradeAveragePrice(token, snapshot);
+                if (run != null) {
+                    checkpointService.markAveragePriceDone(run.getId());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("RealTrade 평단가 업데이트 중 오류 발생", e);
+        }
+    }
+    
+    private void logRunSummary(long startTime) {
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        long minutes = elapsedTime / 60000;
+        long seconds = (elapsedTime % 60000) / 1000;
+        logger.info("주식 데이터 일일 업데이트 완료 및 상태 해제 - 총 소요 시간: {}분 {}초 ({}ms), 동시성: {}, 호출 한도: {} TPS (버스트 {})",
+            minutes, seconds, elapsedTime, kiwoomJobExecutor.getConcurrency(),
+            kiwoomRateLimiter.getPermitsPerSecond(), kiwoomRateLimiter.getBurst());
+        logger.info("키움 API 호출 보호기 상태: {}", kiwoomCallGuard.getStatus());
+    }
+    
+    private boolean startedToday(StockJobRun run) {
+        return StockJobCheckpointService.startedOn(run, LocalDate.now(KST));
+    }
+    
+    /**
+     * @return 인터럽트 없이 대기를 마쳤으면 true
+     */
+    private static boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
     
@@ -117,88 +483,69 @@ public class StockDataUpdateService {
     }
     
     /**
-     * 개별 종목 데이터 업데이트
+     * 종목코드 단위 데이터 업데이트
+     * 같은 종목코드의 Jugot 행들은 포착일만 다르므로, 가장 이른 조회 시작일부터 한 번만 조회하고
+     * 각 행은 자신의 조회 시작일 이후 구간으로 현재가/최고가/최저가를 계산합니다.
      */
-    private void updateStockData(Jugot stock, String token) {
-        String stockCode = stock.getStockCode();
-        
+    private void updateStockGroup(String stockCode, List<Jugot> stocks, String token, QuoteSnapshot snapshot) {
         try {
             String queryDate = kiwoomApiClient.getTodayYYYYMMDD();
-            LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-            LocalDate captureDate = stock.getCaptureDate();
+            LocalDate today = LocalDate.now(KST);
+            
+            // 행별 조회 시작일 중 가장 이른 날짜부터 조회
+            LocalDate earliest = null;
+            for (Jugot stock : stocks) {
+                LocalDate since = refreshStartDate(stock);
+                if (!since.isAfter(today) && (earliest == null || since.isBefore(earliest))) {
+                    earliest = since;
+                }
+            }
             
-            // 포착일부터 오늘까지의 일수 계산
-            long daysBetween = ChronoUnit.DAYS.between(captureDate, today);
+            if (earliest == null) {
+                logger.info("종목 {} 은 이미 최신 상태입니다 ({} 건)", stockCode, stocks.size());
+                return;
+            }
+            
+            // 조회 시작일부터 오늘까지의 일수 계산
+            long daysBetween = ChronoUnit.DAYS.between(earliest, today);
             // 최소 1일, 최대 365일로 제한 (너무 오래된 데이터는 제한)
+            // 달력일 기준이라 실제 거래일보다 넉넉하며, 구간 끝은 조회 시작일로 자름
             int maxCount = (int) Math.max(1, Math.min(daysBetween + 1, 365));
             
-            logger.info("종목 {} 데이터 조회 시작 (포착일: {}, 오늘: {}, 조회일수: {})", 
-                stockCode, captureDate, today, maxCount);
-            
-            // 포착일부터 오늘까지의 데이터 조회 (재시도 로직이 내장되어 있음)
-            List<KiwoomApiClient.DailyPriceData> dailyPrices = 
-                kiwoomApiClient.fetchDailyPrices(token, stockCode, queryDate, maxCount);
-            
-            if (dailyPrices.isEmpty()) {
-                logger.warn("종목 {} 데이터가 없습니다", stockCode);
-                // 데이터가 없을 때 기본값 설정
-                Integer existingHighestPrice = stock.getHighestPrice();
-                Integer existingLowestPrice = stock.getLowestPrice();
-                stock.setCurrentPrice(0);
-                stock.setHighestPrice(existingHighestPrice != null ? existingHighestPrice : 0);
-                stock.setLowestPrice(existingLowestPrice != null ? existingLowestPrice : Integer.MAX_VALUE);
-                jugotRepository.save(stock);
-                return;
-            }
+            logger.info("종목 {} 데이터 조회 시작 (대상 행: {} 건, 조회 시작일: {}, 오늘: {}, 조회일수: {})", 
+                stockCode, stocks.size(), earliest, today, maxCount);
             
-            // 당일 데이터 찾기 (가장 최근 데이터)
-            KiwoomApiClient.DailyPriceData todayData = dailyPrices.get(0);
-            int currentPrice = todayData.getClosePrice();
-            if (currentPrice <= 0) {
-                currentPrice = 0;
-            }
+            // 조회 시작일부터 오늘까지의 데이터 조회 (재시도 로직이 내장되어 있음)
+            // 조회 시작일 이전 행이 나온 페이지에서 연속조회를 멈춤
+            // 행 객체 대신 열 단위 시계열로 받아 행별 최고가/최저가 계산에 그대로 사용
+            DailyPriceSeries dailyPrices =
+                kiwoomApiClient.fetchDailyPriceSeries(token, stockCode, queryDate, earliest, maxCount);
+            snapshot.record(stockCode, dailyPrices);
             
-            // 포착일부터 오늘까지의 최고가, 최저가 계산
-            Integer existingHighestPrice = stock.getHighestPrice();
-            int highestPrice = dailyPrices.stream()
-                .mapToInt(KiwoomApiClient.DailyPriceData::getHighPrice)
-                .max()
-                .orElse(existingHighestPrice != null ? existingHighestPrice : 0);
-            
-            int lowestPrice = dailyPrices.stream()
-                .mapToInt(KiwoomApiClient.DailyPriceData::getLowPrice)
-                .min()
-                .orElse(Integer.MAX_VALUE);
-            
-            // DB 업데이트
-            stock.setCurrentPrice(currentPrice);
-            
-            // 최고가 업데이트: 기존 값이 null이면 새 값(또는 0), 아니면 둘 중 큰 값
-            if (existingHighestPrice == null) {
-                stock.setHighestPrice(highestPrice > 0 ? highestPrice : 0);
-            } else {
-                stock.setHighestPrice(Math.max(existingHighestPrice, highestPrice));
+            // 받은 일봉은 로컬 저장소에 보관 (저장 실패가 업데이트를 막지 않도록 분리)
+            try {
+                dailyCandleStore.saveDailyPrices(stockCode, dailyPrices);
+            } catch (Exception e) {
+                logger.warn("종목 {} 일봉 저장 실패: {}", stockCode, e.getMessage());
             }
             
-            // 최저가 로직: 기존 값이 null이면 새 값(또는 Integer.MAX_VALUE), 아니면 둘 중 작은 값
-            Integer existingLowest = stock.getLowestPrice();
-            if (existingLowest == null) {
-                stock.setLowestPrice(lowestPrice < Integer.MAX_VALUE ? lowestPrice : Integer.MAX_VALUE);
-            } else {
-                // 기존 최저가와 비교하여 더 낮은 값으로 업데이트
-                int newLowest = lowestPrice < Integer.MAX_VALUE ? lowestPrice : existingLowest;
-                stock.setLowestPrice(Math.min(existingLowest, newLowest));
+            List<Jugot> changed = new ArrayList<>();
+            for (Jugot stock : stocks) {
+                if (applyDailyPrices(stock, dailyPrices, today)) {
+                    changed.add(stock);
+                }
+            }
+            if (!changed.isEmpty()) {
+                jugotRepository.saveAll(changed);
+                // 바뀐 행의 포착월 조회 캐시 무효화
+                eventPublisher.publishEvent(JugotDataChangedEvent.of(changed));
             }
-            
-            jugotRepository.save(stock);
-            
-            logger.info("종목 {} 업데이트 완료 - 현재가: {}, 최고가: {}, 최저가: {}", 
-                stockCode, todayData.getClosePrice(), stock.getHighestPrice(), stock.getLowestPrice());
             
         } catch (org.springframework.web.client.ResourceAccessException e) {
             // 네트워크 오류 - 이미 재시도가 완료된 상태
             logger.error("종목 {} 네트워크 오류로 데이터 업데이트 실패 (재시도 완료): {}", stockCode, e.getMessage());
-            // 네트워크 오류는 재시도가 이미 완료되었으므로 예외를 다시 던지지 않음
+            // 실패로 기록되어 재개 실행에서 다시 처리되도록 상위로 전달
+            throw e;
         } catch (Exception e) {
             // 기타 예외 (JSON 파싱 오류, DB 오류 등)
             logger.error("종목 {} 데이터 업데이트 중 예상치 못한 오류 발생: {}", stockCode, e.getMessage(), e);
@@ -207,42 +554,158 @@ public class StockDataUpdateService {
         }
     }
     
+    /**
+     * 행별 조회 시작일: 워터마크가 있으면 그 다음 날부터, 없으면 포착일부터
+     */
+    private LocalDate refreshStartDate(Jugot stock) {
+        LocalDate watermark = stock.getLastRefreshedDate();
+        return isIncremental(stock) ? watermark.plusDays(1) : stock.getCaptureDate();
+    }
+    
+    private boolean isIncremental(Jugot stock) {
+        LocalDate watermark = stock.getLastRefreshedDate();
+        return watermark != null
+            && !watermark.isBefore(stock.getCaptureDate())
+            && stock.getHighestPrice() != null
+            && stock.getLowestPrice() != null;
+    }
+    
+    /**
+     * 종목코드 단위로 조회한 일별 데이터(최신순)를 개별 Jugot 행에 반영
+     * 마지막으로 반영한 거래일(lastRefreshedDate) 이후의 구간만 최고가/최저가에 누적합니다.
+     *
+     * @return 행이 변경되어 저장이 필요하면 true
+     */
+    private boolean applyDailyPrices(Jugot stock, DailyPriceSeries dailyPrices, LocalDate today) {
+        String stockCode = stock.getStockCode();
+        boolean incremental = isIncremental(stock);
+        LocalDate watermark = stock.getLastRefreshedDate();
+        LocalDate since = refreshStartDate(stock);
+        
+        if (since.isAfter(today)) {
+            return false;
+        }
+        
+        if (dailyPrices.isEmpty()) {
+            logger.warn("종목 {} 데이터가 없습니다 (포착일: {})", stockCode, stock.getCaptureDate());
+            if (incremental) {
+                // 기존 값 유지 (새 거래일 없음)
+                return false;
+            }
+            // 데이터가 없을 때 기본값 설정
+            Integer existingHighestPrice = stock.getHighestPrice();
+            Integer existingLowestPrice = stock.getLowestPrice();
+            stock.setCurrentPrice(0);
+            stock.setHighestPrice(existingHighestPrice != null ? existingHighestPrice : 0);
+            stock.setLowestPrice(existingLowestPrice != null ? existingLowestPrice : Integer.MAX_VALUE);
+            return true;
+        }
+        
+        // 당일 데이터 찾기 (가장 최근 데이터)
+        int latestClose = dailyPrices.closePrice(0);
+        int currentPrice = latestClose;
+        if (currentPrice <= 0) {
+            currentPrice = 0;
+        }
+        
+        // 이 행의 조회 시작일 이후 구간만 누적 대상 (날짜 정수 비교로 배열을 한 번씩 훑음)
+        int sinceDate = DailyPriceSeries.packDate(since);
+        int deltaCount = dailyPrices.countSince(sinceDate);
+        
+        // 조회 구간의 최고가, 최저가 계산
+        Integer existingHighestPrice = stock.getHighestPrice();
+        int highestPrice = deltaCount > 0
+            ? dailyPrices.maxHighSince(sinceDate)
+            : (existingHighestPrice != null ? existingHighestPrice : 0);
+        
+        int lowestPrice = dailyPrices.minLowSince(sinceDate);
+        
+        // DB 업데이트
+        stock.setCurrentPrice(currentPrice);
+        
+        // 최고가 업데이트: 기존 값이 null이면 새 값(또는 0), 아니면 둘 중 큰 값
+        if (existingHighestPrice == null) {
+            stock.setHighestPrice(highestPrice > 0 ? highestPrice : 0);
+        } else {
+            stock.setHighestPrice(Math.max(existingHighestPrice, highestPrice));
+        }
+        
+        // 최저가 로직: 기존 값이 null이면 새 값(또는 Integer.MAX_VALUE), 아니면 둘 중 작은 값
+        Integer existingLowest = stock.getLowestPrice();
+        if (existingLowest == null) {
+            stock.setLowestPrice(lowestPrice < Integer.MAX_VALUE ? lowestPrice : Integer.MAX_VALUE);
+        } else {
+            // 기존 최저가와 비교하여 더 낮은 값으로 업데이트
+            int newLowest = lowestPrice < Integer.MAX_VALUE ? lowestPrice : existingLowest;
+            stock.setLowestPrice(Math.min(existingLowest, newLowest));
+        }
+        
+        // 워터마크 갱신: 장 마감 전 당일 봉은 확정되지 않았으므로 다음 실행에서 다시 반영
+        LocalDate newWatermark = lastCompletedTradeDate(dailyPrices, today);
+        if (newWatermark != null && (watermark == null || newWatermark.isAfter(watermark))) {
+            stock.setLastRefreshedDate(newWatermark);
+        }
+        
+        logger.info("종목 {} (포착일: {}) 업데이트 완료 - 현재가: {}, 최고가: {}, 최저가: {}, 반영 거래일 수: {}, 마지막 반영일: {}", 
+            stockCode, stock.getCaptureDate(), latestClose, stock.getHighestPrice(), stock.getLowestPrice(),
+            deltaCount, stock.getLastRefreshedDate());
+        return true;
+    }
+    
+    /**
+     * 확정된 마지막 거래일 계산 (최신순 데이터 기준)
+     * 장 마감 전에 조회한 당일 봉은 제외합니다.
+     */
+    private LocalDate lastCompletedTradeDate(DailyPriceSeries dailyPrices, LocalDate today) {
+        LocalTime closeTime = tradingCalendar.closeTime(today);
+        boolean marketClosed = closeTime == null
+                || !LocalTime.now(KST).isBefore(closeTime.plusMinutes(CANDLE_SETTLE_MINUTES));
+        int todayDate = DailyPriceSeries.packDate(today);
+        for (int i = 0; i < dailyPrices.size(); i++) {
+            int tradeDate = dailyPrices.date(i);
+            if (tradeDate < todayDate || (tradeDate == todayDate && marketClosed)) {
+                return DailyPriceSeries.unpackDate(tradeDate);
+            }
+        }
+        return null;
+    }
+    
     /**
      * RealTrade의 평단가 업데이트 (매주 월요일 실행)
      * 각 RealTrade 종목에 대해 그 날(월요일)의 종가로 1주 매수 가정하여 평단가 계산
      * 주의: ACTIVE 상태인 항목만 업데이트되며, PAUSED(중단) 또는 COMPLETED(완료) 상태는 제외됩니다.
      */
-    private void updateRealTradeAveragePrice(String token) {
+    private void updateRealTradeAveragePrice(String token, QuoteSnapshot snapshot) {
         long startTime = System.currentTimeMillis();
         try {
             // ACTIVE 상태인 RealTrade 목록 조회 (PAUSED, COMPLETED 상태는 제외)
             List<RealTrade> activeRealTrades = realTradeRepository.findByStatusOrderByCreatedAtDesc("ACTIVE");
             logger.info("RealTrade 평단가 업데이트 대상: {} 개", activeRealTrades.size());
+            stockUpdateStatusService.startPhase(StockUpdateStatusService.Phase.AVERAGE_PRICE, activeRealTrades.size());
             
             if (activeRealTrades.isEmpty()) {
                 logger.info("업데이트할 RealTrade가 없습니다.");
                 return;
             }
             
-            String queryDate = kiwoomApiClient.getTodayYYYYMMDD();
-            LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+            // 스냅샷에 없는 종목만 조회
+            fillMissingQuotes(activeRealTrades, token, snapshot);
             
             for (RealTrade realTrade : activeRealTrades) {
+                long itemStartTime = System.currentTimeMillis();
                 try {
                     String stockCode = realTrade.getStockCode();
                     logger.info("RealTrade 평단가 업데이트 시작: {} ({})", stockCode, realTrade.getStockName());
                     
-                    // 당일 주가 데이터 조회 (1일치만 필요)
-                    List<KiwoomApiClient.DailyPriceData> dailyPrices = 
-                        kiwoomApiClient.fetchDailyPrices(token, stockCode, queryDate, 1);
-                    
-                    if (dailyPrices.isEmpty()) {
+                    // 당일 주가 데이터 (이번 실행의 스냅샷)
+                    KiwoomApiClient.DailyPriceData todayData = snapshot.get(stockCode);
+                    if (todayData == null) {
                         logger.warn("RealTrade {} ({})의 주가 데이터를 가져올 수 없습니다.", stockCode, realTrade.getStockName());
+                        stockUpdateStatusService.recordItem(false, System.currentTimeMillis() - itemStartTime);
                         continue;
                     }
                     
                     // 당일 종가 가져오기
-                    KiwoomApiClient.DailyPriceData todayData = dailyPrices.get(0);
                     int closePrice = todayData.getClosePrice();
                     
                     // 평단가 계산: 기존 평단가가 있으면 가중평균, 없으면 종가가 평단가
@@ -285,14 +748,14 @@ public class StockDataUpdateService {
                     
                     logger.info("RealTrade {} 평단가 업데이트 완료: 평단가={}, 매수횟수={}", 
                         stockCode, newAveragePrice, totalBuyCount);
-                    
-                    // API 호출 간격 조절
-                    Thread.sleep(3000);
+                    stockUpdateStatusService.recordItem(true, System.currentTimeMillis() - itemStartTime);
                     
                 } catch (Exception e) {
                     logger.error("RealTrade {} 평단가 업데이트 실패: {}", realTrade.getStockCode(), e.getMessage(), e);
+                    stockUpdateStatusService.recordItem(false, System.currentTimeMillis() - itemStartTime);
                 }
             }
+            eventPublisher.publishEvent(new RealTradeDataChangedEvent());
             
             long endTime = System.currentTimeMillis();
             long elapsedTime = endTime - startTime;
@@ -312,89 +775,54 @@ public class StockDataUpdateService {
      * 각 RealTrade 종목에 대해 당일 종가로 currentPrice 업데이트
      * 주의: ACTIVE 상태인 항목만 업데이트되며, PAUSED(중단) 또는 COMPLETED(완료) 상태는 제외됩니다.
      */
-    private void updateRealTradeCurrentPrice(String token) {
+    private void updateRealTradeCurrentPrice(String token, QuoteSnapshot snapshot) {
         long startTime = System.currentTimeMillis();
         try {
             // ACTIVE 상태인 RealTrade 목록 조회 (PAUSED, COMPLETED 상태는 제외)
             List<RealTrade> activeRealTrades = realTradeRepository.findByStatusOrderByCreatedAtDesc("ACTIVE");
             logger.info("RealTrade currentPrice 업데이트 대상: {} 개", activeRealTrades.size());
+            stockUpdateStatusService.startPhase(StockUpdateStatusService.Phase.REALTRADE_CURRENT_PRICE, activeRealTrades.size());
             
             if (activeRealTrades.isEmpty()) {
                 logger.info("업데이트할 RealTrade가 없습니다.");
                 return;
             }
             
-            String queryDate = kiwoomApiClient.getTodayYYYYMMDD();
+            // 스냅샷에 없는 종목만 조회
+            fillMissingQuotes(activeRealTrades, token, snapshot);
             
+            List<RealTrade> pricedTrades = new ArrayList<>(activeRealTrades.size());
             for (RealTrade realTrade : activeRealTrades) {
-                try {
-                    String stockCode = realTrade.getStockCode();
-                    logger.info("RealTrade currentPrice 업데이트 시작: {} ({})", stockCode, realTrade.getStockName());
-                    
-                    // 당일 주가 데이터 조회 (1일치만 필요)
-                    List<KiwoomApiClient.DailyPriceData> dailyPrices = 
-                        kiwoomApiClient.fetchDailyPrices(token, stockCode, queryDate, 1);
-                    
-                    if (dailyPrices.isEmpty()) {
-                        logger.warn("RealTrade {} ({})의 주가 데이터를 가져올 수 없습니다.", stockCode, realTrade.getStockName());
-                        continue;
-                    }
-                    
-                    // 당일 종가 가져오기
-                    KiwoomApiClient.DailyPriceData todayData = dailyPrices.get(0);
-                    int closePrice = todayData.getClosePrice();
-                    
-                    // DB 업데이트
-                    realTrade.setCurrentPrice(closePrice);
-                    realTradeRepository.save(realTrade);
-                    
-                    logger.info("RealTrade {} currentPrice 업데이트 완료: currentPrice={}", 
-                        stockCode, closePrice);
-                    
-                    // 수익률 계산 및 자동 중단 체크 (5% 이상이면 자동 중단)
-                    try {
-                        // buyPrice 조회 (startDate와 일치하는 Jugot의 capturePrice)
-                        Integer buyPrice = null;
-                        if (realTrade.getStartDate() != null) {
-                            Optional<Jugot> startJugot = jugotRepository.findByStockCodeAndCaptureDate(
-                                realTrade.getStockCode(), realTrade.getStartDate()
-                            );
-                            if (startJugot.isPresent()) {
-                                buyPrice = startJugot.get().getCapturePrice();
-                            }
-                        }
-                        
-                        // buyPrice가 있고 currentPrice가 있으면 수익률 계산
-                        if (buyPrice != null && buyPrice > 0 && closePrice > 0) {
-                            double profitRate = ((double)(closePrice - buyPrice) / buyPrice) * 100;
-                            
-                            logger.info("RealTrade {} 수익률 계산: buyPrice={}, currentPrice={}, profitRate={}%", 
-                                stockCode, buyPrice, closePrice, String.format("%.2f", profitRate));
-                            
-                            // 수익률이 5% 이상이면 자동으로 PAUSED 상태로 변경
-                            if (profitRate >= 5.0) {
-                                logger.info("RealTrade {} 수익률이 5% 이상({}%)이므로 자동 중단 처리", 
-                                    stockCode, String.format("%.2f", profitRate));
-                                realTradeService.pauseRealTrade(realTrade.getId());
-                                logger.info("RealTrade {} 자동 중단 완료 (PAUSED 상태로 변경)", stockCode);
-                            }
-                        } else {
-                            logger.debug("RealTrade {} 수익률 계산 불가: buyPrice={}, currentPrice={}", 
-                                stockCode, buyPrice, closePrice);
-                        }
-                    } catch (Exception e) {
-                        logger.error("RealTrade {} 수익률 계산 및 자동 중단 체크 중 오류 발생: {}", 
-                            stockCode, e.getMessage(), e);
-                        // 수익률 계산 오류는 전체 프로세스를 중단하지 않음
-                    }
-                    
-                    // API 호출 간격 조절
-                    Thread.sleep(3000);
-                    
-                } catch (Exception e) {
-                    logger.error("RealTrade {} currentPrice 업데이트 실패: {}", realTrade.getStockCode(), e.getMessage(), e);
+                long itemStartTime = System.currentTimeMillis();
+                String stockCode = realTrade.getStockCode();
+                
+                // 당일 주가 데이터 (이번 실행의 스냅샷)
+                KiwoomApiClient.DailyPriceData todayData = snapshot.get(stockCode);
+                if (todayData == null) {
+                    logger.warn("RealTrade {} ({})의 주가 데이터를 가져올 수 없습니다.", stockCode, realTrade.getStockName());
+                    stockUpdateStatusService.recordItem(false, System.currentTimeMillis() - itemStartTime);
+                    continue;
                 }
+                
+                // 당일 종가를 현재가로
+                realTrade.setCurrentPrice(todayData.getClosePrice());
+                pricedTrades.add(realTrade);
+                logger.debug("RealTrade {} currentPrice={}", stockCode, todayData.getClosePrice());
+                stockUpdateStatusService.recordItem(true, System.currentTimeMillis() - itemStartTime);
+            }
+            
+            // DB 업데이트 (한 번에 저장)
+            realTradeRepository.saveAll(pricedTrades);
+            logger.info("RealTrade currentPrice 업데이트: {} / {} 건", pricedTrades.size(), activeRealTrades.size());
+            
+            // 익절/손절 규칙 평가 및 자동 중단 (매수가 일괄 조회 + 상태 일괄 변경)
+            try {
+                realTradeRuleEngine.applyRules(pricedTrades);
+            } catch (Exception e) {
+                logger.error("RealTrade 자동 중단 규칙 적용 중 오류 발생: {}", e.getMessage(), e);
+                // 규칙 적용 오류는 전체 프로세스를 중단하지 않음
             }
+            eventPublisher.publishEvent(new RealTradeDataChangedEvent());
             
             long endTime = System.currentTimeMillis();
             long elapsedTime = endTime - startTime;
@@ -409,6 +837,35 @@ public class StockDataUpdateService {
         }
     }
     
+    /**
+     * RealTrade 종목 중 스냅샷에 없는 종목코드만 당일 데이터(1일치)를 조회하여 채움
+     * 한 종목당 한 페이지뿐이라 비동기 클라이언트로 한꺼번에 요청하고, 동시 호출 수와 속도는 callGuard/rateLimiter가 조절합니다.
+     */
+    private void fillMissingQuotes(List<RealTrade> realTrades, String token, QuoteSnapshot snapshot) {
+        List<String> missingCodes = realTrades.stream()
+            .map(RealTrade::getStockCode)
+            .distinct()
+            .filter(code -> !snapshot.contains(code))
+            .toList();
+        logger.info("RealTrade 시세: 스냅샷 재사용 {} 종목, 추가 조회 {} 종목",
+            realTrades.stream().map(RealTrade::getStockCode).distinct().count() - missingCodes.size(), missingCodes.size());
+        
+        String queryDate = kiwoomApiClient.getTodayYYYYMMDD();
+        CompletableFuture<?>[] quotes = missingCodes.stream()
+            .map(stockCode -> kiwoomAsyncApiClient.fetchDailyPricesAsync(token, stockCode, queryDate, 1)
+                .handle((dailyPrices, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        logger.error("RealTrade {} 주가 데이터 조회 실패: {}", stockCode, cause.getMessage());
+                    } else {
+                        snapshot.record(stockCode, dailyPrices);
+                    }
+                    return null;
+                }))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(quotes).join();
+    }
+    
     /**
      * 수동으로 특정 종목 데이터 업데이트 (테스트용)
      */
@@ -420,15 +877,14 @@ public class StockDataUpdateService {
             KiwoomApiClient.TokenResponse tokenResponse = kiwoomApiClient.getAccessToken();
             String token = tokenResponse.getToken();
             
-            // 종목 조회
-            Optional<Jugot> stockOpt = jugotRepository.findByStockCode(stockCode);
-            if (stockOpt.isEmpty()) {
+            // 종목 조회 (같은 종목코드의 모든 포착 행)
+            List<Jugot> stocks = jugotRepository.findByStockCodeOrderByCaptureDateDesc(stockCode);
+            if (stocks.isEmpty()) {
                 logger.warn("종목 {} 을 찾을 수 없습니다", stockCode);
                 return;
             }
             
-            Jugot stock = stockOpt.get();
-            updateStockData(stock, token);
+            updateStockGroup(stockCode, stocks, token, new QuoteSnapshot());
             
             logger.info("종목 {} 수동 업데이트 완료", stockCode);
             
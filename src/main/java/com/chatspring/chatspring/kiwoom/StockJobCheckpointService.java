@@ -0,0 +1,181 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일일 업데이트 체크포인트
+ * 종목코드별 처리 결과를 즉시 기록하여, 실행이 중단되거나 일부 종목이 실패해도
+ * 다음 재개 실행에서 OK가 아닌 종목만 다시 처리할 수 있게 합니다.
+ */
+@Service
+public class StockJobCheckpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockJobCheckpointService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final StockJobRunRepository runRepository;
+    private final StockJobItemRepository itemRepository;
+
+    public StockJobCheckpointService(StockJobRunRepository runRepository, StockJobItemRepository itemRepository) {
+        this.runRepository = runRepository;
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * 새 실행 시작: 대상 종목코드를 모두 PENDING으로 기록
+     */
+    @Transactional
+    public StockJobRun startRun(Collection<String> stockCodes) {
+        StockJobRun run = new StockJobRun();
+        run.setTotalCount(stockCodes.size());
+        run = runRepository.save(run);
+
+        List<StockJobItem> items = new ArrayList<>(stockCodes.size());
+        for (String stockCode : stockCodes) {
+            StockJobItem item = new StockJobItem();
+            item.setRunId(run.getId());
+            item.setStockCode(stockCode);
+            items.add(item);
+        }
+        itemRepository.saveAll(items);
+        logger.info("업데이트 실행 #{} 시작 - 대상 종목코드 {} 개", run.getId(), stockCodes.size());
+        return run;
+    }
+
+    /**
+     * 가장 최근 실행이 오늘(한국 시간) 시작했고 완료되지 않았으면(중단 또는 일부 실패) 반환
+     * 지난 날의 실행은 재개하지 않음 - 평단가 반영(매수 누적)이 그 날의 시세로 오늘 실행과 중복되기 때문
+     */
+    @Transactional(readOnly = true)
+    public Optional<StockJobRun> findResumableRun() {
+        LocalDate today = LocalDate.now(KST);
+        return runRepository.findTopByOrderByIdDesc()
+            .filter(run -> !StockJobRun.COMPLETED.equals(run.getStatus()))
+            .filter(run -> startedOn(run, today));
+    }
+
+    /**
+     * 실행이 해당 날짜(한국 시간)에 시작했는지 (시작 시각은 서버 시간대로 저장됨)
+     */
+    public static boolean startedOn(StockJobRun run, LocalDate date) {
+        return run.getStartedAt() != null
+            && run.getStartedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(KST).toLocalDate().equals(date);
+    }
+
+    /**
+     * 실행 재개: 상태를 RUNNING으로 돌리고 OK가 아닌(PENDING, FAILED) 종목코드를 반환
+     */
+    @Transactional
+    public List<String> resumeRun(StockJobRun run) {
+        StockJobRun managed = runRepository.findById(run.getId())
+            .orElseThrow(() -> new RuntimeException("업데이트 실행을 찾을 수 없습니다: " + run.getId()));
+        managed.setStatus(StockJobRun.RUNNING);
+        managed.setFinishedAt(null);
+        managed.setResumeCount(managed.getResumeCount() != null ? managed.getResumeCount() + 1 : 1);
+        runRepository.save(managed);
+
+        List<String> stockCodes = itemRepository.findByRunIdAndStatusNot(run.getId(), StockJobItem.OK).stream()
+            .map(StockJobItem::getStockCode)
+            .toList();
+        logger.info("업데이트 실행 #{} 재개 ({}회차) - 재처리 종목코드 {} 개",
+            run.getId(), managed.getResumeCount(), stockCodes.size());
+        return stockCodes;
+    }
+
+    @Transactional
+    public void markOk(Long runId, String stockCode, long durationMs) {
+        mark(runId, stockCode, StockJobItem.OK, null, durationMs);
+    }
+
+    @Transactional
+    public void markFailed(Long runId, String stockCode, String error, long durationMs) {
+        mark(runId, stockCode, StockJobItem.FAILED, error, durationMs);
+    }
+
+    private void mark(Long runId, String stockCode, String status, String error, long durationMs) {
+        StockJobItem item = itemRepository.findByRunIdAndStockCode(runId, stockCode).orElseGet(() -> {
+            StockJobItem created = new StockJobItem();
+            created.setRunId(runId);
+            created.setStockCode(stockCode);
+            return created;
+        });
+        item.setStatus(status);
+        item.setAttempts(item.getAttempts() != null ? item.getAttempts() + 1 : 1);
+        item.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        item.setDurationMs(durationMs);
+        itemRepository.save(item);
+    }
+
+    /**
+     * 클러스터 모드: PENDING 종목을 최대 limit개 선점하고, 이 노드가 선점 중인 PENDING 종목코드를 반환
+     * 선점은 ttl 뒤 만료되어, 처리 도중 노드가 죽으면 다른 노드가 가져갑니다.
+     */
+    @Transactional
+    public List<String> claimPending(Long runId, String owner, int limit, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> candidates = itemRepository.findClaimableCodes(runId, StockJobItem.PENDING, now, PageRequest.of(0, limit));
+        if (!candidates.isEmpty()) {
+            itemRepository.claim(runId, StockJobItem.PENDING, candidates, owner, now, now.plus(ttl));
+        }
+        return itemRepository.findClaimedCodes(runId, StockJobItem.PENDING, owner);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending(Long runId) {
+        return itemRepository.countByRunIdAndStatus(runId, StockJobItem.PENDING);
+    }
+
+    /**
+     * RealTrade 평단가 반영 완료 기록 (재개 실행에서 중복 매수 반영 방지)
+     */
+    @Transactional
+    public void markAveragePriceDone(Long runId) {
+        runRepository.findById(runId).ifPresent(run -> {
+            run.setAveragePriceDone(true);
+            runRepository.save(run);
+        });
+    }
+
+    /**
+     * 실행 종료: 종목별 결과를 집계하여 모두 OK면 COMPLETED, 아니면 PARTIAL
+     */
+    @Transactional
+    public StockJobRun finishRun(Long runId) {
+        StockJobRun run = runRepository.findById(runId)
+            .orElseThrow(() -> new RuntimeException("업데이트 실행을 찾을 수 없습니다: " + runId));
+        long okCount = itemRepository.countByRunIdAndStatus(runId, StockJobItem.OK);
+        long failedCount = itemRepository.countByRunIdAndStatus(runId, StockJobItem.FAILED);
+        run.setOkCount((int) okCount);
+        run.setFailedCount((int) failedCount);
+        run.setStatus(okCount >= run.getTotalCount() ? StockJobRun.COMPLETED : StockJobRun.PARTIAL);
+        run.setFinishedAt(LocalDateTime.now());
+        logger.info("업데이트 실행 #{} 종료 - 상태: {}, 성공: {}, 실패: {}, 전체: {}",
+            runId, run.getStatus(), okCount, failedCount, run.getTotalCount());
+        return runRepository.save(run);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<StockJobRun> findLatestRun() {
+        return runRepository.findTopByOrderByIdDesc();
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockJobItem> getFailedItems(Long runId) {
+        return itemRepository.findByRunIdAndStatus(runId, StockJobItem.FAILED);
+    }
+}
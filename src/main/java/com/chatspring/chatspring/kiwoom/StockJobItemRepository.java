@@ -0,0 +1,42 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockJobItemRepository extends JpaRepository<StockJobItem, Long> {
+    Optional<StockJobItem> findByRunIdAndStockCode(Long runId, String stockCode);
+
+    // 실행 내 특정 상태가 아닌 종목 (재개 대상: OK가 아닌 종목)
+    List<StockJobItem> findByRunIdAndStatusNot(Long runId, String status);
+
+    List<StockJobItem> findByRunIdAndStatus(Long runId, String status);
+
+    long countByRunIdAndStatus(Long runId, String status);
+
+    // 클러스터 모드: 아무도 선점하지 않았거나 선점이 만료된 종목
+    @Query("SELECT i.stockCode FROM StockJobItem i WHERE i.runId = :runId AND i.status = :status " +
+           "AND (i.claimedBy IS NULL OR i.claimExpiresAt < :now) ORDER BY i.id")
+    List<String> findClaimableCodes(@Param("runId") Long runId, @Param("status") String status,
+                                    @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE라 여러 노드가 같은 종목을 골라도 한 노드만 선점
+    @Modifying
+    @Query("UPDATE StockJobItem i SET i.claimedBy = :owner, i.claimExpiresAt = :expiresAt " +
+           "WHERE i.runId = :runId AND i.status = :status AND i.stockCode IN :codes " +
+           "AND (i.claimedBy IS NULL OR i.claimExpiresAt < :now)")
+    int claim(@Param("runId") Long runId, @Param("status") String status, @Param("codes") Collection<String> codes,
+              @Param("owner") String owner, @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT i.stockCode FROM StockJobItem i WHERE i.runId = :runId AND i.status = :status AND i.claimedBy = :owner")
+    List<String> findClaimedCodes(@Param("runId") Long runId, @Param("status") String status, @Param("owner") String owner);
+}
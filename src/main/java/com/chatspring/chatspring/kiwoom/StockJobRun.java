@@ -0,0 +1,128 @@
+package com.chatspring.chatspring.kiwoom;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일일 주가 업데이트 실행 기록
+ * 실행 단위로 종목별 진행 상태(StockJobItem)를 묶어, 중단되거나 실패한 종목만 다시 처리할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "stock_job_runs")
+public class StockJobRun {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String PARTIAL = "PARTIAL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "total_count")
+    private Integer totalCount = 0;
+
+    @Column(name = "ok_count")
+    private Integer okCount = 0;
+
+    @Column(name = "failed_count")
+    private Integer failedCount = 0;
+
+    // 재개 실행 횟수 (처음 실행은 0)
+    @Column(name = "resume_count")
+    private Integer resumeCount = 0;
+
+    // RealTrade 평단가 반영 여부 (매수 누적이므로 재개 시 중복 반영 방지)
+    @Column(name = "average_price_done")
+    private Boolean averagePriceDone = false;
+
+    @PrePersist
+    protected void onCreate() {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public Integer getOkCount() {
+        return okCount;
+    }
+
+    public void setOkCount(Integer okCount) {
+        this.okCount = okCount;
+    }
+
+    public Integer getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(Integer failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public Integer getResumeCount() {
+        return resumeCount;
+    }
+
+    public void setResumeCount(Integer resumeCount) {
+        this.resumeCount = resumeCount;
+    }
+
+    public Boolean getAveragePriceDone() {
+        return averagePriceDone;
+    }
+
+    public void setAveragePriceDone(Boolean averagePriceDone) {
+        this.averagePriceDone = averagePriceDone;
+    }
+}
@@ -0,0 +1,12 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StockJobRunRepository extends JpaRepository<StockJobRun, Long> {
+    // 가장 최근 실행
+    Optional<StockJobRun> findTopByOrderByIdDesc();
+}
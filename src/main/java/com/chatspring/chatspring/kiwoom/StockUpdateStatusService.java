@@ -2,40 +2,248 @@ package com.chatspring.chatspring.kiwoom;
 
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 주가 데이터 업데이트 진행 상태를 추적하는 서비스
+ * 워커 스레드는 락 없이 카운터(LongAdder)와 CAS로 진행 상황을 기록하고,
+ * 조회 API는 짧은 주기로 만들어 두는 불변 스냅샷({@link UpdateProgress})을 공유해 폴링 클라이언트가 많아도 저렴합니다.
  */
 @Service
 public class StockUpdateStatusService {
-    
+
+    // 스냅샷 재사용 시간 (이 시간 안의 조회는 같은 스냅샷을 반환)
+    private static final long SNAPSHOT_TTL_MILLIS = 250;
+    // 종목당 지연 이동평균 가중치 (최근 값 비중)
+    private static final double LATENCY_ALPHA = 0.2;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 업데이트 단계
+     */
+    public enum Phase {
+        IDLE("대기"),
+        JUGOT("Jugot 시세 업데이트"),
+        REALTRADE_CURRENT_PRICE("RealTrade 현재가 업데이트"),
+        AVERAGE_PRICE("RealTrade 평단가 업데이트");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final KiwoomCallGuard callGuard;
+
     private final AtomicBoolean isUpdating = new AtomicBoolean(false);
-    
+    private volatile Phase phase = Phase.IDLE;
+    private volatile long startedAtMillis;
+    private volatile long phaseStartedAtMillis;
+    private volatile int phaseTotal;
+    private volatile long callCountAtStart;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    // 종목당 지연(ms) 지수이동평균 - double 비트로 저장해 CAS로 갱신 (NaN이면 아직 없음)
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+    private final AtomicReference<UpdateProgress> cachedProgress = new AtomicReference<>();
+
+    public StockUpdateStatusService(KiwoomCallGuard callGuard) {
+        this.callGuard = callGuard;
+    }
+
     /**
      * 업데이트 시작
      */
     public void startUpdate() {
+        startedAtMillis = System.currentTimeMillis();
+        callCountAtStart = callGuard.getCallCount();
+        latencyEwmaBits.set(Double.doubleToRawLongBits(Double.NaN));
+        startPhase(Phase.JUGOT, 0);
         isUpdating.set(true);
     }
-    
+
     /**
      * 업데이트 종료
      */
     public void endUpdate() {
         isUpdating.set(false);
+        phase = Phase.IDLE;
+        cachedProgress.set(null);
     }
-    
+
     /**
      * 업데이트 진행 중인지 확인
      */
     public boolean isUpdating() {
         return isUpdating.get();
     }
-}
 
+    /**
+     * 새 단계 시작 (처리/실패 수는 단계별로 다시 셈)
+     *
+     * @param total 이 단계에서 처리할 항목 수
+     */
+    public void startPhase(Phase next, int total) {
+        processed.reset();
+        failed.reset();
+        phaseTotal = total;
+        phaseStartedAtMillis = System.currentTimeMillis();
+        phase = next;
+        cachedProgress.set(null);
+    }
 
+    /**
+     * 항목 하나 처리 완료 기록 (워커 스레드에서 호출)
+     */
+    public void recordItem(boolean success, long durationMs) {
+        if (success) {
+            processed.increment();
+        } else {
+            failed.increment();
+        }
+        long current;
+        long next;
+        do {
+            current = latencyEwmaBits.get();
+            double average = Double.longBitsToDouble(current);
+            double updated = Double.isNaN(average) ? durationMs : average + LATENCY_ALPHA * (durationMs - average);
+            next = Double.doubleToRawLongBits(updated);
+        } while (!latencyEwmaBits.compareAndSet(current, next));
+    }
 
+    /**
+     * 현재 진행 상황 (최근 250ms 안에 만든 스냅샷이 있으면 재사용)
+     */
+    public UpdateProgress getProgress() {
+        long now = System.currentTimeMillis();
+        UpdateProgress cached = cachedProgress.get();
+        if (cached != null && now - cached.generatedAtMillis < SNAPSHOT_TTL_MILLIS) {
+            return cached;
+        }
+        UpdateProgress fresh = buildProgress(now);
+        // 동시에 여러 요청이 만들어도 결과가 같으므로 마지막 것을 저장
+        cachedProgress.set(fresh);
+        return fresh;
+    }
+
+    private UpdateProgress buildProgress(long now) {
+        boolean updating = isUpdating.get();
+        if (!updating) {
+            return new UpdateProgress(now, false, Phase.IDLE, 0, 0, 0, null, 0, null, 0, null);
+        }
+        Phase currentPhase = phase;
+        int total = phaseTotal;
+        long done = processed.sum();
+        long failures = failed.sum();
+        double latency = Double.longBitsToDouble(latencyEwmaBits.get());
+        long elapsed = now - startedAtMillis;
+
+        // 남은 시간: 이 단계의 평균 처리 간격(병렬 처리 포함) x 남은 항목 수
+        Long etaSeconds = null;
+        long finished = done + failures;
+        long remaining = Math.max(0, total - finished);
+        if (finished > 0 && total > 0) {
+            long phaseElapsed = now - phaseStartedAtMillis;
+            etaSeconds = phaseElapsed * remaining / finished / 1000;
+        }
+        return new UpdateProgress(now, true, currentPhase, total, done, failures,
+            Double.isNaN(latency) ? null : Math.round(latency),
+            callGuard.getCallCount() - callCountAtStart,
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAtMillis), KST),
+            elapsed / 1000, etaSeconds);
+    }
+
+    /**
+     * 진행 상황 스냅샷 (불변)
+     */
+    public static class UpdateProgress {
+        private final long generatedAtMillis;
+        private final boolean updating;
+        private final Phase phase;
+        private final int total;
+        private final long processed;
+        private final long failed;
+        private final Long avgItemLatencyMs;
+        private final long apiCalls;
+        private final LocalDateTime startedAt;
+        private final long elapsedSeconds;
+        private final Long etaSeconds;
+
+        UpdateProgress(long generatedAtMillis, boolean updating, Phase phase, int total, long processed, long failed,
+                       Long avgItemLatencyMs, long apiCalls, LocalDateTime startedAt, long elapsedSeconds, Long etaSeconds) {
+            this.generatedAtMillis = generatedAtMillis;
+            this.updating = updating;
+            this.phase = phase;
+            this.total = total;
+            this.processed = processed;
+            this.failed = failed;
+            this.avgItemLatencyMs = avgItemLatencyMs;
+            this.apiCalls = apiCalls;
+            this.startedAt = startedAt;
+            this.elapsedSeconds = elapsedSeconds;
+            this.etaSeconds = etaSeconds;
+        }
+
+        public boolean isUpdating() {
+            return updating;
+        }
 
+        public Phase getPhase() {
+            return phase;
+        }
 
+        public String getPhaseLabel() {
+            return phase.getLabel();
+        }
 
+        public int getTotal() {
+            return total;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * 진행률(%) - 처리 + 실패 / 전체
+         */
+        public double getPercent() {
+            return total > 0 ? Math.min(100.0, Math.round((processed + failed) * 1000.0 / total) / 10.0) : 0.0;
+        }
+
+        public Long getAvgItemLatencyMs() {
+            return avgItemLatencyMs;
+        }
+
+        public long getApiCalls() {
+            return apiCalls;
+        }
+
+        public LocalDateTime getStartedAt() {
+            return startedAt;
+        }
+
+        public long getElapsedSeconds() {
+            return elapsedSeconds;
+        }
+
+        public Long getEtaSeconds() {
+            return etaSeconds;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import com.chatspring.chatspring.kiwoom.KiwoomTokenManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 키움 실시간 시세 (주식체결 0B) 공급원 (kiwoom.realtime.feed=kiwoom, 기본값)
+ * 첫 구독이 생길 때 키움 WebSocket에 연결해 LOGIN 후 종목을 등록(REG)하고, 수신한 REAL 메시지를 {@link QuoteTick}으로 변환합니다.
+ * 연결이 끊기면 구독 중인 종목이 남아 있는 동안 대기 시간을 늘려가며 다시 연결하고 종목을 재등록합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "kiwoom.realtime.feed", havingValue = "kiwoom", matchIfMissing = true)
+public class KiwoomRealtimeQuoteFeed implements QuoteFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiwoomRealtimeQuoteFeed.class);
+
+    private static final String TRADE_TYPE = "0B";   // 주식체결
+    private static final String GROUP_NO = "1";
+    private static final long MAX_RECONNECT_DELAY_MS = 60_000;
+
+    private final KiwoomTokenManager tokenManager;
+    private final String url;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kiwoom-realtime-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<String> stockCodes = ConcurrentHashMap.newKeySet();
+    private volatile Consumer<QuoteTick> listener = tick -> { };
+    // 연결/재연결 상태는 scheduler 스레드에서만 변경
+    private volatile WebSocket webSocket;
+    private volatile boolean loggedIn;
+    private boolean connecting;
+    private long reconnectDelayMs = 1000;
+    // 이전 전송이 끝나기 전에 다음 sendText를 호출할 수 없으므로 전송을 순서대로 연결
+    private CompletableFuture<?> lastSend = CompletableFuture.completedFuture(null);
+    private volatile boolean closed;
+
+    public KiwoomRealtimeQuoteFeed(KiwoomTokenManager tokenManager,
+                                   @Value("${kiwoom.realtime.url:wss://api.kiwoom.com:10000/api/dostk/websocket}") String url,
+                                   @Value("${kiwoom.api.connect-timeout:3}") int connectTimeout) {
+        this.tokenManager = tokenManager;
+        this.url = url;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(connectTimeout))
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        scheduler.shutdownNow();
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+    }
+
+    @Override
+    public void setListener(Consumer<QuoteTick> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void subscribe(String stockCode) {
+        if (stockCodes.add(stockCode)) {
+            scheduler.execute(() -> {
+                if (loggedIn) {
+                    send(registration("REG", List.of(stockCode)));
+                } else {
+                    connect();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void unsubscribe(String stockCode) {
+        if (stockCodes.remove(stockCode)) {
+            scheduler.execute(() -> {
+                if (loggedIn) {
+                    send(registration("REMOVE", List.of(stockCode)));
+                }
+            });
+        }
+    }
+
+    /**
+     * 연결 후 LOGIN 전송 (REG는 LOGIN 응답을 받은 뒤에 보냄)
+     */
+    private void connect() {
+        if (closed || connecting || webSocket != null || stockCodes.isEmpty()) {
+            return;
+        }
+        connecting = true;
+        String token;
+        try {
+            token = tokenManager.getToken().getToken();
+        } catch (Exception e) {
+            logger.error("키움 실시간 시세 연결 실패 (토큰 발급): {}", e.getMessage());
+            connecting = false;
+            scheduleReconnect();
+            return;
+        }
+        httpClient.newWebSocketBuilder()
+            .buildAsync(URI.create(url), new Listener())
+            .whenCompleteAsync((ws, error) -> {
+                connecting = false;
+                if (error != null) {
+                    logger.error("키움 실시간 시세 연결 실패: {}", error.getMessage());
+                    scheduleReconnect();
+                    return;
+                }
+                webSocket = ws;
+                logger.info("키움 실시간 시세 연결됨: {}", url);
+                send(Map.of("trnm", "LOGIN", "token", token));
+            }, scheduler);
+    }
+
+    private void scheduleReconnect() {
+        if (closed || stockCodes.isEmpty()) {
+            return;
+        }
+        long delay = reconnectDelayMs;
+        reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+        logger.info("키움 실시간 시세 {}ms 후 재연결", delay);
+        scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void onDisconnected(String reason) {
+        logger.warn("키움 실시간 시세 연결 끊김: {}", reason);
+        webSocket = null;
+        loggedIn = false;
+        scheduleReconnect();
+    }
+
+    private void onMessage(String text) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(text);
+        } catch (Exception e) {
+            logger.warn("키움 실시간 시세 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+        String trnm = root.path("trnm").asText();
+        switch (trnm) {
+            case "REAL" -> onReal(root.path("data"));
+            case "PING" -> send(text);   // 받은 그대로 돌려보내야 연결이 유지됨
+            case "LOGIN" -> {
+                if (root.path("return_code").asInt(-1) != 0) {
+                    logger.error("키움 실시간 시세 로그인 실패: {}", root.path("return_msg").asText());
+                    WebSocket current = webSocket;
+                    if (current != null) {
+                        current.abort();
+                    }
+                    onDisconnected("로그인 실패");
+                    return;
+                }
+                loggedIn = true;
+                reconnectDelayMs = 1000;
+                if (!stockCodes.isEmpty()) {
+                    send(registration("REG", stockCodes));
+                }
+            }
+            default -> {
+                if (root.path("return_code").asInt(0) != 0) {
+                    logger.warn("키움 실시간 시세 {} 실패: {}", trnm, root.path("return_msg").asText());
+                }
+            }
+        }
+    }
+
+    private void onReal(JsonNode data) {
+        for (JsonNode item : data) {
+            if (!TRADE_TYPE.equals(item.path("type").asText())) {
+                continue;
+            }
+            JsonNode values = item.path("values");
+            QuoteTick tick = new QuoteTick(
+                item.path("item").asText(),
+                Math.abs(parseLong(values.path("10").asText())),   // 현재가 (부호는 전일 대비 방향)
+                parseLong(values.path("11").asText()),             // 전일 대비
+                parseDouble(values.path("12").asText()),           // 등락율
+                parseLong(values.path("13").asText()),             // 누적거래량
+                values.path("20").asText());                       // 체결시간
+            listener.accept(tick);
+        }
+    }
+
+    private Map<String, Object> registration(String trnm, Collection<String> codes) {
+        return Map.of(
+            "trnm", trnm,
+            "grp_no", GROUP_NO,
+            "refresh", "1",
+            "data", List.of(Map.of("item", new ArrayList<>(codes), "type", List.of(TRADE_TYPE))));
+    }
+
+    private void send(Object message) {
+        WebSocket current = webSocket;
+        if (current == null) {
+            return;
+        }
+        String text;
+        try {
+            text = message instanceof String s ? s : objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            logger.warn("키움 실시간 시세 메시지 생성 실패: {}", e.getMessage());
+            return;
+        }
+        lastSend = lastSend
+            .handle((result, error) -> null)
+            .thenCompose(ignored -> current.sendText(text, true))
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    logger.warn("키움 실시간 시세 전송 실패: {}", error.getMessage());
+                }
+            });
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null || value.isEmpty() ? 0 : Long.parseLong(value.replace("+", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return value == null || value.isEmpty() ? 0 : Double.parseDouble(value.replace("+", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 조각난 텍스트 프레임을 모아 완성된 메시지 단위로 처리 (처리는 scheduler 스레드에서)
+     */
+    private class Listener implements WebSocket.Listener {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+                scheduler.execute(() -> onMessage(text));
+            }
+            ws.request(1);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+            scheduler.execute(() -> {
+                if (webSocket == ws) {
+                    onDisconnected(statusCode + " " + reason);
+                }
+            });
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            scheduler.execute(() -> {
+                if (webSocket == ws) {
+                    onDisconnected(error.getMessage());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * clientOutboundChannel 인터셉터 - 시세 메시지가 클라이언트 세션으로 실제 전송(소켓 쓰기)까지 끝난 시점을 알려줌
+ * {@link QuoteStreamService}는 이 신호를 받은 뒤에만 해당 세션에 다음 시세를 보내므로, 느린 클라이언트는 쌓인 시세 대신 최신 시세만 받습니다.
+ */
+@Component
+public class QuoteDeliveryTracker implements ExecutorChannelInterceptor {
+
+    private volatile Consumer<String> listener = sessionId -> { };
+
+    void setListener(Consumer<String> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (Boolean.TRUE.equals(message.getHeaders().get(QuoteStreamService.QUOTE_HEADER))) {
+            listener.accept(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        }
+    }
+}
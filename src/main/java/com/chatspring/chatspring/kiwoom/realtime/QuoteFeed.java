@@ -0,0 +1,20 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import java.util.function.Consumer;
+
+/**
+ * 실시간 시세 공급원
+ * {@link QuoteStreamService}가 구독자가 생긴 종목만 subscribe하고, 마지막 구독자가 떠나면 unsubscribe합니다.
+ * 구현체는 kiwoom.realtime.feed 설정으로 선택합니다 (kiwoom: 키움 실시간 시세, simulated: 로컬 모의 시세).
+ */
+public interface QuoteFeed {
+
+    /**
+     * 수신한 시세를 전달받을 리스너 등록 (구현체의 수신 스레드에서 호출됨)
+     */
+    void setListener(Consumer<QuoteTick> listener);
+
+    void subscribe(String stockCode);
+
+    void unsubscribe(String stockCode);
+}
@@ -0,0 +1,53 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Predicate;
+
+/**
+ * clientInboundChannel 인터셉터
+ * <ul>
+ *   <li>클라이언트가 보낸 SEND는 애플리케이션 목적지(/app/**)만 허용합니다. 시세는 서버({@link QuoteStreamService})만 발행할 수 있습니다.</li>
+ *   <li>시세 구독(/topic/quotes/{종목코드})은 종목코드 형식이 맞고, 구독 종목 수 한도 안일 때만 허용합니다.</li>
+ * </ul>
+ * 거부하면 예외가 STOMP ERROR 프레임으로 클라이언트에 전달됩니다.
+ */
+@Component
+public class QuoteInboundGuard implements ChannelInterceptor {
+
+    static final String APPLICATION_PREFIX = "/app/";
+
+    // 새 종목 구독 허용 여부 (QuoteStreamService가 등록)
+    private volatile Predicate<String> subscriptionFilter = stockCode -> true;
+
+    public void setSubscriptionFilter(Predicate<String> subscriptionFilter) {
+        this.subscriptionFilter = subscriptionFilter;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (type == SimpMessageType.MESSAGE) {
+            if (destination == null || !destination.startsWith(APPLICATION_PREFIX)) {
+                throw new MessageDeliveryException(message, "클라이언트는 이 목적지로 메시지를 보낼 수 없습니다: " + destination);
+            }
+        } else if (type == SimpMessageType.SUBSCRIBE && destination != null
+                && destination.startsWith(QuoteStreamService.TOPIC_PREFIX)) {
+            String stockCode = QuoteStreamService.stockCodeOf(destination);
+            if (stockCode == null) {
+                throw new MessageDeliveryException(message, "잘못된 종목코드입니다: " + destination);
+            }
+            if (!subscriptionFilter.test(stockCode)) {
+                throw new MessageDeliveryException(message, "실시간 시세 구독 종목 수 한도를 넘었습니다: " + stockCode);
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,53 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 실시간 시세 STOMP/WebSocket 설정
+ * 클라이언트는 /ws/quotes로 연결한 뒤 /topic/quotes/{종목코드}를 구독합니다.
+ * 핸드셰이크는 같은 출처와 kiwoom.realtime.allowed-origins에 나열한 출처만 허용하고,
+ * /topic으로의 클라이언트 SEND와 잘못된 종목코드·한도를 넘는 종목의 구독은 {@link QuoteInboundGuard}가 거부합니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class QuoteStreamConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final QuoteDeliveryTracker deliveryTracker;
+    private final QuoteInboundGuard inboundGuard;
+
+    // 비우면 같은 출처만 허용 (쉼표 구분)
+    @Value("${kiwoom.realtime.allowed-origins:}")
+    private String[] allowedOrigins;
+
+    public QuoteStreamConfig(QuoteDeliveryTracker deliveryTracker, QuoteInboundGuard inboundGuard) {
+        this.deliveryTracker = deliveryTracker;
+        this.inboundGuard = inboundGuard;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/quotes").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(inboundGuard);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(deliveryTracker);
+    }
+}
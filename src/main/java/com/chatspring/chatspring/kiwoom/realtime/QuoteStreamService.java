@@ -0,0 +1,309 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 실시간 시세 중계
+ * STOMP 구독(/topic/quotes/{종목코드})을 종목별로 집계해 구독자가 있는 종목만 {@link QuoteFeed}에 등록하고,
+ * 수신한 시세를 구독 세션마다 전달합니다.
+ *
+ * 세션마다 종목별 최신 시세 1건만 보관하는 우편함을 두고, 직전 전송이 소켓에 다 쓰인 뒤에만 다음 전송을 시작합니다.
+ * 그 사이에 들어온 시세는 같은 종목의 이전 시세를 덮어쓰므로, 느린 클라이언트도 밀린 시세 대신 최신 시세를 받습니다.
+ *
+ * 공급원에 등록하는 종목 수는 kiwoom.realtime.max-stocks로 제한합니다. 한도를 넘는 새 종목 구독은
+ * {@link QuoteInboundGuard}가 STOMP ERROR로 거부합니다.
+ */
+@Service
+public class QuoteStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuoteStreamService.class);
+
+    public static final String TOPIC_PREFIX = "/topic/quotes/";
+    // 종목코드 6자리 (숫자, 신규 형식의 영문 대문자 포함)
+    private static final Pattern STOCK_CODE = Pattern.compile("[0-9A-Z]{6}");
+    // 시세 메시지 표시용 헤더 (클라이언트로는 전달되지 않음)
+    static final String QUOTE_HEADER = "quoteStream";
+
+    private final QuoteFeed feed;
+    private final MessageChannel clientOutboundChannel;
+    private final int maxStocks;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, QuoteTick> latestByCode = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> subscribersByCode = new ConcurrentHashMap<>();
+    private final Map<String, Subscriber> subscribersBySession = new ConcurrentHashMap<>();
+
+    private final AtomicLong receivedTicks = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong coalescedTicks = new AtomicLong();
+    private final AtomicLong rejectedSubscriptions = new AtomicLong();
+
+    public QuoteStreamService(QuoteFeed feed, QuoteDeliveryTracker deliveryTracker, QuoteInboundGuard inboundGuard,
+                              @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                              @Value("${kiwoom.realtime.max-stocks:100}") int maxStocks) {
+        this.feed = feed;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.maxStocks = Math.max(1, maxStocks);
+        feed.setListener(this::publish);
+        deliveryTracker.setListener(this::onDelivered);
+        inboundGuard.setSubscriptionFilter(this::admits);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String stockCode = stockCodeOf(accessor.getDestination());
+        if (stockCode != null) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), stockCode);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 이미 구독 중인 종목이거나 구독 종목 수가 한도 미만이면 true
+     */
+    boolean admits(String stockCode) {
+        return subscribersByCode.containsKey(stockCode) || subscribersByCode.size() < maxStocks;
+    }
+
+    /**
+     * 세션의 종목 구독 등록 - 해당 종목의 첫 구독자면 시세 공급원에 등록하고, 마지막 시세가 있으면 바로 전달
+     * 구독 종목 수 한도에 걸린 새 종목은 등록하지 않습니다 (인바운드 검사와 동시에 들어온 구독 대비).
+     *
+     * @return 등록했으면 true
+     */
+    public boolean subscribe(String sessionId, String subscriptionId, String stockCode) {
+        if (sessionId == null || subscriptionId == null) {
+            return false;
+        }
+        Subscriber subscriber = subscribersBySession.computeIfAbsent(sessionId, Subscriber::new);
+        Set<Subscriber> registered = subscribersByCode.compute(stockCode, (code, subscribers) -> {
+            if (subscribers == null) {
+                if (subscribersByCode.size() >= maxStocks) {
+                    return null;
+                }
+                subscribers = ConcurrentHashMap.newKeySet();
+                feed.subscribe(code);
+                logger.info("실시간 시세 구독 시작: {}", code);
+            }
+            subscribers.add(subscriber);
+            return subscribers;
+        });
+        if (registered == null) {
+            rejectedSubscriptions.incrementAndGet();
+            logger.warn("실시간 시세 구독 종목 수 한도({}) 초과로 구독하지 않음: {}", maxStocks, stockCode);
+            return false;
+        }
+        subscriber.codeBySubscription.put(subscriptionId, stockCode);
+        QuoteTick latest = latestByCode.get(stockCode);
+        if (latest != null) {
+            subscriber.offer(latest);
+        }
+        return true;
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Subscriber subscriber = sessionId != null ? subscribersBySession.get(sessionId) : null;
+        if (subscriber == null || subscriptionId == null) {
+            return;
+        }
+        String stockCode = subscriber.codeBySubscription.remove(subscriptionId);
+        if (stockCode != null && !subscriber.codeBySubscription.containsValue(stockCode)) {
+            removeSubscriber(stockCode, subscriber);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Subscriber subscriber = sessionId != null ? subscribersBySession.remove(sessionId) : null;
+        if (subscriber == null) {
+            return;
+        }
+        for (String stockCode : Set.copyOf(subscriber.codeBySubscription.values())) {
+            removeSubscriber(stockCode, subscriber);
+        }
+        subscriber.codeBySubscription.clear();
+        subscriber.pending.clear();
+    }
+
+    private void removeSubscriber(String stockCode, Subscriber subscriber) {
+        subscriber.pending.remove(stockCode);
+        subscribersByCode.computeIfPresent(stockCode, (code, subscribers) -> {
+            subscribers.remove(subscriber);
+            if (!subscribers.isEmpty()) {
+                return subscribers;
+            }
+            feed.unsubscribe(code);
+            latestByCode.remove(code);
+            logger.info("실시간 시세 구독 종료: {}", code);
+            return null;
+        });
+    }
+
+    /**
+     * 시세 공급원이 받은 시세를 구독 세션 우편함에 넣음
+     */
+    void publish(QuoteTick tick) {
+        receivedTicks.incrementAndGet();
+        // 구독 해제와 겹쳐도 구독자가 없는 종목의 시세가 남지 않도록 종목 단위로 잠그고 기록
+        Set<Subscriber> subscribers = subscribersByCode.computeIfPresent(tick.getStockCode(), (code, current) -> {
+            latestByCode.put(code, tick);
+            return current;
+        });
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(tick);
+        }
+    }
+
+    private void onDelivered(String sessionId) {
+        Subscriber subscriber = sessionId != null ? subscribersBySession.get(sessionId) : null;
+        if (subscriber != null && subscriber.inFlight.decrementAndGet() <= 0) {
+            subscriber.scheduleDrain();
+        }
+    }
+
+    /**
+     * 실시간 시세 중계 상태 (구독 종목/세션 수, 수신/전송/병합된 시세 수, 한도 초과로 거부한 구독 수)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("subscribedStocks", subscribersByCode.size());
+        status.put("maxStocks", maxStocks);
+        status.put("rejectedSubscriptions", rejectedSubscriptions.get());
+        status.put("sessions", subscribersBySession.size());
+        status.put("receivedTicks", receivedTicks.get());
+        status.put("sentMessages", sentMessages.get());
+        status.put("coalescedTicks", coalescedTicks.get());
+        return status;
+    }
+
+    static String stockCodeOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        String stockCode = destination.substring(TOPIC_PREFIX.length());
+        return STOCK_CODE.matcher(stockCode).matches() ? stockCode : null;
+    }
+
+    /**
+     * 구독 세션 1개 - 종목별 최신 시세 우편함과 전송 중인 메시지 수
+     */
+    private final class Subscriber {
+
+        private final String sessionId;
+        private final Map<String, String> codeBySubscription = new ConcurrentHashMap<>();
+        private final Map<String, QuoteTick> pending = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private void offer(QuoteTick tick) {
+            if (pending.put(tick.getStockCode(), tick) != null) {
+                coalescedTicks.incrementAndGet();
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * 보낼 시세가 있고 전송 중인 메시지가 없을 때만 전송 작업을 하나 띄움
+         */
+        private void scheduleDrain() {
+            if (!pending.isEmpty() && inFlight.get() <= 0 && draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (String stockCode : pending.keySet()) {
+                    QuoteTick tick = pending.remove(stockCode);
+                    if (tick != null) {
+                        send(tick);
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn("실시간 시세 전송 실패 (세션 {}): {}", sessionId, e.getMessage());
+            } finally {
+                draining.set(false);
+            }
+            scheduleDrain();
+        }
+
+        private void send(QuoteTick tick) throws Exception {
+            byte[] payload = objectMapper.writeValueAsBytes(tick);
+            for (Map.Entry<String, String> entry : codeBySubscription.entrySet()) {
+                if (!entry.getValue().equals(tick.getStockCode())) {
+                    continue;
+                }
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                accessor.setSessionId(sessionId);
+                accessor.setSubscriptionId(entry.getKey());
+                accessor.setDestination(TOPIC_PREFIX + tick.getStockCode());
+                accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                accessor.setHeader(QUOTE_HEADER, Boolean.TRUE);
+                Message<byte[]> message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+
+                inFlight.incrementAndGet();
+                boolean sent = false;
+                try {
+                    sent = clientOutboundChannel.send(message);
+                } finally {
+                    if (sent) {
+                        sentMessages.incrementAndGet();
+                    } else {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+/**
+ * 실시간 체결 시세 1건
+ * 클라이언트에는 이 객체가 JSON으로 그대로 전달됩니다.
+ */
+public class QuoteTick {
+
+    private String stockCode;
+    private long price;          // 현재가
+    private long change;         // 전일 대비
+    private double changeRate;   // 등락률(%)
+    private long volume;         // 누적 거래량
+    private String tradeTime;    // 체결 시각 (HHmmss)
+    private long receivedAt;     // 서버 수신 시각 (epoch millis)
+
+    public QuoteTick() {
+    }
+
+    public QuoteTick(String stockCode, long price, long change, double changeRate, long volume, String tradeTime) {
+        this.stockCode = stockCode;
+        this.price = price;
+        this.change = change;
+        this.changeRate = changeRate;
+        this.volume = volume;
+        this.tradeTime = tradeTime;
+        this.receivedAt = System.currentTimeMillis();
+    }
+
+    public String getStockCode() {
+        return stockCode;
+    }
+
+    public void setStockCode(String stockCode) {
+        this.stockCode = stockCode;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public void setPrice(long price) {
+        this.price = price;
+    }
+
+    public long getChange() {
+        return change;
+    }
+
+    public void setChange(long change) {
+        this.change = change;
+    }
+
+    public double getChangeRate() {
+        return changeRate;
+    }
+
+    public void setChangeRate(double changeRate) {
+        this.changeRate = changeRate;
+    }
+
+    public long getVolume() {
+        return volume;
+    }
+
+    public void setVolume(long volume) {
+        this.volume = volume;
+    }
+
+    public String getTradeTime() {
+        return tradeTime;
+    }
+
+    public void setTradeTime(String tradeTime) {
+        this.tradeTime = tradeTime;
+    }
+
+    public long getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(long receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+}
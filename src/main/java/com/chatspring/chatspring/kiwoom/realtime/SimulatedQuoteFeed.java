@@ -0,0 +1,91 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 로컬 모의 시세 (kiwoom.realtime.feed=simulated)
+ * 키움 연결 없이 구독 중인 종목마다 일정 간격으로 무작위 보행 시세를 만들어 냅니다. 개발/테스트용입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "kiwoom.realtime.feed", havingValue = "simulated")
+public class SimulatedQuoteFeed implements QuoteFeed {
+
+    private static final long DEFAULT_BASE_PRICE = 10000;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    // 종목코드 -> [기준가(전일 종가), 현재가, 누적 거래량]
+    private final Map<String, long[]> states = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "simulated-quote-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<QuoteTick> listener = tick -> { };
+
+    public SimulatedQuoteFeed(@Value("${kiwoom.realtime.simulated.interval-ms:500}") long intervalMs) {
+        if (intervalMs > 0) {
+            scheduler.scheduleAtFixedRate(this::emitAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void setListener(Consumer<QuoteTick> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void subscribe(String stockCode) {
+        states.computeIfAbsent(stockCode, code -> new long[] {DEFAULT_BASE_PRICE, DEFAULT_BASE_PRICE, 0});
+    }
+
+    @Override
+    public void unsubscribe(String stockCode) {
+        states.remove(stockCode);
+    }
+
+    /**
+     * 구독 여부와 관계없이 해당 종목의 다음 시세 1건을 즉시 만들어 전달 (테스트에서 시점을 직접 제어할 때 사용)
+     */
+    public QuoteTick emit(String stockCode) {
+        return emit(stockCode, states.computeIfAbsent(stockCode, code -> new long[] {DEFAULT_BASE_PRICE, DEFAULT_BASE_PRICE, 0}));
+    }
+
+    private QuoteTick emit(String stockCode, long[] state) {
+        QuoteTick tick;
+        synchronized (state) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            // 직전가 대비 ±0.3% 안에서 10원 단위로 움직임
+            long step = Math.max(10, state[1] * 3 / 1000 / 10 * 10);
+            state[1] = Math.max(10, state[1] + random.nextLong(-step, step + 1) / 10 * 10);
+            state[2] += random.nextLong(1, 1000);
+            long change = state[1] - state[0];
+            double changeRate = Math.round(change * 10000.0 / state[0]) / 100.0;
+            tick = new QuoteTick(stockCode, state[1], change, changeRate, state[2], LocalTime.now().format(TIME_FORMAT));
+        }
+        listener.accept(tick);
+        return tick;
+    }
+
+    private void emitAll() {
+        states.forEach(this::emit);
+    }
+}
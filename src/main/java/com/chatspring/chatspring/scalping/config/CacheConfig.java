@@ -1,5 +1,6 @@
 package com.chatspring.chatspring.scalping.config;
 
+import com.chatspring.chatspring.jugot.JugotService;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -20,6 +21,11 @@ public class CacheConfig {
                 .expireAfterWrite(10, TimeUnit.HOURS) // 데이터는 10시간 동안 캐시됩니다.
                 .maximumSize(500) // 최대 500개의 종목 데이터를 캐시합니다.
         );
+        // 주곳 최근 종목 목록은 짧게만 캐시합니다. (데이터가 바뀌면 JugotService에서 바로 비움)
+        cacheManager.registerCustomCache(JugotService.RECENT_STOCKS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.SECONDS)
+                .maximumSize(1)
+                .build());
         return cacheManager;
     }
 }
\ No newline at end of file
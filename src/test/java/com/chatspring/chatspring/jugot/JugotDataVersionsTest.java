@@ -0,0 +1,56 @@
+package com.chatspring.chatspring.jugot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JugotDataVersions} ETag 갱신 테스트
+ */
+class JugotDataVersionsTest {
+
+    private final JugotDataVersions versions = new JugotDataVersions(0, false);
+
+    @Test
+    void etagsAreStrongAndStableUntilDataChanges() {
+        String jugot = versions.jugotEtag();
+        String realTrade = versions.realTradeEtag();
+        assertTrue(jugot.startsWith("\"") && jugot.endsWith("\""));
+        assertEquals(jugot, versions.jugotEtag());
+        assertEquals(realTrade, versions.realTradeEtag());
+    }
+
+    @Test
+    void realTradeChangeKeepsJugotEtag() {
+        String jugot = versions.jugotEtag();
+        String realTrade = versions.realTradeEtag();
+
+        versions.onRealTradeDataChanged(new RealTradeDataChangedEvent());
+        assertEquals(jugot, versions.jugotEtag());
+        assertNotEquals(realTrade, versions.realTradeEtag());
+    }
+
+    @Test
+    void jugotChangeAlsoChangesRealTradeEtag() {
+        // 실매매 응답의 매수가는 Jugot 포착가에서 오므로 함께 바뀜
+        String jugot = versions.jugotEtag();
+        String realTrade = versions.realTradeEtag();
+
+        versions.onJugotDataChanged(new JugotDataChangedEvent(Set.of()));
+        assertNotEquals(jugot, versions.jugotEtag());
+        assertNotEquals(realTrade, versions.realTradeEtag());
+    }
+
+    @Test
+    void clusterModeAlwaysRefreshesPeriodically() {
+        assertEquals(0, versions.refreshPeriod());
+        // 클러스터 모드는 설정이 0이어도 60초 주기로 갱신
+        long expected = System.currentTimeMillis() / 60_000;
+        long period = new JugotDataVersions(0, true).refreshPeriod();
+        assertTrue(period == expected || period == expected + 1);
+    }
+}
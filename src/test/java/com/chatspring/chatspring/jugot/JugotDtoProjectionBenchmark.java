@@ -0,0 +1,158 @@
+package com.chatspring.chatspring.jugot;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 한 달치 주곳 조회 비교: 엔티티 조회 후 DTO 복사 vs DTO 생성자 프로젝션 (H2 메모리 DB + Hibernate)
+ * - entities: 교체 전 경로. findByCaptureDateBetween으로 관리 엔티티를 올린 뒤 필드마다 safe() 람다로 복사
+ * - projection: JugotRepository.DTO_BY_CAPTURE_DATE_QUERY를 읽기 전용 세션에서 실행
+ * 한 번 호출이 한 달 요청 하나이므로 -prof gc의 gc.alloc.rate.norm(B/op)이 요청당 할당량입니다.
+ * 실행: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *        -Dexec.mainClass=com.chatspring.chatspring.jugot.JugotDtoProjectionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JugotDtoProjectionBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 10);
+
+    // 한 달 포착 건수
+    @Param({"1000", "5000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Jugot.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:jugot-bench-" + rows + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "500")
+                .buildSessionFactory();
+        insertRows(rows, 42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<JugotDto> entities() {
+        try (Session session = sessionFactory.openSession()) {
+            List<Jugot> entities = session
+                    .createQuery("SELECT j FROM Jugot j WHERE j.captureDate BETWEEN :start AND :end", Jugot.class)
+                    .setParameter("start", MONTH.atDay(1))
+                    .setParameter("end", MONTH.atEndOfMonth())
+                    .getResultList();
+            List<JugotDto> out = new ArrayList<>();
+            for (Jugot e : entities) {
+                JugotDto dto = legacyConvert(e);
+                if (dto != null) {
+                    out.add(dto);
+                }
+            }
+            return out;
+        }
+    }
+
+    @Benchmark
+    public List<JugotDto> projection() {
+        try (Session session = sessionFactory.openSession()) {
+            // @Transactional(readOnly = true)가 세션에 거는 설정과 같음
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return session.createQuery(JugotRepository.DTO_BY_CAPTURE_DATE_QUERY, JugotDto.class)
+                    .setParameter("start", MONTH.atDay(1))
+                    .setParameter("end", MONTH.atEndOfMonth())
+                    .getResultList();
+        }
+    }
+
+    /**
+     * 교체 전 JugotService.convertToDto
+     */
+    private static JugotDto legacyConvert(Jugot e) {
+        if (e == null) return null;
+        String name = safe(e::getStockName);
+        Integer capturePrice = safe(e::getCapturePrice);
+        LocalDate captureDate = safe(e::getCaptureDate);
+        String market = safe(e::getMarketType);
+        Integer currentPrice = safe(e::getCurrentPrice);
+        Integer highestPrice = safe(e::getHighestPrice);
+        Integer lowestPrice = safe(e::getLowestPrice);
+        if (name == null || capturePrice == null) {
+            return null;
+        }
+        return new JugotDto(name, capturePrice, captureDate, market, currentPrice, highestPrice, lowestPrice);
+    }
+
+    private static <T> T safe(Supplier<T> s) {
+        try { return s.get(); } catch (Throwable t) { return null; }
+    }
+
+    /**
+     * 조회 대상 달에 count건, 앞뒤 달에 절반씩 포착 행 저장
+     */
+    private void insertRows(int count, long seed) {
+        Random random = new Random(seed);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            insertMonth(session, random, MONTH, count);
+            insertMonth(session, random, MONTH.minusMonths(1), count / 2);
+            insertMonth(session, random, MONTH.plusMonths(1), count / 2);
+            session.getTransaction().commit();
+        }
+    }
+
+    private static void insertMonth(Session session, Random random, YearMonth month, int count) {
+        for (int i = 0; i < count; i++) {
+            int price = 1_000 + random.nextInt(200_000);
+            Jugot jugot = new Jugot();
+            jugot.setStockName("종목" + random.nextInt(2_000));
+            jugot.setStockCode(String.format("%06d", random.nextInt(1_000_000)));
+            jugot.setMarketType(random.nextBoolean() ? "KOSPI" : "KOSDAQ");
+            jugot.setCaptureDate(month.atDay(1 + random.nextInt(month.lengthOfMonth())));
+            jugot.setCapturePrice(price);
+            jugot.setCurrentPrice(price + random.nextInt(2_001) - 1_000);
+            jugot.setHighestPrice(price + random.nextInt(5_000));
+            jugot.setLowestPrice(price - random.nextInt(500));
+            session.persist(jugot);
+            if (i % 500 == 499) {
+                session.flush();
+                session.clear();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JugotDtoProjectionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.chatspring.chatspring.jugot;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link JugotMonthViewCache} 월별 캐시/무효화 테스트
+ */
+class JugotMonthViewCacheTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+
+    // 테스트에서 직접 넘기는 갱신 주기
+    private final AtomicLong period = new AtomicLong();
+    private final JugotMonthViewCache cache = new JugotMonthViewCache(new JugotDataVersions(0, false) {
+        @Override
+        public long refreshPeriod() {
+            return period.get();
+        }
+    });
+
+    private static Jugot row(LocalDate captureDate) {
+        Jugot jugot = new Jugot();
+        jugot.setCaptureDate(captureDate);
+        return jugot;
+    }
+
+    @Test
+    void loadsOncePerMonthUntilThatMonthChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, List<JugotDto>> first = cache.get(OCTOBER, () -> Map.of("1주차", List.of(new JugotDto())));
+        cache.get(OCTOBER, () -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        assertEquals(0, loads.get());
+
+        // 다른 달의 변경은 영향 없음
+        cache.onJugotDataChanged(JugotDataChangedEvent.of(List.of(row(LocalDate.of(2025, 11, 3)), row(null))));
+        assertSame(first, cache.get(OCTOBER, Map::of));
+
+        cache.onJugotDataChanged(JugotDataChangedEvent.of(List.of(row(LocalDate.of(2025, 10, 20)))));
+        Map<String, List<JugotDto>> reloaded = cache.get(OCTOBER, HashMap::new);
+        assertNotSame(first, reloaded);
+        assertSame(reloaded, cache.get(OCTOBER, HashMap::new));
+    }
+
+    @Test
+    void doesNotStoreResultLoadedAcrossInvalidation() {
+        // 조회 도중 같은 달이 바뀌면 그 결과는 반환만 하고 캐시에 남기지 않음
+        Map<String, List<JugotDto>> stale = cache.get(OCTOBER, () -> {
+            cache.invalidate(List.of(OCTOBER));
+            return new HashMap<>();
+        });
+
+        Map<String, List<JugotDto>> fresh = cache.get(OCTOBER, HashMap::new);
+        assertNotSame(stale, fresh);
+        assertSame(fresh, cache.get(OCTOBER, HashMap::new));
+    }
+
+    @Test
+    void reloadsWhenRefreshPeriodChanges() {
+        // 다른 노드의 쓰기는 이벤트로 오지 않으므로 주기가 바뀌면 다시 읽음
+        Map<String, List<JugotDto>> first = cache.get(OCTOBER, HashMap::new);
+        assertSame(first, cache.get(OCTOBER, HashMap::new));
+
+        period.incrementAndGet();
+        Map<String, List<JugotDto>> reloaded = cache.get(OCTOBER, HashMap::new);
+        assertNotSame(first, reloaded);
+        assertSame(reloaded, cache.get(OCTOBER, HashMap::new));
+    }
+}
@@ -0,0 +1,37 @@
+package com.chatspring.chatspring.jugot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link RealTradeService} 자동 중단 기준 입력 검증 테스트
+ */
+class RealTradeServiceTest {
+
+    @Test
+    void parsesNumbersAndNumericStrings() {
+        assertEquals(Double.valueOf(5.0), RealTradeService.parseRate("takeProfitRate", 5));
+        assertEquals(Double.valueOf(7.5), RealTradeService.parseRate("takeProfitRate", 7.5));
+        assertEquals(Double.valueOf(10.0), RealTradeService.parseRate("stopLossRate", " 10 "));
+        // 0은 규칙 끔
+        assertEquals(Double.valueOf(0.0), RealTradeService.parseRate("stopLossRate", 0));
+    }
+
+    @Test
+    void missingOrBlankMeansDefault() {
+        assertNull(RealTradeService.parseRate("takeProfitRate", null));
+        assertNull(RealTradeService.parseRate("takeProfitRate", " "));
+    }
+
+    @Test
+    void rejectsNegativeAndNonNumericValues() {
+        assertThrows(IllegalArgumentException.class, () -> RealTradeService.parseRate("stopLossRate", -10));
+        assertThrows(IllegalArgumentException.class, () -> RealTradeService.parseRate("takeProfitRate", "-0.5"));
+        assertThrows(IllegalArgumentException.class, () -> RealTradeService.parseRate("takeProfitRate", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> RealTradeService.parseRate("takeProfitRate", "NaN"));
+        assertThrows(IllegalArgumentException.class, () -> RealTradeService.parseRate("takeProfitRate", true));
+    }
+}
@@ -0,0 +1,110 @@
+package com.chatspring.chatspring.jugot;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link StockSearchIndex} 검색/증분 반영 테스트
+ */
+class StockSearchIndexTest {
+
+    private final StockSearchIndex index = new StockSearchIndex(null, new JugotDataVersions(0, false));
+
+    StockSearchIndexTest() {
+        index.add("삼성전자", "005930", LocalDate.of(2025, 10, 1), 60_000);
+        index.add("삼성전자", "005930", LocalDate.of(2025, 10, 10), 0);
+        index.add("삼성전자", "005930", LocalDate.of(2025, 9, 1), 55_000);
+        index.add("삼성SDI", "006400", LocalDate.of(2025, 10, 2), 300_000);
+        index.add("NAVER", "035420", LocalDate.of(2025, 10, 3), 200_000);
+        index.add("카카오", "35720", null, 40_000);
+        index.markLoaded(0);
+    }
+
+    private List<String> names(String keyword) {
+        return index.search(keyword).stream().map(stock -> (String) stock.get("stockName")).toList();
+    }
+
+    @Test
+    void matchesNamesCodesAndInitialConsonants() {
+        assertEquals(List.of("삼성SDI", "삼성전자"), names("삼성"));
+        assertEquals(List.of("삼성SDI"), names("sd"));
+        assertEquals(List.of("NAVER"), names("naver"));
+        assertEquals(List.of("삼성전자"), names("ㅅㅅㅈㅈ"));
+        assertEquals(List.of("삼성전자"), names("성ㅈ"));
+        assertEquals(List.of("삼성전자"), names("5930"));
+        assertEquals(List.of("카카오"), names("ㅋ"));
+        assertTrue(names("현대").isEmpty());
+    }
+
+    @Test
+    void keepsLatestNonZeroPricePerCode() {
+        Map<String, Object> samsung = index.search("삼성전자").get(0);
+        assertEquals("005930", samsung.get("stockCode"));
+        assertEquals(60_000, samsung.get("currentPrice"));
+
+        // 저장된 코드가 6자리가 아니어도 패딩한 코드로 가격을 찾음
+        assertEquals(40_000, index.search("카카오").get(0).get("currentPrice"));
+    }
+
+    @Test
+    void appliesChangedRowsFromEvents() {
+        Jugot updated = new Jugot();
+        updated.setStockName("삼성전자");
+        updated.setStockCode("005930");
+        updated.setCaptureDate(LocalDate.of(2025, 10, 10));
+        updated.setCurrentPrice(61_000);
+
+        Jugot added = new Jugot();
+        added.setStockName("현대차");
+        added.setStockCode("005380");
+        added.setCaptureDate(LocalDate.of(2025, 10, 15));
+        added.setCurrentPrice(210_000);
+
+        index.onJugotDataChanged(new JugotDataChangedEvent(Set.of(YearMonth.of(2025, 10)), List.of(updated, added)));
+
+        assertEquals(61_000, index.search("삼성전자").get(0).get("currentPrice"));
+        assertEquals(List.of("현대차"), names("ㅎㄷ"));
+        assertFalse(names("005380").isEmpty());
+    }
+
+    @Test
+    void reloadsEverythingWhenRefreshPeriodChanges() {
+        // 다른 노드가 저장한 행은 이벤트로 오지 않으므로 주기가 바뀌면 DB에서 다시 읽음
+        AtomicLong period = new AtomicLong();
+        List<Object[]> rows = List.<Object[]>of(
+            new Object[]{"삼성전자", "005930", LocalDate.of(2025, 10, 20), 65_000},
+            new Object[]{"현대차", "005380", LocalDate.of(2025, 10, 20), 210_000});
+        JugotRepository repository = (JugotRepository) Proxy.newProxyInstance(
+            JugotRepository.class.getClassLoader(), new Class<?>[]{JugotRepository.class},
+            (proxy, method, args) -> {
+                assertEquals("findSearchRows", method.getName());
+                return rows;
+            });
+        StockSearchIndex reloading = new StockSearchIndex(repository, new JugotDataVersions(0, false) {
+            @Override
+            public long refreshPeriod() {
+                return period.get();
+            }
+        });
+        reloading.add("삼성전자", "005930", LocalDate.of(2025, 10, 1), 60_000);
+        reloading.add("NAVER", "035420", LocalDate.of(2025, 10, 3), 200_000);
+        reloading.markLoaded(0);
+        assertEquals(60_000, reloading.search("삼성전자").get(0).get("currentPrice"));
+
+        period.incrementAndGet();
+        assertEquals(65_000, reloading.search("삼성전자").get(0).get("currentPrice"));
+        assertEquals(List.of("현대차"), reloading.search("ㅎㄷ").stream().map(stock -> stock.get("stockName")).toList());
+        assertTrue(reloading.search("naver").isEmpty());
+    }
+}
@@ -0,0 +1,174 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link CandleRangeIndex} 구간 최고가/최저가를 선형 탐색 결과와 비교하는 테스트
+ */
+class CandleRangeIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+
+    /**
+     * 주말을 건너뛴 거래일 n개 (일부는 고가/저가가 비었거나 0)
+     */
+    private static List<DailyCandle> randomCandles(Random random, int n) {
+        List<DailyCandle> candles = new ArrayList<>();
+        LocalDate date = START;
+        while (candles.size() < n) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                int low = 1_000 + random.nextInt(50_000);
+                int roll = random.nextInt(20);
+                candles.add(candle(date, roll == 0 ? null : low + random.nextInt(5_000), roll == 1 ? 0 : low));
+            }
+            date = date.plusDays(1);
+        }
+        return candles;
+    }
+
+    private static DailyCandle candle(LocalDate date, Integer high, Integer low) {
+        DailyCandle candle = new DailyCandle();
+        candle.setStockCode("005930");
+        candle.setTradeDate(date);
+        candle.setHighPrice(high);
+        candle.setLowPrice(low);
+        return candle;
+    }
+
+    private static Integer scanHigh(List<DailyCandle> candles, LocalDate from, LocalDate to) {
+        Integer best = null;
+        for (DailyCandle candle : candles) {
+            Integer high = candle.getHighPrice();
+            if (!candle.getTradeDate().isBefore(from) && !candle.getTradeDate().isAfter(to)
+                    && high != null && high > 0 && (best == null || high > best)) {
+                best = high;
+            }
+        }
+        return best;
+    }
+
+    private static Integer scanLow(List<DailyCandle> candles, LocalDate from, LocalDate to) {
+        Integer best = null;
+        for (DailyCandle candle : candles) {
+            Integer low = candle.getLowPrice();
+            if (!candle.getTradeDate().isBefore(from) && !candle.getTradeDate().isAfter(to)
+                    && low != null && low > 0 && (best == null || low < best)) {
+                best = low;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void matchesLinearScanOnRandomRanges() {
+        Random random = new Random(42);
+        for (int n : new int[]{1, 2, 3, 7, 64, 100, 257}) {
+            List<DailyCandle> candles = randomCandles(random, n);
+            CandleRangeIndex index = new CandleRangeIndex(candles);
+            LocalDate first = candles.get(0).getTradeDate();
+            LocalDate last = candles.get(n - 1).getTradeDate();
+            int days = (int) (last.toEpochDay() - first.toEpochDay());
+            for (int q = 0; q < 500; q++) {
+                // 주말이나 저장 범위 밖 날짜도 경계로 사용
+                LocalDate from = first.plusDays(random.nextInt(days + 11) - 5);
+                LocalDate to = from.plusDays(random.nextInt(days + 11) - 5);
+                String message = "n=" + n + " [" + from + ", " + to + "]";
+                assertEquals(scanHigh(candles, from, to), index.highestHigh(from, to), message);
+                assertEquals(scanLow(candles, from, to), index.lowestLow(from, to), message);
+            }
+        }
+    }
+
+    @Test
+    void singleDayAndFullRange() {
+        List<DailyCandle> candles = randomCandles(new Random(7), 120);
+        CandleRangeIndex index = new CandleRangeIndex(candles);
+        for (DailyCandle candle : candles) {
+            LocalDate day = candle.getTradeDate();
+            assertEquals(scanHigh(candles, day, day), index.highestHigh(day, day));
+            assertEquals(scanLow(candles, day, day), index.lowestLow(day, day));
+        }
+        LocalDate first = candles.get(0).getTradeDate();
+        LocalDate last = candles.get(candles.size() - 1).getTradeDate();
+        assertEquals(scanHigh(candles, first, last), index.highestHigh(first, last));
+        assertEquals(scanLow(candles, first, last), index.lowestLow(first, last));
+        assertEquals(scanHigh(candles, first, last), index.highestHigh(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    void emptyAndInvalidRangesReturnNull() {
+        CandleRangeIndex empty = new CandleRangeIndex(List.of());
+        assertNull(empty.highestHigh(START, START.plusDays(10)));
+        assertNull(empty.lowestLow(START, START.plusDays(10)));
+
+        CandleRangeIndex index = new CandleRangeIndex(List.of(
+            candle(START, 200, 100), candle(START.plusDays(1), null, 0)));
+        assertNull(index.highestHigh(START.plusDays(1), START));
+        assertNull(index.highestHigh(START.minusDays(5), START.minusDays(1)));
+        // 값이 없는 봉만 있는 구간
+        assertNull(index.highestHigh(START.plusDays(1), START.plusDays(1)));
+        assertNull(index.lowestLow(START.plusDays(1), START.plusDays(1)));
+    }
+
+    @Test
+    void storeRebuildsIndexAfterSave() {
+        List<DailyCandle> rows = new ArrayList<>(List.of(candle(START, 200, 100), candle(START.plusDays(1), 180, 120)));
+        AtomicInteger indexLoads = new AtomicInteger();
+        DailyCandleStore store = new DailyCandleStore(inMemoryRepository(rows, indexLoads));
+        LocalDate to = START.plusDays(5);
+
+        assertEquals(200, store.highestHigh("005930", START, to));
+        assertEquals(100, store.lowestLow("005930", START, to));
+        assertEquals(1, indexLoads.get());
+
+        // 저장하면 인덱스를 버리고 다음 조회 때 새 일봉으로 다시 만듦
+        store.saveDailyPrices("005930", new DailyPriceSeries.Builder()
+            .add(DailyPriceSeries.packDate(START.plusDays(2)), 0, 250, 90, 0, 0, 0.0)
+            .build());
+        assertEquals(250, store.highestHigh("005930", START, to));
+        assertEquals(90, store.lowestLow("005930", START, to));
+        assertEquals(200, store.highestHigh("005930", START, START.plusDays(1)));
+        assertEquals(2, indexLoads.get());
+    }
+
+    /**
+     * DailyCandleStore가 쓰는 조회/저장만 구현한 메모리 저장소
+     */
+    @SuppressWarnings("unchecked")
+    private static DailyCandleRepository inMemoryRepository(List<DailyCandle> rows, AtomicInteger indexLoads) {
+        return (DailyCandleRepository) Proxy.newProxyInstance(
+            DailyCandleRepository.class.getClassLoader(), new Class<?>[]{DailyCandleRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByStockCodeOrderByTradeDateAsc" -> {
+                    indexLoads.incrementAndGet();
+                    yield rows.stream().sorted(Comparator.comparing(DailyCandle::getTradeDate)).toList();
+                }
+                case "findByStockCodeAndTradeDateBetweenOrderByTradeDateAsc" -> rows.stream()
+                    .filter(c -> !c.getTradeDate().isBefore((LocalDate) args[1]) && !c.getTradeDate().isAfter((LocalDate) args[2]))
+                    .sorted(Comparator.comparing(DailyCandle::getTradeDate))
+                    .toList();
+                case "saveAll" -> {
+                    for (DailyCandle candle : (Collection<DailyCandle>) args[0]) {
+                        if (!rows.contains(candle)) {
+                            rows.add(candle);
+                        }
+                    }
+                    yield args[0];
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,98 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClusterLeaseService} H2 테스트
+ * 두 노드를 같은 DB를 쓰는 서비스 인스턴스 두 개로 흉내 냄
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClusterLeaseServiceTest {
+
+    private static final Duration LONG_TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    private ClusterLeaseService nodeA;
+    private ClusterLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+        nodeA = new ClusterLeaseService(leaseRepository, true, "node-a");
+        nodeB = new ClusterLeaseService(leaseRepository, true, "node-b");
+    }
+
+    @Test
+    void onlyOneNodeAcquiresNewLeaseConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 행이 없는 임대를 두 노드가 동시에 만드는 경우 (INSERT 기본키 충돌 경로)
+            for (int round = 0; round < 20; round++) {
+                String name = "race-" + round;
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Boolean> a = executor.submit(() -> {
+                    start.await();
+                    return nodeA.tryAcquire(name, LONG_TTL);
+                });
+                Future<Boolean> b = executor.submit(() -> {
+                    start.await();
+                    return nodeB.tryAcquire(name, LONG_TTL);
+                });
+                start.countDown();
+                boolean aWon = a.get();
+                boolean bWon = b.get();
+
+                assertNotEquals(aWon, bWon, "임대 " + name + "는 정확히 한 노드만 가져야 함");
+                assertEquals(Optional.of(aWon ? "node-a" : "node-b"), nodeA.currentOwner(name));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void otherNodeTakesOverAfterExpiry() throws InterruptedException {
+        assertTrue(nodeA.tryAcquire("daily", Duration.ofMillis(200)));
+        assertFalse(nodeB.tryAcquire("daily", LONG_TTL));
+
+        Thread.sleep(300);
+
+        assertTrue(nodeB.tryAcquire("daily", LONG_TTL));
+        assertFalse(nodeA.tryAcquire("daily", LONG_TTL));
+        // 보유 노드는 갱신 가능
+        assertTrue(nodeB.tryAcquire("daily", LONG_TTL));
+        assertEquals(Optional.of("node-b"), nodeA.currentOwner("daily"));
+    }
+
+    @Test
+    void releaseLetsOtherNodeAcquireImmediately() {
+        assertTrue(nodeA.tryAcquire("daily", LONG_TTL));
+        // 다른 노드의 release는 영향 없음
+        nodeB.release("daily");
+        assertFalse(nodeB.tryAcquire("daily", LONG_TTL));
+
+        nodeA.release("daily");
+        assertTrue(nodeA.currentOwner("daily").isEmpty());
+        assertTrue(nodeB.tryAcquire("daily", LONG_TTL));
+    }
+}
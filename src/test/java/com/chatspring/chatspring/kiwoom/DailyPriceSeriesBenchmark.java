@@ -0,0 +1,156 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일봉 시계열 표현 비교: 행 객체 목록(List&lt;DailyPriceData&gt;) vs 열 단위 배열(DailyPriceSeries)
+ * - build*: 종목 하나의 시계열을 만드는 비용. -prof gc의 gc.alloc.rate.norm(B/op)이 곧 시계열 하나의 힙 사용량입니다.
+ * - scan*: 업데이트 로직의 최고가/최저가 계산 (기존 stream().filter().mapToInt() 경로 vs 배열 순회)
+ * 실행: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *        -Dexec.mainClass=com.chatspring.chatspring.kiwoom.DailyPriceSeriesBenchmark
+ * main은 JMH 실행 전에 종목 500개 x rows건을 메모리에 올려 두고 GC 후 사용량으로 잔류 힙도 출력합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DailyPriceSeriesBenchmark {
+
+    private static final LocalDate LATEST = LocalDate.of(2025, 12, 30);
+
+    @Param({"30", "365"})
+    public int rows;
+
+    private List<KiwoomApiClient.DailyPriceData> objects;
+    private DailyPriceSeries series;
+    private LocalDate since;
+
+    @Setup
+    public void setUp() {
+        objects = objectRows(rows, 42);
+        series = columnRows(rows, 42);
+        // 포착일이 구간 중간인 행 (최신 2/3 구간만 누적)
+        since = LATEST.minusDays(rows * 2L / 3);
+    }
+
+    @Benchmark
+    public List<KiwoomApiClient.DailyPriceData> buildObjects() {
+        return objectRows(rows, 7);
+    }
+
+    @Benchmark
+    public DailyPriceSeries buildColumns() {
+        return columnRows(rows, 7);
+    }
+
+    @Benchmark
+    public void scanObjects(Blackhole bh) {
+        // 교체 전 StockDataUpdateService.applyDailyPrices의 계산
+        List<KiwoomApiClient.DailyPriceData> delta = objects.stream()
+            .filter(d -> !LocalDate.parse(d.getDate(), DateTimeFormatter.BASIC_ISO_DATE).isBefore(since))
+            .toList();
+        bh.consume(delta.stream().mapToInt(KiwoomApiClient.DailyPriceData::getHighPrice).max().orElse(0));
+        bh.consume(delta.stream().mapToInt(KiwoomApiClient.DailyPriceData::getLowPrice).min().orElse(Integer.MAX_VALUE));
+    }
+
+    @Benchmark
+    public void scanColumns(Blackhole bh) {
+        int sinceDate = DailyPriceSeries.packDate(since);
+        bh.consume(series.countSince(sinceDate));
+        bh.consume(series.maxHighSince(sinceDate));
+        bh.consume(series.minLowSince(sinceDate));
+    }
+
+    /**
+     * 파서가 만들던 것과 같은 형태의 행 객체 목록 (날짜는 파싱 결과처럼 새 String)
+     */
+    static List<KiwoomApiClient.DailyPriceData> objectRows(int count, long seed) {
+        Random random = new Random(seed);
+        List<KiwoomApiClient.DailyPriceData> list = new ArrayList<>();
+        int price = 50_000;
+        for (int i = 0; i < count; i++) {
+            price = Math.max(1_000, price + random.nextInt(2_001) - 1_000);
+            KiwoomApiClient.DailyPriceData data = new KiwoomApiClient.DailyPriceData();
+            data.setDate(new String(LATEST.minusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE).toCharArray()));
+            data.setOpenPrice(price);
+            data.setHighPrice(price + random.nextInt(500));
+            data.setLowPrice(price - random.nextInt(500));
+            data.setClosePrice(price);
+            data.setVolume(random.nextInt(1_000_000));
+            data.setChangeRate(random.nextInt(600) / 100.0);
+            list.add(data);
+        }
+        return list;
+    }
+
+    static DailyPriceSeries columnRows(int count, long seed) {
+        Random random = new Random(seed);
+        DailyPriceSeries.Builder builder = new DailyPriceSeries.Builder();
+        int price = 50_000;
+        for (int i = 0; i < count; i++) {
+            price = Math.max(1_000, price + random.nextInt(2_001) - 1_000);
+            builder.add(DailyPriceSeries.packDate(LATEST.minusDays(i)), price, price + random.nextInt(500),
+                price - random.nextInt(500), price, random.nextInt(1_000_000), random.nextInt(600) / 100.0);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 종목 symbols개의 시계열을 붙잡아 둔 상태의 잔류 힙 (GC 후 사용량 차이, 대략값)
+     */
+    static void printRetainedHeap(int symbols, int count) {
+        long base = usedHeapAfterGc();
+        List<Object> objectHeld = new ArrayList<>();
+        for (int s = 0; s < symbols; s++) {
+            objectHeld.add(objectRows(count, s));
+        }
+        long objectBytes = usedHeapAfterGc() - base;
+        objectHeld.clear();
+
+        base = usedHeapAfterGc();
+        List<Object> columnHeld = new ArrayList<>();
+        for (int s = 0; s < symbols; s++) {
+            columnHeld.add(columnRows(count, s));
+        }
+        long columnBytes = usedHeapAfterGc() - base;
+
+        System.out.printf("잔류 힙 (종목 %d개 x %d건): 행 객체 %,d B (%d B/행), 열 배열 %,d B (%d B/행)%n",
+            symbols, count, objectBytes, objectBytes / ((long) symbols * count),
+            columnBytes, columnBytes / ((long) symbols * count));
+        // 측정이 끝날 때까지 살아 있도록
+        if (objectHeld.size() + columnHeld.size() < 0) {
+            System.out.println();
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        printRetainedHeap(500, 365);
+        Options options = new OptionsBuilder()
+                .include(DailyPriceSeriesBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,89 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link DailyPriceSeries} 및 파서의 열 단위 디코딩 테스트
+ */
+class DailyPriceSeriesTest {
+
+    private static DailyPriceSeries sample() {
+        // 최신순: 01-03, 01-02, (날짜 없음), 12-30
+        return new DailyPriceSeries.Builder(2)
+            .add(20250103, 100, 130, 90, 120, 1_000, 1.5)
+            .add(20250102, 110, 150, 100, 105, 2_000, -0.5)
+            .add(0, 0, 999, 1, 0, 0, 0.0)
+            .add(20241230, 95, 140, 80, 100, 3_000, 0.0)
+            .build();
+    }
+
+    @Test
+    void packsAndUnpacksDates() {
+        assertEquals(20250102, DailyPriceSeries.packDate("20250102"));
+        assertEquals(20250102, DailyPriceSeries.packDate(LocalDate.of(2025, 1, 2)));
+        assertEquals(0, DailyPriceSeries.packDate("2025-01-02"));
+        assertEquals(0, DailyPriceSeries.packDate((String) null));
+        assertEquals(LocalDate.of(2024, 12, 30), DailyPriceSeries.unpackDate(20241230));
+        assertNull(DailyPriceSeries.unpackDate(0));
+    }
+
+    @Test
+    void scansOnlyRowsSinceDate() {
+        DailyPriceSeries series = sample();
+        assertEquals(2, series.countSince(20250102));
+        assertEquals(150, series.maxHighSince(20250102));
+        assertEquals(90, series.minLowSince(20250102));
+        assertEquals(Integer.MIN_VALUE, series.maxHighSince(20250104));
+        assertEquals(Integer.MAX_VALUE, series.minLowSince(20250104));
+    }
+
+    @Test
+    void trimsToWindowLikeTheListVersion() {
+        DailyPriceSeries series = sample();
+        assertTrue(series.hasRowBefore(20250101));
+        assertFalse(series.hasRowBefore(0));
+
+        // 하한일 이전 행과 날짜 없는 행 제거
+        DailyPriceSeries trimmed = series.trimToWindow(20250101, 10);
+        assertEquals(2, trimmed.size());
+        assertEquals(20250102, trimmed.date(1));
+
+        // 하한일이 없으면 개수만 자름
+        DailyPriceSeries capped = series.trimToWindow(0, 3);
+        assertEquals(3, capped.size());
+        assertEquals(0, capped.date(2));
+
+        assertEquals("20250103", series.row(0).getDate());
+        assertEquals(4, series.toList().size());
+    }
+
+    @Test
+    void parserDecodesRowsIntoColumns() throws IOException {
+        String body = "{\"return_code\":0,\"return_msg\":\"정상\",\"daly_stkpc\":["
+            + "{\"date\":\"20250103\",\"open_pric\":\"+78,800\",\"high_pric\":\"+79,500\",\"low_pric\":\"-77,900\","
+            + "\"close_pric\":\"+79,000\",\"trde_qty\":\"12,345\",\"flu_rt\":\"-1.25\"},"
+            + "{\"date\":\"20250102\",\"open_pric\":\"78000\",\"high_pric\":\"78500\",\"low_pric\":\"\","
+            + "\"close_pric\":\"78100\",\"trde_qty\":\"100\",\"flu_rt\":\"+0.10\"}]}";
+        Ka10086ResponseParser.Page page = Ka10086ResponseParser.parse(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "005930");
+
+        DailyPriceSeries rows = page.getRows();
+        assertEquals(2, rows.size());
+        assertEquals(20250103, rows.date(0));
+        assertEquals(79_500, rows.highPrice(0));
+        assertEquals(77_900, rows.lowPrice(0));
+        assertEquals(12_345L, rows.volume(0));
+        assertEquals(-1.25, rows.changeRate(0));
+        assertEquals(0, rows.lowPrice(1));
+    }
+}
@@ -0,0 +1,275 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 키움 API 대역 서버
+ * /oauth2/token(au10001)과 연속조회 헤더(cont-yn, next-key)를 포함한 /api/dostk/mrkcond(ka10086)를 흉내 냅니다.
+ * 응답 지연, 오류(HTTP 500) 비율, 초당 허용 요청 수(초과 시 return_code 5)를 설정할 수 있습니다.
+ */
+public class FakeKiwoomServer implements AutoCloseable {
+
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter EXPIRES_DT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+
+    // 설정
+    private volatile long latencyMs;
+    private volatile long latencyJitterMs;
+    private volatile double errorRate;
+    private volatile int rateLimitPerSecond;
+    private volatile int rowsPerPage = 20;
+    private volatile int historyDays = 400;
+    private volatile boolean malformedBody;
+
+    // 호출 기록
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger dailyPriceCalls = new AtomicInteger();
+    private final AtomicInteger errorResponses = new AtomicInteger();
+    private final AtomicInteger throttledResponses = new AtomicInteger();
+    private final Map<String, AtomicInteger> callsByStock = new ConcurrentHashMap<>();
+    // 처리 중인 일별 주가 요청 수와 그 최댓값
+    private final AtomicInteger activeDailyPriceCalls = new AtomicInteger();
+    private final AtomicInteger maxActiveDailyPriceCalls = new AtomicInteger();
+
+    // 초 단위 고정 창 요청 수
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    public FakeKiwoomServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth2/token", this::handleToken);
+        server.createContext("/api/dostk/mrkcond", this::handleDailyPrices);
+    }
+
+    public FakeKiwoomServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getHost() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    public FakeKiwoomServer latency(long latencyMs, long jitterMs) {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = jitterMs;
+        return this;
+    }
+
+    public FakeKiwoomServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * 초당 허용 요청 수 (0이면 제한 없음)
+     */
+    public FakeKiwoomServer rateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+        return this;
+    }
+
+    /**
+     * 일별 주가 응답을 200 + JSON이 아닌 본문으로 보냄 (게이트웨이 오류 페이지 등)
+     */
+    public FakeKiwoomServer malformedBody(boolean malformedBody) {
+        this.malformedBody = malformedBody;
+        return this;
+    }
+
+    public FakeKiwoomServer rowsPerPage(int rowsPerPage) {
+        this.rowsPerPage = rowsPerPage;
+        return this;
+    }
+
+    /**
+     * 종목별로 제공하는 과거 일봉 수 (qry_dt부터 과거로)
+     */
+    public FakeKiwoomServer historyDays(int historyDays) {
+        this.historyDays = historyDays;
+        return this;
+    }
+
+    public int getTokenCalls() {
+        return tokenCalls.get();
+    }
+
+    public int getDailyPriceCalls() {
+        return dailyPriceCalls.get();
+    }
+
+    public int getErrorResponses() {
+        return errorResponses.get();
+    }
+
+    public int getThrottledResponses() {
+        return throttledResponses.get();
+    }
+
+    public Map<String, AtomicInteger> getCallsByStock() {
+        return callsByStock;
+    }
+
+    public int getMaxActiveDailyPriceCalls() {
+        return maxActiveDailyPriceCalls.get();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenCalls.incrementAndGet();
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("expires_dt", LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(1).format(EXPIRES_DT));
+        body.put("token_type", "bearer");
+        body.put("token", "fake-token-" + tokenCalls.get());
+        body.put("return_code", 0);
+        body.put("return_msg", "정상적으로 처리되었습니다");
+        send(exchange, 200, body, null, null);
+    }
+
+    private void handleDailyPrices(HttpExchange exchange) throws IOException {
+        maxActiveDailyPriceCalls.accumulateAndGet(activeDailyPriceCalls.incrementAndGet(), Math::max);
+        try {
+            respondDailyPrices(exchange);
+        } finally {
+            activeDailyPriceCalls.decrementAndGet();
+        }
+    }
+
+    private void respondDailyPrices(HttpExchange exchange) throws IOException {
+        dailyPriceCalls.incrementAndGet();
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        String stockCode = request.path("stk_cd").asText();
+        callsByStock.computeIfAbsent(stockCode, code -> new AtomicInteger()).incrementAndGet();
+
+        sleep(latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0));
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errorResponses.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+        if (malformedBody) {
+            byte[] html = "<html><body>Bad Gateway</body></html>".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, html.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(html);
+            }
+            return;
+        }
+        if (isOverRateLimit()) {
+            throttledResponses.incrementAndGet();
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("return_code", 5);
+            body.put("return_msg", "허용된 요청 개수를 초과하였습니다[1700:허용된 요청 개수를 초과하였습니다. API ID=ka10086]");
+            send(exchange, 200, body, null, null);
+            return;
+        }
+
+        // next-key는 이번 페이지의 시작 행 번호
+        String nextKeyHeader = exchange.getRequestHeaders().getFirst("next-key");
+        int offset = "Y".equals(exchange.getRequestHeaders().getFirst("cont-yn")) && nextKeyHeader != null && !nextKeyHeader.isEmpty()
+            ? Integer.parseInt(nextKeyHeader) : 0;
+        LocalDate queryDate = LocalDate.parse(request.path("qry_dt").asText(), YYYYMMDD);
+        int end = Math.min(offset + rowsPerPage, historyDays);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("stk_cd", stockCode);
+        ArrayNode rows = body.putArray("daly_stkpc");
+        for (int i = offset; i < end; i++) {
+            rows.add(row(stockCode, queryDate.minusDays(i)));
+        }
+        body.put("return_code", 0);
+        body.put("return_msg", "정상적으로 처리되었습니다");
+
+        boolean hasNext = end < historyDays;
+        send(exchange, 200, body, hasNext ? "Y" : "N", hasNext ? String.valueOf(end) : "");
+    }
+
+    /**
+     * 종목코드와 날짜로 결정되는 합성 일봉 (같은 요청에는 항상 같은 값)
+     */
+    private ObjectNode row(String stockCode, LocalDate date) {
+        int base = 10_000 + Math.floorMod(stockCode.hashCode(), 90_000);
+        int wave = (int) (Math.sin(date.toEpochDay() / 7.0) * base * 0.05);
+        int close = base + wave;
+        int high = close + base / 100;
+        int low = close - base / 100;
+
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("date", date.format(YYYYMMDD));
+        row.put("open_pric", "+" + close);
+        row.put("high_pric", "+" + high);
+        row.put("low_pric", "-" + low);
+        row.put("close_pric", "+" + close);
+        row.put("trde_qty", String.valueOf(100_000 + Math.floorMod(date.hashCode(), 50_000)));
+        row.put("flu_rt", wave >= 0 ? "+0.35" : "-0.35");
+        return row;
+    }
+
+    private boolean isOverRateLimit() {
+        int limit = rateLimitPerSecond;
+        if (limit <= 0) {
+            return false;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long previous = windowSecond.get();
+        if (previous != second && windowSecond.compareAndSet(previous, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() > limit;
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body, String contYn, String nextKey) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.getResponseHeaders().set("api-id", "ka10086");
+        if (contYn != null) {
+            exchange.getResponseHeaders().set("cont-yn", contYn);
+            exchange.getResponseHeaders().set("next-key", nextKey);
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
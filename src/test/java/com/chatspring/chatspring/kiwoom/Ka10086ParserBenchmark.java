@@ -0,0 +1,144 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ka10086 응답 파싱 벤치마크: 기존 경로(String 버퍼링 + readTree + 정규식) vs 스트리밍 파서
+ * 실행: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *        -Dexec.mainClass=com.chatspring.chatspring.kiwoom.Ka10086ParserBenchmark
+ * 할당량 비교는 -prof gc 결과의 gc.alloc.rate.norm(B/op)을 봅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Ka10086ParserBenchmark {
+
+    @Param({"ka10086-page1.json", "ka10086-page2.json"})
+    public String page;
+
+    private byte[] body;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup
+    public void load() throws IOException {
+        try (InputStream in = Ka10086ParserBenchmark.class.getResourceAsStream("/kiwoom/" + page)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크용 응답 파일이 없습니다: " + page);
+            }
+            body = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public void legacyTreeAndRegex(Blackhole bh) throws IOException {
+        // 기존 경로: 응답 본문을 String으로 받은 뒤 JsonNode 트리 + 정규식 치환
+        String response = new String(body, StandardCharsets.UTF_8);
+        JsonNode jsonNode = objectMapper.readTree(response);
+        List<KiwoomApiClient.DailyPriceData> rows = new ArrayList<>();
+        if ("0".equals(jsonNode.get("return_code").asText())) {
+            for (JsonNode row : jsonNode.get("daly_stkpc")) {
+                bh.consume(LegacyParsing.parsePriceNonNegative(row, "low_pric"));
+                KiwoomApiClient.DailyPriceData data = new KiwoomApiClient.DailyPriceData();
+                data.setDate(row.get("date").asText());
+                data.setOpenPrice(LegacyParsing.parsePriceValue(row.get("open_pric").asText()));
+                data.setHighPrice(LegacyParsing.parsePriceValue(row.get("high_pric").asText()));
+                data.setLowPrice(LegacyParsing.parsePriceValue(row.get("low_pric").asText()));
+                data.setClosePrice(LegacyParsing.parsePriceValue(row.get("close_pric").asText()));
+                data.setVolume(LegacyParsing.parseVolumeValue(row.get("trde_qty").asText()));
+                data.setChangeRate(LegacyParsing.parseRateValue(row.get("flu_rt").asText()));
+                rows.add(data);
+            }
+        }
+        bh.consume(rows);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) throws IOException {
+        bh.consume(Ka10086ResponseParser.parse(new ByteArrayInputStream(body), "005930").getRows());
+    }
+
+    /**
+     * 교체 전 KiwoomApiClient의 파싱 헬퍼 (비교용 사본)
+     */
+    static final class LegacyParsing {
+
+        static Integer parsePriceNonNegative(JsonNode row, String key) {
+            JsonNode n = row.get(key);
+            if (n == null || n.isNull()) return null;
+            String noSpaces = n.asText("")
+                    .replace("\\u00A0", "")
+                    .replace(" ", "")
+                    .replace(",", "")
+                    .replace("+", "")
+                    .replace("-", "")
+                    .trim();
+            if (noSpaces.isEmpty()) {
+                return null;
+            }
+            try {
+                return Integer.parseInt(noSpaces);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        static int parsePriceValue(String raw) {
+            if (raw == null || raw.trim().isEmpty()) return 0;
+            String s = raw.trim().replaceAll("[+\\-]", "");
+            if (s.isEmpty()) return 0;
+            try {
+                return Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        static long parseVolumeValue(String raw) {
+            if (raw == null || raw.trim().isEmpty()) return 0;
+            String s = raw.trim().replaceAll("^[+-]+", "");
+            if (s.isEmpty()) return 0;
+            try {
+                return Long.parseLong(s);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        static double parseRateValue(String raw) {
+            if (raw == null || raw.trim().isEmpty()) return 0.0;
+            String s = raw.trim().replaceAll("^[+-]+", "");
+            if (s.isEmpty()) return 0.0;
+            try {
+                return Double.parseDouble(s);
+            } catch (NumberFormatException e) {
+                return 0.0;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(Ka10086ParserBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link Ka10086ResponseParser} 비정상 필드 처리 테스트
+ */
+class Ka10086ResponseParserTest {
+
+    private static Ka10086ResponseParser.Page parseBody(String body) throws IOException {
+        return Ka10086ResponseParser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "005930");
+    }
+
+    private static DailyPriceSeries parseRows(String rowsJson) throws IOException {
+        Ka10086ResponseParser.Page page = parseBody("{\"return_code\":0,\"return_msg\":\"정상\",\"daly_stkpc\":[" + rowsJson + "]}");
+        assertTrue(page.isSuccess());
+        return page.getRows();
+    }
+
+    @Test
+    void parsesSignedAndGroupedNumbers() throws IOException {
+        DailyPriceSeries rows = parseRows("{\"date\":\"20250102\",\"open_pric\":\"+78,800\",\"high_pric\":\"-79,000\","
+            + "\"low_pric\":\"78000\",\"close_pric\":78500,\"trde_qty\":\"12,345\",\"flu_rt\":\"-0.38\"}");
+
+        assertEquals(1, rows.size());
+        assertEquals(20250102, rows.date(0));
+        assertEquals(78_800, rows.openPrice(0));
+        assertEquals(79_000, rows.highPrice(0));
+        assertEquals(78_000, rows.lowPrice(0));
+        assertEquals(78_500, rows.closePrice(0));
+        assertEquals(12_345, rows.volume(0));
+        assertEquals(-0.38, rows.changeRate(0));
+    }
+
+    @Test
+    void blankNullAndDashFieldsBecomeZero() throws IOException {
+        DailyPriceSeries rows = parseRows(
+            "{\"date\":\"20250103\",\"open_pric\":\"\",\"high_pric\":null,\"low_pric\":\"-\","
+                + "\"close_pric\":\"\",\"trde_qty\":\"-\",\"flu_rt\":null},"
+                + "{\"date\":\"20250102\",\"open_pric\":\"-\",\"high_pric\":\"\",\"low_pric\":null,"
+                + "\"close_pric\":null,\"trde_qty\":{},\"flu_rt\":\"\"},"
+                + "{\"date\":\"20250101\",\"open_pric\":[1],\"high_pric\":\"+\",\"low_pric\":\"\","
+                + "\"close_pric\":\"-\",\"trde_qty\":null,\"flu_rt\":\"-\"}");
+
+        assertEquals(3, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(0, rows.openPrice(i));
+            assertEquals(0, rows.highPrice(i));
+            assertEquals(0, rows.lowPrice(i));
+            assertEquals(0, rows.closePrice(i));
+            assertEquals(0, rows.volume(i));
+            assertEquals(0.0, Math.abs(rows.changeRate(i)));
+        }
+    }
+
+    @Test
+    void changeRateKeepsDirection() throws IOException {
+        // 기존 파서는 부호를 떼어 하락일(-1.20)도 1.20으로 저장했음
+        DailyPriceSeries rows = parseRows("{\"date\":\"20250103\",\"flu_rt\":\"-1.20\"},"
+            + "{\"date\":\"20250102\",\"flu_rt\":\"+2.5\"},"
+            + "{\"date\":\"20250101\",\"flu_rt\":-0.7}");
+
+        assertEquals(-1.2, rows.changeRate(0));
+        assertEquals(2.5, rows.changeRate(1));
+        assertEquals(-0.7, rows.changeRate(2));
+    }
+
+    @Test
+    void malformedBodyIsNotRetryable() {
+        // 재시도 대상(IOException)이 아닌 KiwoomResponseParseException
+        assertThrows(KiwoomResponseParseException.class, () -> parseBody("<html><body>Bad Gateway</body></html>"));
+        assertThrows(KiwoomResponseParseException.class, () -> parseBody("[1, 2]"));
+        assertThrows(KiwoomResponseParseException.class, () -> parseBody("{\"return_code\":0,\"daly_stkpc\":[{\"date\":"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link KiwoomApiClient} 응답 오류 재시도 구분 테스트 ({@link FakeKiwoomServer} 대상)
+ */
+class KiwoomApiClientTest {
+
+    private final FakeKiwoomServer server = new FakeKiwoomServer().start();
+    private final KiwoomApiClient client = createClient();
+
+    KiwoomApiClientTest() throws IOException {
+    }
+
+    private KiwoomApiClient createClient() {
+        RestTemplate restTemplate = new RestTemplate();
+        KiwoomTokenManager tokenManager = new KiwoomTokenManager(restTemplate, 30, 60, "3");
+        KiwoomApiClient apiClient = new KiwoomApiClient(restTemplate, new KiwoomRateLimiter(1_000, 100),
+            new KiwoomCallGuard(2, 1, 60_000, 1_000, 5, 30, "5"), tokenManager);
+        ReflectionTestUtils.setField(apiClient, "host", server.getHost());
+        return apiClient;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void malformedResponseFailsWithoutRetry() {
+        server.malformedBody(true);
+
+        // ResourceAccessException으로 바뀌어 5회 재시도(최대 15초 대기)되지 않아야 함
+        assertThrows(KiwoomResponseParseException.class,
+            () -> client.fetchDailyPrices("token", "005930", "20251031", 10));
+        assertEquals(1, server.getDailyPriceCalls());
+    }
+}
@@ -0,0 +1,98 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KiwoomAsyncApiClient} 연속조회/동시 호출 한도 테스트 ({@link FakeKiwoomServer} 대상)
+ */
+class KiwoomAsyncApiClientTest {
+
+    private static final LocalDate QUERY_DATE = LocalDate.of(2025, 10, 31);
+    private static final String QUERY_DATE_TEXT = QUERY_DATE.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+    private final FakeKiwoomServer server = new FakeKiwoomServer().rowsPerPage(20).historyDays(50).start();
+    private final KiwoomCallGuard callGuard = new KiwoomCallGuard(2, 1, 60_000, 1_000, 5, 30, "5");
+    private final KiwoomAsyncApiClient client = createClient();
+
+    KiwoomAsyncApiClientTest() throws IOException {
+    }
+
+    private KiwoomAsyncApiClient createClient() {
+        KiwoomTokenManager tokenManager = new KiwoomTokenManager(new RestTemplate(), 30, 60, "3");
+        KiwoomAsyncApiClient asyncClient = new KiwoomAsyncApiClient(tokenManager, new KiwoomRateLimiter(1_000, 100), callGuard, 3);
+        ReflectionTestUtils.setField(asyncClient, "host", server.getHost());
+        ReflectionTestUtils.setField(asyncClient, "timeout", 10);
+        return asyncClient;
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Test
+    void chainsContinuationPagesUntilMaxCount() {
+        List<KiwoomApiClient.DailyPriceData> rows =
+            client.fetchDailyPricesAsync("token", "005930", QUERY_DATE_TEXT, 45).join();
+
+        assertEquals(45, rows.size());
+        assertEquals(3, server.getDailyPriceCalls());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(QUERY_DATE.minusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE), rows.get(i).getDate());
+        }
+    }
+
+    @Test
+    void stopsPagingAtSinceDate() {
+        List<KiwoomApiClient.DailyPriceData> rows =
+            client.fetchDailyPricesAsync("token", "005930", QUERY_DATE_TEXT, QUERY_DATE.minusDays(25), 100).join();
+
+        // 두 번째 페이지(20~39일 전)에서 하한일 이전 행이 나오므로 세 번째 페이지는 요청하지 않음
+        assertEquals(26, rows.size());
+        assertEquals(2, server.getDailyPriceCalls());
+    }
+
+    @Test
+    void concurrentFetchesStayWithinCallGuardLimit() {
+        server.latency(30, 0);
+        List<CompletableFuture<List<KiwoomApiClient.DailyPriceData>>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(client.fetchDailyPricesAsync("token", String.format("%06d", i), QUERY_DATE_TEXT, 1));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (CompletableFuture<List<KiwoomApiClient.DailyPriceData>> future : futures) {
+            assertEquals(1, future.join().size());
+        }
+        assertEquals(12, server.getDailyPriceCalls());
+        assertTrue(server.getMaxActiveDailyPriceCalls() <= 2, "최대 동시 요청 수: " + server.getMaxActiveDailyPriceCalls());
+        assertEquals(0, callGuard.getStatus().get("inFlight"));
+    }
+
+    @Test
+    void malformedResponseFailsWithoutRetry() {
+        server.malformedBody(true);
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> client.fetchDailyPricesAsync("token", "005930", QUERY_DATE_TEXT, 10).join());
+
+        assertInstanceOf(KiwoomResponseParseException.class, error.getCause());
+        assertEquals(1, server.getDailyPriceCalls());
+    }
+}
@@ -0,0 +1,72 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KiwoomCallGuard} 동시 호출 한도/차단기 테스트
+ */
+class KiwoomCallGuardTest {
+
+    private static KiwoomCallGuard guard(int maxConcurrency, int failureThreshold, long openSeconds) {
+        // 지연 임계값은 넉넉히 (느린 테스트 환경에서 한도가 줄지 않도록)
+        return new KiwoomCallGuard(maxConcurrency, 1, 60_000, 1_000, failureThreshold, openSeconds, "5");
+    }
+
+    @Test
+    void asyncCallsQueueAtTheConcurrencyLimit() {
+        KiwoomCallGuard guard = guard(2, 5, 30);
+        CompletableFuture<Long> first = guard.enterAsync();
+        CompletableFuture<Long> second = guard.enterAsync();
+        CompletableFuture<Long> third = guard.enterAsync();
+
+        assertTrue(first.isDone() && second.isDone());
+        assertFalse(third.isDone(), "한도(2)를 넘는 호출은 슬롯이 날 때까지 대기해야 함");
+        assertEquals(1, guard.getStatus().get("queued"));
+
+        guard.release(first.join(), KiwoomCallGuard.Outcome.SUCCESS);
+        assertTrue(third.isDone());
+        assertEquals(2, guard.getStatus().get("inFlight"));
+        assertEquals(0, guard.getStatus().get("queued"));
+    }
+
+    @Test
+    void halfOpenLetsOnlyOneTrialThrough() {
+        // 차단기 대기 시간 0초 - 열린 직후 다음 호출부터 HALF_OPEN
+        KiwoomCallGuard guard = guard(2, 1, 0);
+        guard.release(guard.acquire(), KiwoomCallGuard.Outcome.FAILURE);
+        assertEquals("OPEN", guard.getStatus().get("circuitState"));
+
+        // 시험 호출 1건만 통과
+        CompletableFuture<Long> trial = guard.enterAsync();
+        assertTrue(trial.isDone() && !trial.isCompletedExceptionally());
+        CompletionException rejected = assertThrows(CompletionException.class, () -> guard.enterAsync().join());
+        assertInstanceOf(KiwoomCircuitOpenException.class, rejected.getCause());
+        assertThrows(KiwoomCircuitOpenException.class, guard::acquire);
+
+        guard.release(trial.join(), KiwoomCallGuard.Outcome.SUCCESS);
+        assertEquals("CLOSED", guard.getStatus().get("circuitState"));
+        guard.release(guard.acquire(), KiwoomCallGuard.Outcome.SUCCESS);
+    }
+
+    @Test
+    void queuedCallsFailWhenTheCircuitOpens() {
+        KiwoomCallGuard guard = guard(1, 1, 30);
+        CompletableFuture<Long> running = guard.enterAsync();
+        CompletableFuture<Long> queued = guard.enterAsync();
+        assertFalse(queued.isDone());
+
+        guard.release(running.join(), KiwoomCallGuard.Outcome.FAILURE);
+        assertEquals("OPEN", guard.getStatus().get("circuitState"));
+        CompletionException rejected = assertThrows(CompletionException.class, queued::join);
+        assertInstanceOf(KiwoomCircuitOpenException.class, rejected.getCause());
+    }
+}
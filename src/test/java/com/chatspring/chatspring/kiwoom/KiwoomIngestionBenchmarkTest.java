@@ -0,0 +1,160 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.chatspring.chatspring.jugot.Jugot;
+import com.chatspring.chatspring.jugot.JugotRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 일일 업데이트 종단 벤치마크: {@link FakeKiwoomServer} + H2 위에서 StockDataUpdateService 전체 실행
+ * 실행: ./mvnw test -Dtest=KiwoomIngestionBenchmarkTest -Dkiwoom.benchmark=true
+ *        [-Dkiwoom.benchmark.rows=500 -Dkiwoom.benchmark.codes=200 -Dkiwoom.benchmark.latency-ms=30
+ *         -Dkiwoom.benchmark.error-rate=0.01 -Dkiwoom.benchmark.server-tps=0 -Dkiwoom.api.rate-limit.tps=50]
+ * 총 소요 시간, 종목코드당 호출 수, 호출 지연 p50/p99를 출력합니다.
+ */
+@EnabledIfSystemProperty(named = "kiwoom.benchmark", matches = "true")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:kiwoom-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.ai.openai.api-key=benchmark",
+    "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret",
+    "vapid.public.key=benchmark",
+    "vapid.private.key=benchmark",
+    "vapid.subject=mailto:benchmark@example.com",
+    "kiwoom.api.appkey=benchmark",
+    "kiwoom.api.secretkey=benchmark",
+    "logging.level.com.chatspring.chatspring.kiwoom=WARN"
+})
+class KiwoomIngestionBenchmarkTest {
+
+    private static final FakeKiwoomServer SERVER = startServer();
+
+    private static final int ROWS = Integer.getInteger("kiwoom.benchmark.rows", 300);
+    private static final int CODES = Integer.getInteger("kiwoom.benchmark.codes", 150);
+
+    @Autowired
+    private StockDataUpdateService stockDataUpdateService;
+
+    @Autowired
+    private JugotRepository jugotRepository;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private static FakeKiwoomServer startServer() {
+        try {
+            return new FakeKiwoomServer()
+                .latency(Long.getLong("kiwoom.benchmark.latency-ms", 30), Long.getLong("kiwoom.benchmark.latency-jitter-ms", 20))
+                .errorRate(Double.parseDouble(System.getProperty("kiwoom.benchmark.error-rate", "0")))
+                .rateLimitPerSecond(Integer.getInteger("kiwoom.benchmark.server-tps", 0))
+                .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void kiwoomProperties(DynamicPropertyRegistry registry) {
+        registry.add("kiwoom.api.host", SERVER::getHost);
+        registry.add("kiwoom.api.rate-limit.tps", () -> System.getProperty("kiwoom.api.rate-limit.tps", "50"));
+        registry.add("kiwoom.api.rate-limit.burst", () -> System.getProperty("kiwoom.api.rate-limit.burst", "10"));
+        registry.add("kiwoom.update.concurrency", () -> System.getProperty("kiwoom.update.concurrency", "8"));
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void dailyUpdate() {
+        jugotRepository.saveAll(syntheticJugots());
+
+        // 일별 주가 조회 호출의 클라이언트 측 지연 기록
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        ClientHttpRequestInterceptor recorder = (request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                if (request.getURI().getPath().endsWith("/mrkcond")) {
+                    latencies.add(System.nanoTime() - start);
+                }
+            }
+        };
+        restTemplate.getInterceptors().add(recorder);
+
+        long start = System.nanoTime();
+        try {
+            // 실행 날짜가 휴장일이어도 측정하도록 강제 실행
+            stockDataUpdateService.updateStockDataDaily(true);
+        } finally {
+            restTemplate.getInterceptors().remove(recorder);
+        }
+        long wallMs = (System.nanoTime() - start) / 1_000_000;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        int stocks = SERVER.getCallsByStock().size();
+        System.out.printf("""
+            === Kiwoom 일일 업데이트 벤치마크 ===
+            Jugot 행: %d, 종목코드: %d (호출된 종목코드: %d)
+            총 소요 시간: %d ms
+            ka10086 호출: %d 회 (종목코드당 %.2f 회), 토큰 발급: %d 회
+            서버 오류 응답: %d, 호출 한도 초과 응답: %d
+            호출 지연 p50: %.1f ms, p99: %.1f ms
+            %n""",
+            ROWS, CODES, stocks, wallMs,
+            SERVER.getDailyPriceCalls(), stocks == 0 ? 0.0 : (double) SERVER.getDailyPriceCalls() / stocks, SERVER.getTokenCalls(),
+            SERVER.getErrorResponses(), SERVER.getThrottledResponses(),
+            percentileMs(sorted, 0.50), percentileMs(sorted, 0.99));
+
+        assertTrue(SERVER.getDailyPriceCalls() > 0, "ka10086 호출이 없습니다");
+    }
+
+    /**
+     * 종목코드를 돌려 가며 최근 90일 안의 포착일로 Jugot 행 생성
+     */
+    private static List<Jugot> syntheticJugots() {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        List<Jugot> jugots = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            int code = i % CODES;
+            Jugot jugot = new Jugot();
+            jugot.setStockCode(String.format("%06d", 100_000 + code));
+            jugot.setStockName("벤치마크" + code);
+            jugot.setCapturePrice(10_000);
+            jugot.setCaptureDate(today.minusDays(1 + (i * 7L) % 90));
+            jugot.setMarketType("KOSPI");
+            jugots.add(jugot);
+        }
+        return jugots;
+    }
+
+    private static double percentileMs(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+    }
+}
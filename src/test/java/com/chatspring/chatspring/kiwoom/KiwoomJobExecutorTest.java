@@ -0,0 +1,83 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KiwoomJobExecutor} 동시 실행 수/시작 순서 테스트
+ */
+class KiwoomJobExecutorTest {
+
+    private static List<Integer> items(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void runningTasksNeverExceedConcurrency() {
+        KiwoomJobExecutor executor = new KiwoomJobExecutor(3);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+
+        executor.runAll("test", items(30), item -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(10);
+            active.decrementAndGet();
+            done.incrementAndGet();
+        });
+
+        assertEquals(3, maxActive.get());
+        assertEquals(30, done.get());
+    }
+
+    @Test
+    void startsItemsInListOrder() {
+        // 동시 실행 1이면 목록 순서 그대로 실행
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        new KiwoomJobExecutor(1).runAll("test", items(20), order::add);
+        assertEquals(items(20), order);
+
+        // 동시 실행 3이면 i번째 항목이 시작할 때 적어도 i - 2개 항목이 끝나 있어야 함
+        // (앞 항목이 자리를 반납해야 다음 항목이 제출되므로 뒤 항목이 앞지르지 않음)
+        AtomicInteger finished = new AtomicInteger();
+        List<String> violations = Collections.synchronizedList(new ArrayList<>());
+        new KiwoomJobExecutor(3).runAll("test", items(30), item -> {
+            int finishedAtStart = finished.get();
+            if (finishedAtStart < item - 2) {
+                violations.add(item + "번 항목 시작 시 완료 " + finishedAtStart + "개");
+            }
+            sleep(5 + item % 3 * 5);
+            finished.incrementAndGet();
+        });
+        assertTrue(violations.isEmpty(), violations.toString());
+        assertEquals(30, finished.get());
+    }
+
+    @Test
+    void stopsStartingWhenAdmitReturnsFalse() {
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger admitted = new AtomicInteger();
+
+        int started = new KiwoomJobExecutor(2).runAll("test", items(10), () -> admitted.incrementAndGet() <= 4, ran::add);
+
+        assertEquals(4, started);
+        Collections.sort(ran);
+        assertEquals(List.of(0, 1, 2, 3), ran);
+    }
+}
@@ -0,0 +1,114 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KiwoomRateLimiter} 버스트/지속 속도 테스트 (여러 스레드가 한 버킷을 공유)
+ */
+class KiwoomRateLimiterTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    @Test
+    void concurrentReservationsAreSpacedAtSteadyRate() throws Exception {
+        KiwoomRateLimiter limiter = new KiwoomRateLimiter(10, 3);
+        int callers = 16;
+
+        List<Long> waits = runConcurrently(callers, limiter::reserve);
+        Collections.sort(waits);
+
+        // 버스트 3개는 바로, 나머지는 100ms 간격으로 한 개씩 (같은 자리를 두 스레드가 받지 않음)
+        for (int i = 0; i < callers; i++) {
+            long expectedMillis = Math.max(0, i - 2) * 100L;
+            long actualMillis = waits.get(i) / NANOS_PER_MILLI;
+            assertTrue(Math.abs(actualMillis - expectedMillis) <= 20,
+                i + "번째 예약 대기 " + actualMillis + "ms, 기대값 " + expectedMillis + "ms");
+        }
+    }
+
+    @Test
+    void concurrentAcquireAllowsBurstThenSteadyRate() throws Exception {
+        double permitsPerSecond = 20;
+        int burst = 5;
+        int callers = 25;
+        KiwoomRateLimiter limiter = new KiwoomRateLimiter(permitsPerSecond, burst);
+
+        List<Long> finished = runConcurrently(callers, () -> {
+            limiter.acquire();
+            return System.nanoTime();
+        });
+        Collections.sort(finished);
+        // 첫 통과 시각 기준 (스레드 생성 시간 제외)
+        long start = finished.get(0);
+        finished.replaceAll(time -> time - start);
+
+        // 버스트만큼은 대기 없이 통과
+        assertTrue(finished.get(burst - 1) / NANOS_PER_MILLI < 40, "버스트 구간이 대기함: " + finished);
+        // 이후 i번째 호출은 (i + 1 - burst) / TPS 이전에 통과하지 않음
+        for (int i = burst; i < callers; i++) {
+            long earliestMillis = (long) ((i + 1 - burst) * 1000 / permitsPerSecond);
+            assertTrue(finished.get(i) / NANOS_PER_MILLI >= earliestMillis - 10,
+                i + "번째 호출이 " + finished.get(i) / NANOS_PER_MILLI + "ms에 통과 (최소 " + earliestMillis + "ms)");
+        }
+        // 전체 소요 시간은 지속 속도에 맞음 (20개 / 20TPS = 1초)
+        long totalMillis = finished.get(callers - 1) / NANOS_PER_MILLI;
+        assertTrue(totalMillis >= 950 && totalMillis < 1_500, "전체 소요 " + totalMillis + "ms");
+    }
+
+    @Test
+    void idleTimeRefillsOnlyUpToBurst() throws InterruptedException {
+        KiwoomRateLimiter limiter = new KiwoomRateLimiter(50, 2);
+        assertEquals(0L, limiter.reserve());
+        assertEquals(0L, limiter.reserve());
+        assertTrue(limiter.reserve() > 0);
+
+        // 쉬는 동안 쌓이는 토큰은 burst까지만
+        Thread.sleep(200);
+        assertEquals(0L, limiter.reserve());
+        assertEquals(0L, limiter.reserve());
+        assertTrue(limiter.reserve() > 0);
+    }
+
+    private interface Call {
+        long run() throws Exception;
+    }
+
+    /**
+     * callers개 스레드가 동시에 call을 한 번씩 실행한 결과
+     */
+    private static List<Long> runConcurrently(int callers, Call call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch ready = new CountDownLatch(callers);
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return call.run();
+                }));
+            }
+            ready.await();
+            go.countDown();
+            List<Long> results = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
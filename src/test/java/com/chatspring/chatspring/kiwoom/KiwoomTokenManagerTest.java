@@ -0,0 +1,122 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KiwoomTokenManager} 발급 요청 단일화/교체 토큰 처리 테스트 (발급 응답은 RestTemplate 대역이 만듦)
+ */
+class KiwoomTokenManagerTest {
+
+    private static final DateTimeFormatter EXPIRES_DT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final StubRestTemplate restTemplate = new StubRestTemplate();
+    private final KiwoomTokenManager tokenManager = new KiwoomTokenManager(restTemplate, 30, 60, "3");
+
+    KiwoomTokenManagerTest() {
+        ReflectionTestUtils.setField(tokenManager, "host", "http://kiwoom.test");
+        ReflectionTestUtils.setField(tokenManager, "appkey", "appkey");
+        ReflectionTestUtils.setField(tokenManager, "secretkey", "secretkey");
+    }
+
+    @Test
+    void concurrentCallersShareOneIssueRequest() throws Exception {
+        int callers = 16;
+        restTemplate.release = new CountDownLatch(1);
+        CountDownLatch ready = new CountDownLatch(callers);
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    tokens.add(tokenManager.getToken().getToken());
+                }));
+            }
+            assertTrue(ready.await(5, TimeUnit.SECONDS));
+            // 발급 응답을 잡아 두어 모든 호출자가 진행 중인 발급에 합류하게 함
+            Thread.sleep(100);
+            restTemplate.release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(1, restTemplate.calls.get());
+        assertEquals(Set.of("token-1"), tokens);
+    }
+
+    @Test
+    void resolveSwapsReplacedTokenWithoutNewRequest() {
+        assertEquals("token-1", tokenManager.getToken().getToken());
+        assertEquals("token-2", tokenManager.refreshAfterAuthFailure("token-1"));
+        assertEquals(2, restTemplate.calls.get());
+
+        // 실행 시작 때 받은 토큰을 들고 있는 작업은 새 토큰으로 바꿔 씀
+        assertEquals("token-2", tokenManager.resolve("token-1"));
+        assertEquals("token-2", tokenManager.resolve("token-2"));
+        // 다른 호출자가 이미 재발급했으면 한 번 더 발급하지 않음
+        assertEquals("token-2", tokenManager.refreshAfterAuthFailure("token-1"));
+        assertEquals(2, restTemplate.calls.get());
+    }
+
+    @Test
+    void failedIssueLetsNextCallRetry() {
+        restTemplate.fail = true;
+        assertThrows(RuntimeException.class, tokenManager::getToken);
+
+        restTemplate.fail = false;
+        assertEquals("token-2", tokenManager.getToken().getToken());
+        assertEquals(2, restTemplate.calls.get());
+    }
+
+    /**
+     * au10001 응답 대역 - 호출마다 token-{n}을 발급하고, release가 있으면 열릴 때까지 응답을 미룸
+     */
+    private static class StubRestTemplate extends RestTemplate {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch release;
+        private volatile boolean fail;
+
+        @Override
+        public <T> ResponseEntity<T> postForEntity(String url, Object request, Class<T> responseType, Object... uriVariables) {
+            int call = calls.incrementAndGet();
+            CountDownLatch latch = release;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (fail) {
+                throw new ResourceAccessException("연결 실패");
+            }
+            String expiresDt = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(1).format(EXPIRES_DT);
+            String body = "{\"expires_dt\":\"" + expiresDt + "\",\"token_type\":\"bearer\",\"token\":\"token-" + call
+                + "\",\"return_code\":0,\"return_msg\":\"정상적으로 처리되었습니다\"}";
+            return ResponseEntity.ok(responseType.cast(body));
+        }
+    }
+}
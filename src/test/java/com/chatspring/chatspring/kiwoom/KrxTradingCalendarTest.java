@@ -0,0 +1,60 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KrxTradingCalendar} 단위 테스트 - classpath의 휴장일 표 사용
+ */
+class KrxTradingCalendarTest {
+
+    private final KrxTradingCalendar calendar = new KrxTradingCalendar("2026-07-17");
+
+    @Test
+    void weekendsAndHolidaysAreNotTradingDays() {
+        assertTrue(calendar.isTradingDay(LocalDate.of(2025, 10, 2)));
+        assertFalse(calendar.isTradingDay(LocalDate.of(2025, 10, 4)));   // 토요일
+        assertFalse(calendar.isTradingDay(LocalDate.of(2025, 10, 6)));   // 추석
+        assertFalse(calendar.isTradingDay(LocalDate.of(2025, 12, 31)));  // 연말 휴장일
+        assertFalse(calendar.isTradingDay(LocalDate.of(2026, 7, 17)));   // 추가 휴장일 설정
+        assertEquals("추석", calendar.holidayName(LocalDate.of(2025, 10, 6)));
+        assertNull(calendar.holidayName(LocalDate.of(2025, 10, 2)));
+    }
+
+    @Test
+    void tradingDaysBetweenSkipsHolidays() {
+        // 2025-10-01(수) ~ 2025-10-13(월): 10/1, 10/2, 10/10만 거래일
+        assertEquals(3, calendar.tradingDaysBetween(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13)));
+        assertEquals(-3, calendar.tradingDaysBetween(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 1)));
+        assertEquals(0, calendar.tradingDaysBetween(LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 10)));
+        // 표 구간을 벗어나도 주말 기준으로 이어서 계산
+        assertEquals(5, calendar.tradingDaysBetween(LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 14)));
+        assertEquals(5, calendar.tradingDaysBetween(LocalDate.of(2027, 12, 27), LocalDate.of(2028, 1, 5)));
+    }
+
+    @Test
+    void plusTradingDaysMovesAcrossHolidays() {
+        assertEquals(LocalDate.of(2025, 10, 10), calendar.nextTradingDay(LocalDate.of(2025, 10, 2)));
+        assertEquals(LocalDate.of(2025, 10, 2), calendar.previousTradingDay(LocalDate.of(2025, 10, 10)));
+        assertEquals(LocalDate.of(2025, 10, 13), calendar.plusTradingDays(LocalDate.of(2025, 10, 1), 3));
+        assertEquals(LocalDate.of(2025, 9, 30), calendar.plusTradingDays(LocalDate.of(2025, 10, 10), -3));
+        assertEquals(LocalDate.of(2026, 1, 2), calendar.nextTradingDay(LocalDate.of(2025, 12, 30)));
+        assertEquals(LocalDate.of(2028, 1, 3), calendar.nextTradingDay(LocalDate.of(2027, 12, 30)));
+    }
+
+    @Test
+    void specialSessionsChangeOpenAndCloseTimes() {
+        assertEquals(LocalTime.of(9, 0), calendar.openTime(LocalDate.of(2025, 10, 2)));
+        assertEquals(LocalTime.of(15, 30), calendar.closeTime(LocalDate.of(2025, 10, 2)));
+        assertEquals(LocalTime.of(10, 0), calendar.openTime(LocalDate.of(2026, 1, 2)));   // 연초 개장일
+        assertEquals(LocalTime.of(16, 30), calendar.closeTime(LocalDate.of(2025, 11, 13))); // 수능일
+        assertNull(calendar.closeTime(LocalDate.of(2025, 10, 6)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.chatspring.chatspring.jugot.RealTrade;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link RealTradeRuleEngine} 익절/손절 규칙 평가 테스트
+ */
+class RealTradeRuleEngineTest {
+
+    // 기본값: 익절 5%, 손절 10%
+    private final RealTradeRuleEngine engine = new RealTradeRuleEngine(null, null, 5.0, 10.0);
+
+    private static RealTrade trade(long id, int currentPrice, Double takeProfitRate, Double stopLossRate) {
+        RealTrade trade = new RealTrade();
+        trade.setId(id);
+        trade.setStockCode("C" + id);
+        trade.setCurrentPrice(currentPrice);
+        trade.setTakeProfitRate(takeProfitRate);
+        trade.setStopLossRate(stopLossRate);
+        return trade;
+    }
+
+    @Test
+    void appliesDefaultAndPerTradeRulesInOnePass() {
+        List<RealTrade> trades = List.of(
+            trade(1, 1050, null, null),   // +5% -> 기본 익절
+            trade(2, 1040, null, null),   // +4% -> 유지
+            trade(3, 1040, 3.0, null),    // +4% -> 매매별 익절 3%
+            trade(4, 890, null, null),    // -11% -> 기본 손절
+            trade(5, 890, null, 0.0),     // -11% -> 손절 꺼짐
+            trade(6, 2000, 0.0, null),    // +100% -> 익절 꺼짐
+            trade(7, 1500, null, null));  // 매수가 모름
+        Map<Long, Integer> buyPrices = Map.of(1L, 1000, 2L, 1000, 3L, 1000, 4L, 1000, 5L, 1000, 6L, 1000);
+
+        List<RealTradeRuleEngine.Decision> decisions = engine.evaluate(trades, buyPrices);
+        assertEquals(3, decisions.size());
+        assertEquals(1L, decisions.get(0).getTradeId());
+        assertEquals(RealTradeRuleEngine.Rule.TAKE_PROFIT, decisions.get(0).getRule());
+        assertEquals(3L, decisions.get(1).getTradeId());
+        assertEquals(3.0, decisions.get(1).getThreshold());
+        assertEquals(4L, decisions.get(2).getTradeId());
+        assertEquals(RealTradeRuleEngine.Rule.STOP_LOSS, decisions.get(2).getRule());
+        assertEquals(-10.0, decisions.get(2).getThreshold());
+    }
+
+    @Test
+    void distanceToTriggerUsesNearestRule() {
+        assertEquals(1.0, engine.distanceToTrigger(trade(1, 0, null, null), 1000, 1040), 1e-9);
+        assertEquals(2.0, engine.distanceToTrigger(trade(1, 0, null, null), 1000, 920), 1e-9);
+        assertEquals(0.0, engine.distanceToTrigger(trade(1, 0, null, null), 1000, 1100), 1e-9);
+        assertTrue(Double.isInfinite(engine.distanceToTrigger(trade(1, 0, 0.0, 0.0), 1000, 1100)));
+    }
+}
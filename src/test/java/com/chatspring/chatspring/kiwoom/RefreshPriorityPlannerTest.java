@@ -0,0 +1,84 @@
+package com.chatspring.chatspring.kiwoom;
+
+import com.chatspring.chatspring.jugot.Jugot;
+import com.chatspring.chatspring.jugot.RealTrade;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link RefreshPriorityPlanner} 처리 순서 테스트
+ */
+class RefreshPriorityPlannerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 17);
+
+    // 익절 5%, 손절 꺼짐 (기본 설정)
+    private final RefreshPriorityPlanner planner =
+        new RefreshPriorityPlanner(null, new RealTradeRuleEngine(null, null, 5.0, 0), 30, 2.0);
+
+    private static Jugot jugot(String code, LocalDate captureDate, int capturePrice) {
+        Jugot jugot = new Jugot();
+        jugot.setStockCode(code);
+        jugot.setCaptureDate(captureDate);
+        jugot.setCapturePrice(capturePrice);
+        return jugot;
+    }
+
+    private static RealTrade trade(String code, LocalDate startDate, int currentPrice) {
+        RealTrade trade = new RealTrade();
+        trade.setStockCode(code);
+        trade.setStartDate(startDate);
+        trade.setCurrentPrice(currentPrice);
+        return trade;
+    }
+
+    private static List<String> drain(PriorityQueue<RefreshPriorityPlanner.RefreshTask> queue) {
+        List<String> codes = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            codes.add(queue.poll().stockCode);
+        }
+        return codes;
+    }
+
+    @Test
+    void activeTradesNearPauseComeFirstAndOldCapturesLast() {
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        Map<String, List<Jugot>> stocksByCode = new LinkedHashMap<>();
+        stocksByCode.put("OLD", List.of(jugot("OLD", LocalDate.of(2025, 1, 10), 1000)));
+        stocksByCode.put("RECENT", List.of(jugot("RECENT", LocalDate.of(2025, 10, 10), 1000)));
+        stocksByCode.put("FAR", List.of(jugot("FAR", start, 1000)));
+        stocksByCode.put("NEAR", List.of(jugot("NEAR", start, 1000)));
+        stocksByCode.put("OVER", List.of(jugot("OVER", start, 1000)));
+        stocksByCode.put("NEWER", List.of(jugot("NEWER", LocalDate.of(2025, 10, 15), 1000)));
+
+        List<RealTrade> activeTrades = List.of(
+            trade("FAR", start, 980),     // -2% -> 기준까지 7%p
+            trade("NEAR", start, 1040),   // +4% -> 기준까지 1%p
+            trade("OVER", start, 1070));  // +7% -> 이미 기준 초과
+
+        List<String> order = drain(planner.buildQueue(stocksByCode, activeTrades, TODAY));
+        assertEquals(List.of("OVER", "NEAR", "FAR", "NEWER", "RECENT", "OLD"), order);
+    }
+
+    @Test
+    void tradeWithoutBuyPriceIsStillActiveTier() {
+        Map<String, List<Jugot>> stocksByCode = new LinkedHashMap<>();
+        stocksByCode.put("RECENT", List.of(jugot("RECENT", TODAY, 1000)));
+        stocksByCode.put("TRADE", List.of(jugot("TRADE", LocalDate.of(2024, 5, 1), 1000)));
+
+        // 시작일에 포착된 행이 없어 수익률을 모름
+        List<RealTrade> activeTrades = List.of(trade("TRADE", LocalDate.of(2024, 6, 3), 1200));
+
+        PriorityQueue<RefreshPriorityPlanner.RefreshTask> queue = planner.buildQueue(stocksByCode, activeTrades, TODAY);
+        assertEquals(RefreshPriorityPlanner.TIER_ACTIVE_TRADE, queue.peek().tier);
+        assertEquals(List.of("TRADE", "RECENT"), drain(queue));
+    }
+}
@@ -0,0 +1,93 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link StockJobCheckpointService} H2 테스트
+ * 서비스 메서드가 각자 트랜잭션을 커밋하도록 테스트 트랜잭션은 쓰지 않음
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockJobCheckpointServiceTest {
+
+    @Autowired
+    private StockJobRunRepository runRepository;
+
+    @Autowired
+    private StockJobItemRepository itemRepository;
+
+    private StockJobCheckpointService checkpointService;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        runRepository.deleteAll();
+        checkpointService = new StockJobCheckpointService(runRepository, itemRepository);
+    }
+
+    private StockJobRun partialRun(LocalDateTime startedAt) {
+        StockJobRun run = checkpointService.startRun(List.of("005930", "000660"));
+        run.setStartedAt(startedAt);
+        run.setStatus(StockJobRun.PARTIAL);
+        return runRepository.save(run);
+    }
+
+    @Test
+    void resumesUnfinishedRunStartedToday() {
+        StockJobRun run = partialRun(LocalDateTime.now());
+        checkpointService.markOk(run.getId(), "005930", 10);
+
+        Optional<StockJobRun> resumable = checkpointService.findResumableRun();
+        assertTrue(resumable.isPresent());
+        assertEquals(List.of("000660"), checkpointService.resumeRun(resumable.get()));
+    }
+
+    @Test
+    void doesNotResumeRunFromEarlierDay() {
+        // 평단가 반영 전에 중단된 어제 실행 - 오늘 재개하면 오늘 시세로 매수가 한 번 더 누적됨
+        StockJobRun yesterday = partialRun(LocalDateTime.now().minusDays(1));
+        assertEquals(Boolean.FALSE, yesterday.getAveragePriceDone());
+
+        assertTrue(checkpointService.findResumableRun().isEmpty());
+    }
+
+    @Test
+    void doesNotResumeCompletedRun() {
+        StockJobRun run = checkpointService.startRun(List.of("005930"));
+        checkpointService.markOk(run.getId(), "005930", 10);
+        checkpointService.finishRun(run.getId());
+
+        assertTrue(checkpointService.findResumableRun().isEmpty());
+    }
+
+    @Test
+    void expiredClaimCanBeTakenByAnotherOwner() throws InterruptedException {
+        StockJobRun run = checkpointService.startRun(List.of("005930", "000660", "035420"));
+        Long runId = run.getId();
+
+        assertEquals(3, checkpointService.claimPending(runId, "node-a", 10, Duration.ofMillis(200)).size());
+        // 유효한 점유는 다른 노드가 가져가지 못함
+        assertTrue(checkpointService.claimPending(runId, "node-b", 10, Duration.ofMinutes(5)).isEmpty());
+
+        Thread.sleep(300);
+
+        // node-a가 멈춘 채 점유가 만료되면 남은 종목을 node-b가 이어서 처리
+        List<String> takenOver = checkpointService.claimPending(runId, "node-b", 10, Duration.ofMinutes(5));
+        assertEquals(Set.of("005930", "000660", "035420"), Set.copyOf(takenOver));
+        assertTrue(checkpointService.claimPending(runId, "node-a", 10, Duration.ofMinutes(5)).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.chatspring.chatspring.kiwoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link StockUpdateStatusService} 진행 상황 집계 테스트
+ */
+class StockUpdateStatusServiceTest {
+
+    private final KiwoomCallGuard callGuard = new KiwoomCallGuard(4, 1, 3000, 1000, 5, 30, "5");
+    private final StockUpdateStatusService service = new StockUpdateStatusService(callGuard);
+
+    @Test
+    void countsItemsFromManyThreadsWithoutLosingUpdates() throws InterruptedException {
+        service.startUpdate();
+        service.startPhase(StockUpdateStatusService.Phase.JUGOT, 1000);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    service.recordItem(i % 10 != 0, 20);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        callGuard.release(callGuard.acquire(), KiwoomCallGuard.Outcome.SUCCESS);
+
+        StockUpdateStatusService.UpdateProgress progress = service.getProgress();
+        assertTrue(progress.isUpdating());
+        assertEquals(StockUpdateStatusService.Phase.JUGOT, progress.getPhase());
+        assertEquals(720, progress.getProcessed());
+        assertEquals(80, progress.getFailed());
+        assertEquals(80.0, progress.getPercent());
+        assertEquals(20L, progress.getAvgItemLatencyMs());
+        assertEquals(1, progress.getApiCalls());
+        assertNotNull(progress.getEtaSeconds());
+    }
+
+    @Test
+    void phaseChangeResetsCountsAndEndClearsProgress() {
+        service.startUpdate();
+        service.startPhase(StockUpdateStatusService.Phase.JUGOT, 2);
+        service.recordItem(true, 10);
+        service.startPhase(StockUpdateStatusService.Phase.AVERAGE_PRICE, 3);
+
+        StockUpdateStatusService.UpdateProgress progress = service.getProgress();
+        assertEquals(StockUpdateStatusService.Phase.AVERAGE_PRICE, progress.getPhase());
+        assertEquals(3, progress.getTotal());
+        assertEquals(0, progress.getProcessed());
+        assertNull(progress.getEtaSeconds());
+
+        service.endUpdate();
+        assertFalse(service.isUpdating());
+        assertFalse(service.getProgress().isUpdating());
+        assertEquals(StockUpdateStatusService.Phase.IDLE, service.getProgress().getPhase());
+    }
+}
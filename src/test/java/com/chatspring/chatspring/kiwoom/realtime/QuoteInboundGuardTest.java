@@ -0,0 +1,60 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link QuoteInboundGuard} 클라이언트 SEND 목적지/시세 구독 제한 테스트
+ */
+class QuoteInboundGuardTest {
+
+    private final QuoteInboundGuard guard = new QuoteInboundGuard();
+
+    private static Message<byte[]> inbound(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId("client");
+        accessor.setDestination(destination);
+        String payload = "{\"stockCode\":\"005930\",\"price\":1}";
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @Test
+    void rejectsClientSendToBrokerTopics() {
+        assertThrows(MessageDeliveryException.class,
+            () -> guard.preSend(inbound(SimpMessageType.MESSAGE, "/topic/quotes/005930"), null));
+        assertThrows(MessageDeliveryException.class,
+            () -> guard.preSend(inbound(SimpMessageType.MESSAGE, null), null));
+    }
+
+    @Test
+    void allowsSubscriptionsAndApplicationSends() {
+        Message<byte[]> subscribe = inbound(SimpMessageType.SUBSCRIBE, "/topic/quotes/005930");
+        assertSame(subscribe, guard.preSend(subscribe, null));
+
+        Message<byte[]> send = inbound(SimpMessageType.MESSAGE, "/app/quotes");
+        assertSame(send, guard.preSend(send, null));
+    }
+
+    @Test
+    void rejectsMalformedCodesAndStocksOverLimit() {
+        assertThrows(MessageDeliveryException.class,
+            () -> guard.preSend(inbound(SimpMessageType.SUBSCRIBE, "/topic/quotes/5930"), null));
+        assertThrows(MessageDeliveryException.class,
+            () -> guard.preSend(inbound(SimpMessageType.SUBSCRIBE, "/topic/quotes/005930/x"), null));
+
+        guard.setSubscriptionFilter("005930"::equals);
+        Message<byte[]> subscribed = inbound(SimpMessageType.SUBSCRIBE, "/topic/quotes/005930");
+        assertSame(subscribed, guard.preSend(subscribed, null));
+        assertThrows(MessageDeliveryException.class,
+            () -> guard.preSend(inbound(SimpMessageType.SUBSCRIBE, "/topic/quotes/000660"), null));
+    }
+}
@@ -0,0 +1,154 @@
+package com.chatspring.chatspring.kiwoom.realtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link QuoteStreamService} 단위 테스트 - 모의 시세({@link SimulatedQuoteFeed})와 전송 완료를 직접 제어하는 채널 사용
+ */
+class QuoteStreamServiceTest {
+
+    private static final String CODE = "005930";
+
+    private final QuoteDeliveryTracker tracker = new QuoteDeliveryTracker();
+    private final QuoteInboundGuard inboundGuard = new QuoteInboundGuard();
+    private final List<Message<?>> slowMessages = new CopyOnWriteArrayList<>();
+    private final List<Message<?>> fastMessages = new CopyOnWriteArrayList<>();
+
+    private SimulatedQuoteFeed feed;
+    private QuoteStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        // "slow" 세션은 전송 완료를 테스트가 직접 알릴 때까지 소켓 쓰기가 끝나지 않은 것으로 취급
+        MessageChannel channel = message -> {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if ("slow".equals(sessionId)) {
+                slowMessages.add(message);
+            } else {
+                fastMessages.add(message);
+                tracker.afterMessageHandled(message, null, null, null);
+            }
+            return true;
+        };
+        feed = new SimulatedQuoteFeed(0);
+        service = new QuoteStreamService(feed, tracker, inboundGuard, channel, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        feed.shutdown();
+    }
+
+    @Test
+    void slowSubscriberReceivesOnlyLatestTick() throws Exception {
+        service.subscribe("slow", "sub-0", CODE);
+
+        QuoteTick latest = null;
+        for (int i = 0; i < 50; i++) {
+            latest = feed.emit(CODE);
+        }
+        waitUntil(() -> slowMessages.size() == 1);
+        Thread.sleep(100);
+        assertEquals(1, slowMessages.size(), "첫 메시지 전송이 끝나기 전에는 다음 메시지를 보내지 않아야 함");
+
+        // 첫 메시지 전송 완료 -> 그동안 쌓인 시세 중 최신 1건만 전송
+        tracker.afterMessageHandled(slowMessages.get(0), null, null, null);
+        waitUntil(() -> slowMessages.size() == 2);
+        Thread.sleep(100);
+        assertEquals(2, slowMessages.size());
+        assertTrue(payload(slowMessages.get(1)).contains("\"price\":" + latest.getPrice()));
+    }
+
+    @Test
+    void slowSubscriberDoesNotHoldBackOthers() throws Exception {
+        service.subscribe("slow", "sub-0", CODE);
+        service.subscribe("fast", "sub-0", CODE);
+
+        for (int i = 0; i < 20; i++) {
+            feed.emit(CODE);
+            Thread.sleep(5);
+        }
+        waitUntil(() -> fastMessages.size() > 1);
+        assertEquals(1, slowMessages.size());
+        assertEquals("sub-0", SimpMessageHeaderAccessor.wrap(fastMessages.get(0)).getSubscriptionId());
+        assertEquals(QuoteStreamService.TOPIC_PREFIX + CODE,
+                SimpMessageHeaderAccessor.wrap(fastMessages.get(0)).getDestination());
+    }
+
+    @Test
+    void lastUnsubscribeReleasesStockFromFeed() {
+        service.subscribe("slow", "sub-0", CODE);
+        service.subscribe("fast", "sub-1", CODE);
+        assertEquals(1, service.getStatus().get("subscribedStocks"));
+
+        service.unsubscribe("fast", "sub-1");
+        assertEquals(1, service.getStatus().get("subscribedStocks"));
+
+        service.disconnect("slow");
+        assertEquals(0, service.getStatus().get("subscribedStocks"));
+
+        // 구독자가 없는 종목의 시세는 전달하지 않음
+        feed.emit(CODE);
+        assertTrue(fastMessages.isEmpty());
+    }
+
+    @Test
+    void stockCodeIsParsedFromTopic() {
+        assertEquals(CODE, QuoteStreamService.stockCodeOf("/topic/quotes/" + CODE));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/trade"));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/quotes/"));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/quotes/" + CODE + "/x"));
+        assertEquals("0088M0", QuoteStreamService.stockCodeOf("/topic/quotes/0088M0"));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/quotes/5930"));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/quotes/0059300"));
+        assertNull(QuoteStreamService.stockCodeOf("/topic/quotes/abc def"));
+    }
+
+    @Test
+    void newStocksBeyondLimitAreNotRegistered() {
+        assertTrue(service.subscribe("fast", "sub-0", CODE));
+        assertTrue(service.subscribe("fast", "sub-1", "000660"));
+        assertFalse(service.admits("035420"));
+        assertFalse(service.subscribe("fast", "sub-2", "035420"));
+
+        // 이미 구독 중인 종목은 한도와 관계없이 추가 구독 가능
+        assertTrue(service.admits(CODE));
+        assertTrue(service.subscribe("slow", "sub-0", CODE));
+        assertEquals(2, service.getStatus().get("subscribedStocks"));
+        assertEquals(1L, service.getStatus().get("rejectedSubscriptions"));
+
+        // 거부된 구독은 해제해도 영향 없음, 한 종목이 빠지면 다시 자리가 생김
+        service.unsubscribe("fast", "sub-2");
+        service.unsubscribe("fast", "sub-1");
+        assertTrue(service.admits("035420"));
+        assertTrue(service.subscribe("fast", "sub-2", "035420"));
+    }
+
+    private static String payload(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "대기 시간 초과");
+    }
+}